@@ -0,0 +1,104 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * This class benchmarks the full <code>verifyUsingPackageName</code> sweep
+ * (class path scan through summary) over the package of generated
+ * <code>SyntheticBO</code> classes. Note that the sweep includes its console
+ * output.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class TuPackageSweepBenchmark {
+
+	private ForkJoinPool forkJoinPool;
+
+	/**
+	 * Benchmark setup.
+	 */
+	@Setup
+	public void setup() {
+
+		this.forkJoinPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Benchmark tear down.
+	 */
+	@TearDown
+	public void tearDown() {
+
+		this.forkJoinPool.shutdown();
+	}
+
+	/**
+	 * @return boolean
+	 */
+	@Benchmark
+	public boolean verifyUsingPackageName() {
+
+		return TestUtil.verifyUsingPackageName(TuVerificationBenchmark.MODEL_PACKAGE);
+	}
+
+	/**
+	 * @return boolean
+	 */
+	@Benchmark
+	public boolean verifyUsingPackageNameInParallel() {
+
+		return TestUtil.verifyUsingPackageName(TuVerificationBenchmark.MODEL_PACKAGE, this.forkJoinPool);
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.gtcgroup.testutil.po.TuMethodSetPO;
+
+/**
+ * <p>
+ * This class benchmarks the stages of the verification pipeline against the
+ * generated <code>SyntheticBO</code> classes (see the
+ * <code>generateJmhModels</code> Gradle task). Run with
+ * <code>gradle jmh</code>.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TuVerificationBenchmark {
+
+	/** The package containing the generated classes. */
+	static final String MODEL_PACKAGE = "com.gtcgroup.testutil.jmh.model";
+
+	/**
+	 * A context prepared for each invocation; only taken by the benchmark
+	 * verifying it, as an invocation level setup distorts short benchmarks.
+	 */
+	@State(Scope.Thread)
+	public static class PreparedContext {
+
+		private TuVerificationContextBO context;
+
+		/**
+		 * Prepares a fresh instance for each invocation; a context accumulates
+		 * the outcomes of its accessor pairs.
+		 *
+		 * @param benchmark
+		 */
+		@Setup(Level.Invocation)
+		public void prepare(final TuVerificationBenchmark benchmark) {
+
+			this.context = new TuVerificationContextBO(TuUtil.instantiateObjectFromClass(benchmark.modelClass));
+			TuCollectingParameterCacheHelper.prepareTestInstance(this.context);
+		}
+	}
+
+	/** The number of accessor pairs per generated class. */
+	@Param({ "10", "50", "100", "500" })
+	private int accessorCount;
+
+	private Class<?> modelClass;
+
+	private Method[] methods;
+
+	private List<Method> setters;
+
+	private Object mutableObject;
+
+	/**
+	 * Benchmark setup.
+	 *
+	 * @throws ClassNotFoundException
+	 */
+	@Setup
+	public void setup() throws ClassNotFoundException {
+
+		this.modelClass = Class.forName(MODEL_PACKAGE + ".SyntheticBO" + this.accessorCount);
+		this.methods = this.modelClass.getMethods();
+		this.setters = new ArrayList<Method>(TuUtil.collectSetters(this.methods).values());
+		this.mutableObject = TuUtil.instantiateObjectFromClass(this.modelClass);
+	}
+
+	/**
+	 * @return Object
+	 */
+	@Benchmark
+	public Object instantiateObjectFromClass() {
+
+		return TuUtil.instantiateObjectFromClass(this.modelClass);
+	}
+
+	/**
+	 * @return HashMap
+	 */
+	@Benchmark
+	public HashMap<String, Method> collectSetters() {
+
+		return TuUtil.collectSetters(this.methods);
+	}
+
+	/**
+	 * @return HashMap
+	 */
+	@Benchmark
+	public HashMap<String, Method> collectGetters() {
+
+		return TuUtil.collectGetters(this.methods);
+	}
+
+	/**
+	 * Initializes (generates parameter values for) every setter.
+	 *
+	 * @param blackhole
+	 */
+	@Benchmark
+	public void initializeSetters(final Blackhole blackhole) {
+
+		for (final Method setter : this.setters) {
+
+			final TuMethodSetPO tuMethodSetPO = new TuMethodSetPO(this.mutableObject, setter, null);
+			tuMethodSetPO.initialize();
+			blackhole.consume(tuMethodSetPO.getParameterValues());
+		}
+	}
+
+	/**
+	 * Invokes the accessor pairs of an already prepared (fresh) instance.
+	 *
+	 * @param prepared
+	 * @return int
+	 */
+	@Benchmark
+	public int invokeSettersAndGetters(final PreparedContext prepared) {
+
+		TuCollectingParameterCacheHelper.invokeSettersAndGetters(prepared.context);
+		return prepared.context.getMethodVerifications();
+	}
+
+	/**
+	 * Prepares and verifies a fresh instance (the per-class work of a sweep).
+	 *
+	 * @return TuVerificationContextBO
+	 */
+	@Benchmark
+	public TuVerificationContextBO prepareAndVerify() {
+
+		final TuVerificationContextBO context = new TuVerificationContextBO(
+				TuUtil.instantiateObjectFromClass(this.modelClass));
+
+		TuCollectingParameterCacheHelper.prepareTestInstance(context);
+		TuCollectingParameterCacheHelper.invokeSettersAndGetters(context);
+		return context;
+	}
+}
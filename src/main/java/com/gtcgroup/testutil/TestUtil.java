@@ -26,13 +26,22 @@
 
 package com.gtcgroup.testutil;
 
+import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
-import com.google.common.reflect.ClassPath;
-import com.gtcgroup.justify.core.exception.internal.JustifyRuntimeException;
-import com.gtcgroup.testutil.exception.TestUtilRuntimeException;
+import com.gtcgroup.testutil.exception.TestUtilCautionException;
+import com.gtcgroup.testutil.exception.TestUtilSkipException;
 import com.gtcgroup.testutil.helper.TuClassCautionUtilHelper;
+import com.gtcgroup.testutil.po.TuResultsPO;
+import com.gtcgroup.testutil.to.TuClassResultTO;
+import com.gtcgroup.testutil.to.TuOutcomeTO;
 
 import junit.framework.AssertionFailedError;
 
@@ -233,16 +242,190 @@ public enum TestUtil {
 
 	INSTANCE;
 
-	private static final boolean verbose = true;
+	/** The system property declaring the summary-only mode. */
+	public static final String SUMMARY_ONLY_PROPERTY = "testutil.summaryOnly";
 
-	private static void processClass(final String classFileName) {
+	/**
+	 * Indicates only the counts (and summary) are reported; the outcome
+	 * messages are then never formatted.
+	 */
+	private static volatile boolean summaryOnly = Boolean.getBoolean(SUMMARY_ONLY_PROPERTY);
+
+	/** The class loader scanned for, and resolving, the classes verified. */
+	private static volatile ClassLoader classLoader = TestUtil.class.getClassLoader();
+
+	/**
+	 * @return Returns the class loader scanned for, and resolving, the classes
+	 *         verified.
+	 * @since v. 6.1
+	 */
+	public static ClassLoader getClassLoader() {
+		return classLoader;
+	}
+
+	/**
+	 * @param loader
+	 *            The class loader scanned for, and resolving, the classes
+	 *            verified by subsequent verifications.
+	 * @since v. 6.1
+	 */
+	public static void setClassLoader(final ClassLoader loader) {
+		classLoader = loader;
+	}
+
+	/**
+	 * @param maximumDepth
+	 *            The maximum nesting of constructor arguments when building a
+	 *            parameter value of a class with argument constructors only.
+	 * @param maximumBreadth
+	 *            The maximum number of objects built per parameter value.
+	 * @since v. 6.1
+	 */
+	public static void setObjectGraphBudgets(final int maximumDepth, final int maximumBreadth) {
+		TuObjectGraphPlanBO.setBudgets(maximumDepth, maximumBreadth);
+	}
+
+	/**
+	 * @return boolean - Indicates only the counts (and summary) are reported.
+	 * @since v. 6.1
+	 */
+	public static boolean isSummaryOnly() {
+		return summaryOnly;
+	}
+
+	/**
+	 * @param summary
+	 *            Indicates subsequent verifications report only their counts
+	 *            (and summary) rather than each class, warning and glitch; the
+	 *            outcome messages are then built only if requested.
+	 * @since v. 6.1
+	 */
+	public static void setSummaryOnly(final boolean summary) {
+		summaryOnly = summary;
+	}
+
+	/** Guards the creation of the default reporter. */
+	private static final Object REPORTER_LOCK = new Object();
+
+	/** The reporter of each verified class or null if not yet created. */
+	private static volatile TuReporter reporter;
+
+	/**
+	 * @return Returns the reporter of each verified class; by default (created
+	 *         upon first use) it reports to the console.
+	 * @since v. 6.1
+	 */
+	public static TuReporter getReporter() {
+
+		TuReporter current = reporter;
+
+		if (null == current) {
+
+			synchronized (REPORTER_LOCK) {
+
+				if (null == reporter) {
+
+					final TuReporter console = new TuReporter(TuTextReportSink.console());
+
+					// Write what remains reported at exit.
+					Runtime.getRuntime().addShutdownHook(new Thread(console::flush, "testutil-reporter-exit"));
+					reporter = console;
+				}
+				current = reporter;
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * @param tuReporter
+	 *            The reporter of each class verified subsequently (for
+	 *            instance with file, JUnit XML or JSON sinks); the caller
+	 *            closes a reporter replaced.
+	 * @since v. 6.1
+	 */
+	public static void setReporter(final TuReporter tuReporter) {
+
+		if (null == tuReporter) {
+			throw new IllegalArgumentException("A reporter is required.");
+		}
+		reporter = tuReporter;
+	}
+
+	/** The store appended with the result of each verified class; or null. */
+	private static volatile TuResultStore resultStore;
+
+	/**
+	 * @return Returns the store appended with the result of each verified
+	 *         class or null.
+	 * @since v. 6.1
+	 */
+	public static TuResultStore getResultStore() {
+		return resultStore;
+	}
+
+	/**
+	 * @param store
+	 *            The store appended with the result of each class verified
+	 *            subsequently; null to stop recording.
+	 * @since v. 6.1
+	 */
+	public static void setResultStore(final TuResultStore store) {
+		resultStore = store;
+	}
+
+	/**
+	 * Runs the static initializer of a class known to be verifiable. The time
+	 * spent (including superclass initializers not yet run) is recorded.
+	 *
+	 * @param theClass
+	 * @param results
+	 */
+	private static void initializeClass(final Class<?> theClass, final TuResultsRegistry results) {
+
+		final long startNanos = System.nanoTime();
+
+		try {
+			Class.forName(theClass.getName(), true, theClass.getClassLoader());
+
+		} catch (final ClassNotFoundException | LinkageError e) {
+
+			// Includes ExceptionInInitializerError.
+			TuClassCautionUtilHelper.throwClassInitializationCaution(theClass, e);
+
+		} finally {
+			results.addStaticInitialization(theClass.getName(), System.nanoTime() - startNanos);
+		}
+	}
+
+	private static TuVerificationContextBO processClass(final String classFileName,
+			final TuResultsRegistry results) {
+
+		// Initialize.
+		final ClassLoader loader = classLoader;
+
+		// Determine if an exclusion is declared.
+		final String exclusion = TuUtil.excludeClassFromVerification(classFileName);
+
+		if (null != exclusion) {
+
+			TuExceptionSkipHandler.throwSkipException(exclusion);
+		}
+
+		// Determine from the class file if loading is unwarranted.
+		final String rejectionReason = TuClassFilePrefilter.rejectionReason(classFileName, loader);
+
+		if (null != rejectionReason) {
+
+			TuExceptionSkipHandler.throwSkipException(rejectionReason);
+		}
 
 		Class<?> theClass = null;
 
 		try {
 
-			// Get the class file name.
-			theClass = Class.forName(classFileName);
+			// Resolve without static initialization.
+			theClass = Class.forName(classFileName, false, loader);
 
 		} catch (final Exception e) {
 
@@ -281,6 +464,9 @@ public enum TestUtil {
 			TuExceptionSkipHandler.throwSkipException("ABSTRACT");
 		}
 
+		// Deferred until the class is known to be verifiable.
+		initializeClass(theClass, results);
+
 		final Object mutableObject = TuUtil.instantiateObjectFromClass(theClass);
 
 		if (mutableObject instanceof java.lang.Error) {
@@ -289,18 +475,21 @@ public enum TestUtil {
 			TuExceptionSkipHandler.throwSkipException(classFileName);
 		}
 
+		// Initialize the per class verification state.
+		final TuVerificationContextBO context = new TuVerificationContextBO(mutableObject);
+
 		// Prepare test objects for verification.
-		TuCollectingParameterCacheHelper.prepareTestInstance(mutableObject);
+		TuCollectingParameterCacheHelper.prepareTestInstance(context);
 
 		// Invoke getters and setters.
-		TuCollectingParameterCacheHelper.invokeSettersAndGetters(mutableObject);
+		TuCollectingParameterCacheHelper.invokeSettersAndGetters(context);
 
-		return;
+		return context;
 	}
 
 	/**
 	 * This overloaded version specifies the number of "cautions" allowed in a
-	 * successful unit test.
+	 * successful unit test. The JVM wide results are summarized.
 	 *
 	 * @throws AssertionFailedError
 	 */
@@ -308,6 +497,54 @@ public enum TestUtil {
 			final int anticipatedWarnings, final int anticipatedGlitches, final int anticipatedCautions)
 			throws AssertionFailedError {
 
+		return summarizeResults(sourceCodePathname, TuResultsRegistry.getGlobal().snapshot(), anticipatedWarnings,
+				anticipatedGlitches, anticipatedCautions);
+	}
+
+	/**
+	 * This overloaded version summarizes the results of a single verification
+	 * run.
+	 *
+	 * @throws AssertionFailedError
+	 * @since v. 6.1
+	 */
+	public static boolean summarizeResults(final String sourceCodePathname, final TuResultsPO tuResultsPO,
+			final int anticipatedWarnings, final int anticipatedGlitches, final int anticipatedCautions)
+			throws AssertionFailedError {
+
+		displayResults(sourceCodePathname, tuResultsPO, anticipatedWarnings, anticipatedGlitches,
+				anticipatedCautions, Long.valueOf(TuValueSource.getRunSeed()));
+
+		// Check for expected return values.
+		// if (!tuResultsPO.isAnticipated(anticipatedWarnings,
+		// anticipatedGlitches, anticipatedCautions)) {
+		//
+		// // Display results to JUnit GUI.
+		// throw new AssertionFailedError(message.toString());
+		// }
+		return true;
+	}
+
+	/**
+	 * This method displays the summary of a verification run.
+	 *
+	 * @param sourceCodePathname
+	 * @param tuResultsPO
+	 * @param anticipatedWarnings
+	 * @param anticipatedGlitches
+	 * @param anticipatedCautions
+	 * @param runSeed
+	 *            The seed the classes were verified with or null if the seeds
+	 *            differ (displayed by shard).
+	 * @return String - The summary displayed.
+	 */
+	private static String displayResults(final String sourceCodePathname, final TuResultsPO tuResultsPO,
+			final int anticipatedWarnings, final int anticipatedGlitches, final int anticipatedCautions,
+			final Long runSeed) {
+
+		// Complete the report of the classes verified.
+		getReporter().flush();
+
 		System.out.println("\n\t********************************************" + "\n\t*           TestUtil Version "
 				+ TuConstants.TEST_UTIL_VERSION + "           *" + "\n\t*        Copyright (c) 1999 - 2017         *"
 				+ "\n\t* Global Technology Consulting Group, Inc. *"
@@ -317,15 +554,6 @@ public enum TestUtil {
 		// Display begin to console.
 		System.out.println("<Begin directory verification of path " + sourceCodePathname + ">");
 
-		// // Instantiate an application service object.
-		// TuVerifyDirectoryCacheHelper tuVerifyDirectoryASO = new
-		// TuVerifyDirectoryCacheHelper(sourceCodePathname, verbose,
-		// classPackageUsingDotNotation, processSubDirectories);
-
-		// // Retrieve the results.
-		// TuResultsPO tuCountersListBO =
-		// tuVerifyDirectoryASO.verifyDirectory();
-
 		// Prepare results.
 		final StringBuffer message = new StringBuffer();
 
@@ -335,15 +563,13 @@ public enum TestUtil {
 				"****************************************************************************************************\n\t");
 
 		// Line 2
+		message.append("* -------> Skips: ");
+		message.append(tuResultsPO.getClassSkips());
+		message.append(" Interfaces, abstract or otherwise non-verifiable classes not attempted.\n\t");
+
+		// Line 3
 		message.append("* -> Anticipated: ");
-		// if (0 > tuCountersListBO.getTotalVerifications() -
-		// (anticipatedWarnings + anticipatedGlitches)) {
-		// // Display zero.
-		// message.append(0);
-		// } else {
-		// message.append(tuCountersListBO.getTotalVerifications() -
-		// (anticipatedWarnings + anticipatedGlitches));
-		// }
+		message.append(tuResultsPO.getAnticipatedVerifications(anticipatedWarnings, anticipatedGlitches));
 		message.append(" Successful Verification(s); ");
 		message.append(anticipatedWarnings);
 		message.append(" Warning(s); ");
@@ -352,41 +578,219 @@ public enum TestUtil {
 		message.append(anticipatedCautions);
 		message.append(" Class Caution(s)\n\t");
 
-		// Line 3
+		// Line 4
 		message.append("* -----> Results: ");
-		message.append(TestUtilRuntimeException.getTotalClassCautions());
+		message.append(tuResultsPO.getMethodVerifications());
 		message.append(" Successful Verification(s); ");
-		// message.append(tuCountersListBO.getTotalWarnings());
+		message.append(tuResultsPO.getTotalWarnings());
 		message.append(" Warning(s); ");
-		// message.append(tuCountersListBO.getTotalGlitches());
+		message.append(tuResultsPO.getTotalGlitches());
 		message.append(" Glitch(es); ");
-		message.append(TestUtilRuntimeException.getTotalClassCautions());
+		message.append(tuResultsPO.getClassCautions());
 		message.append(" Class Caution(s)");
 		message.append("\n\t");
 
-		// Line 4
+		// Line 5
+		if (0 < tuResultsPO.getStaticInitializationNanos()) {
+
+			message.append("* --> Static Init: ");
+			message.append(tuResultsPO.getStaticInitializationNanos() / 1000L);
+			message.append(" us; slowest:");
+
+			for (final Map.Entry<String, Long> entry : tuResultsPO.getSlowestStaticInitializations().entrySet()) {
+				message.append(" ");
+				message.append(entry.getKey());
+				message.append(" (");
+				message.append(entry.getValue().longValue() / 1000L);
+				message.append(" us)");
+			}
+			message.append("\n\t");
+		}
+
+		// Line 6
+		message.append("* ----> Run Seed: ");
+		message.append(null == runSeed ? "(by shard)" : runSeed.toString());
+		message.append(" (Re-verify a class with TestUtil.verifyClass(className, seed) or -D");
+		message.append(TuValueSource.SYSTEM_PROPERTY);
+		message.append("=seed)\n\t");
+
+		// Line 7
 		message.append(
 				"****************************************************************************************************\n\n");
 
 		// Display results to console.
 		System.out.println(message.toString() + "<End directory verification of path " + sourceCodePathname + ">");
 
-		// Initialize results flag.
-		// tuCountersListBO.initializeVerificationResults(anticipatedWarnings,
-		// anticipatedGlitches, anticipatedCautions);
+		return message.toString();
+	}
 
-		// Check for expected return values.
-		// if (!tuCountersListBO.getVerificationResult()) {
-		//
-		// // Display results to JUnit GUI.
-		// throw new AssertionFailedError(message.toString());
-		// }
-		return true;
+	/**
+	 * This method returns the names of all top level classes within a package
+	 * (and its sub-packages).
+	 *
+	 * @param packageName
+	 * @return List - The class names in classpath order.
+	 */
+	private static List<String> collectClassNames(final String packageName) {
+
+		// Only jars changed since indexed are read.
+		return TuClassPathIndex.collectTopLevelClassNames(packageName, classLoader);
+	}
+
+	/**
+	 * This method verifies a single class. The outcome is counted so the
+	 * exception is not propagated.
+	 *
+	 * @param className
+	 * @param results
+	 *            The counters of the verification run.
+	 * @return List - The outcomes of the class.
+	 */
+	static List<TuOutcomeTO> verifyClassQuietly(final String className, final TuResultsRegistry results) {
+
+		return verifyClassResult(className, results).getPairOutcomes();
+	}
+
+	/**
+	 * This method verifies a single class, records it in the result store (if
+	 * any) and reports it.
+	 *
+	 * @param className
+	 * @param results
+	 *            The counters of the verification run.
+	 * @return {@link TuClassResultTO} - The result of the class.
+	 */
+	static TuClassResultTO verifyClassResult(final String className, final TuResultsRegistry results) {
+
+		final long start = System.nanoTime();
+		final List<TuOutcomeTO> outcomes = verifyClassOutcomes(className, results);
+		final long elapsedNanos = System.nanoTime() - start;
+		final long classSeed = TuValueSource.deriveClassSeed(className);
+
+		// Schedule the class by its time in subsequent runs.
+		TuDurationHistory.getGlobal().record(className, elapsedNanos);
+
+		final TuResultStore store = resultStore;
+
+		if (null != store) {
+			store.append(className, classSeed, elapsedNanos, outcomes);
+		}
+
+		final TuClassResultTO result = new TuClassResultTO(null == store ? 0L : store.getRunId(), className,
+				classSeed, elapsedNanos, TuOutcomeTO.countByKind(outcomes), outcomes);
+
+		// Report the class as a whole (formatted by the writer thread).
+		getReporter().report(result);
+		return result;
+	}
+
+	/**
+	 * @param className
+	 * @param results
+	 * @return List - The outcomes of the class.
+	 */
+	private static List<TuOutcomeTO> verifyClassOutcomes(final String className, final TuResultsRegistry results) {
+
+		try {
+			// Verify with the values derived from the class seed.
+			TuValueSource.bindClass(className);
+
+			final TuVerificationContextBO context = processClass(className, results);
+			results.record(context);
+			return context.getOutcomes();
+
+		} catch (final TestUtilSkipException e) {
+			results.addClassSkip();
+			return Collections.singletonList(
+					new TuOutcomeTO(TuOutcomeTO.Kind.CLASS_SKIP, className, null, null, e::getMessage));
+
+		} catch (final TestUtilCautionException e) {
+			results.addClassCaution();
+			return Collections.singletonList(
+					new TuOutcomeTO(TuOutcomeTO.Kind.CLASS_CAUTION, className, null, null, e::getMessage));
+
+		} catch (final Throwable e) {
+			// Ignore
+			return Collections.emptyList();
+
+		} finally {
+			TuValueSource.unbindClass();
+		}
+	}
+
+	/**
+	 * This method verifies a single class and returns its outcomes rather than
+	 * a summary.
+	 *
+	 * @param className
+	 * @return List - The outcomes in order of occurrence.
+	 * @since v. 6.1
+	 */
+	public static List<TuOutcomeTO> collectOutcomes(final String className) {
+
+		return verifyClassQuietly(className, new TuResultsRegistry());
+	}
+
+	/**
+	 * This method verifies all classes in a package and returns their outcomes
+	 * rather than a summary.
+	 *
+	 * @param packageName
+	 * @return List - The outcomes in classpath order.
+	 * @since v. 6.1
+	 */
+	public static List<TuOutcomeTO> collectOutcomesUsingPackageName(final String packageName) {
+
+		// Initialize.
+		final TuResultsRegistry results = new TuResultsRegistry();
+		final List<TuOutcomeTO> outcomes = new ArrayList<TuOutcomeTO>();
+
+		for (final String className : collectClassNames(packageName)) {
+			outcomes.addAll(verifyClassQuietly(className, results));
+		}
+		return outcomes;
+	}
+
+	/**
+	 * This method verifies a single class with the values of the current run
+	 * seed.
+	 *
+	 * @param className
+	 * @return <code>boolean</code> - Indicating if verification resulted in the
+	 *         anticipated number of "warnings", "glitches" and "cautions".
+	 * @throws AssertionFailedError
+	 * @since v. 6.1
+	 */
+	public static boolean verifyClass(final String className) throws AssertionFailedError {
+
+		// Initialize.
+		final TuResultsRegistry results = new TuResultsRegistry();
+
+		verifyClassQuietly(className, results);
+
+		return summarizeResults(className, results.snapshot(), 0, 0, 0);
+	}
+
+	/**
+	 * This method re-verifies a single class with the values of a previous run,
+	 * identified by the run seed displayed in its summary.
+	 *
+	 * @param className
+	 * @param runSeed
+	 * @return <code>boolean</code> - Indicating if verification resulted in the
+	 *         anticipated number of "warnings", "glitches" and "cautions".
+	 * @throws AssertionFailedError
+	 * @since v. 6.1
+	 */
+	public static boolean verifyClass(final String className, final long runSeed) throws AssertionFailedError {
+
+		return TuValueSource.callWithRunSeed(runSeed, () -> Boolean.valueOf(verifyClass(className))).booleanValue();
 	}
 
 	/**
 	 * This method invokes <code>verifyMutable()</code> for all classes in a
-	 * directory.
+	 * directory. If a shard is declared (<code>-Dtestutil.shard=index/count</code>)
+	 * only the classes of the shard are verified.
 	 *
 	 * @param sourceCodePathname
 	 *            A pathname string.
@@ -397,23 +801,261 @@ public enum TestUtil {
 	 */
 	public static boolean verifyUsingPackageName(final String packageName) throws AssertionFailedError {
 
-		ClassPath classpath;
+		// Determine if a shard is declared.
+		final TuShard shard = TuShard.fromSystemProperty();
+
+		if (null != shard) {
+			return verifyUsingPackageName(packageName, shard);
+		}
+
+		// Initialize.
+		final TuResultsRegistry results = new TuResultsRegistry();
+
+		for (final String className : collectClassNames(packageName)) {
+			verifyClassQuietly(className, results);
+		}
+		TuDurationHistory.getGlobal().save();
+
+		return summarizeResults(packageName, results.snapshot(), 0, 0, 0);
+	}
+
+	/**
+	 * This method verifies the classes of a package partitioned to a shard and
+	 * writes their results to the shard directory, for a merge by
+	 * {@link #summarizeShardResults(String, int, int, int)} once every shard
+	 * completes.
+	 *
+	 * @param packageName
+	 * @param shard
+	 * @return <code>boolean</code> - Indicating if verification of the shard
+	 *         resulted in the anticipated number of "warnings", "glitches" and
+	 *         "cautions".
+	 * @throws AssertionFailedError
+	 * @since v. 6.1
+	 */
+	public static boolean verifyUsingPackageName(final String packageName, final TuShard shard)
+			throws AssertionFailedError {
+
+		// Initialize.
+		final TuResultsRegistry results = new TuResultsRegistry();
+		final File directory = TuShard.getDirectory();
+		final List<String> classNames = collectClassNames(packageName);
+		final Map<String, Long> costs = new TuDurationHistory().estimate(classNames, classLoader);
+		final List<String> selected = shard.select(classNames, costs);
+
+		final TuShardResults shardResults = new TuShardResults(shard.getIndex(), shard.getCount(),
+				new HashSet<String>(classNames).size(), TuShardResults.fingerprint(classNames, costs),
+				TuValueSource.getRunSeed());
+
+		for (final String className : selected) {
+			shardResults.add(verifyClassResult(className, results),
+					results.getStaticInitializationNanos().get(className));
+		}
+
+		final File resultFile = shard.getResultFile(directory);
+
 		try {
-			classpath = ClassPath.from(ClassLoader.getSystemClassLoader());
+			shardResults.write(resultFile);
 
-		} catch (final Exception e) {
-			throw new JustifyRuntimeException(e);
+		} catch (final IOException e) {
+			throw new AssertionFailedError(
+					"The shard results [" + resultFile.getAbsolutePath() + "] could not be written [" + e + "].");
+		}
+		getReporter().flush();
+
+		System.out.println("<Shard " + shard + " of path " + packageName + ": " + selected.size() + " of "
+				+ shardResults.getClassCount() + " class(es) verified>");
+
+		return summarizeResults(packageName, results.snapshot(), 0, 0, 0);
+	}
+
+	/**
+	 * This method merges the results of every shard from the (declared) shard
+	 * directory and summarizes them as a single verification of the package.
+	 *
+	 * @param sourceCodePathname
+	 * @param anticipatedWarnings
+	 * @param anticipatedGlitches
+	 * @param anticipatedCautions
+	 * @return <code>boolean</code> - Indicating if verification resulted in the
+	 *         anticipated number of "warnings", "glitches" and "cautions".
+	 * @throws AssertionFailedError
+	 *             If the results of a shard are missing or inconsistent, or
+	 *             the merged results are not those anticipated.
+	 * @since v. 6.1
+	 */
+	public static boolean summarizeShardResults(final String sourceCodePathname, final int anticipatedWarnings,
+			final int anticipatedGlitches, final int anticipatedCautions) throws AssertionFailedError {
+
+		return summarizeShardResults(sourceCodePathname, TuShard.getDirectory(), anticipatedWarnings,
+				anticipatedGlitches, anticipatedCautions);
+	}
+
+	/**
+	 * This overloaded version merges the results of every shard from a
+	 * directory.
+	 *
+	 * @throws AssertionFailedError
+	 *             If the results of a shard are missing or inconsistent, or
+	 *             the merged results are not those anticipated.
+	 * @since v. 6.1
+	 */
+	public static boolean summarizeShardResults(final String sourceCodePathname, final File directory,
+			final int anticipatedWarnings, final int anticipatedGlitches, final int anticipatedCautions)
+			throws AssertionFailedError {
+
+		// Initialize.
+		final TuResultsRegistry results = new TuResultsRegistry();
+		final List<TuShardResults> shards = TuShardResults.readShards(directory);
+		final TuShardResults merged = TuShardResults.merge(shards);
+
+		merged.addTo(results);
+
+		// Record the time of each class to balance the next partition.
+		final TuDurationHistory history = TuDurationHistory.getGlobal();
+
+		for (final Map.Entry<String, Long> entry : merged.getElapsedNanos().entrySet()) {
+			history.record(entry.getKey(), entry.getValue().longValue());
+		}
+		history.save();
+
+		getReporter().flush();
+		boolean sameRunSeed = true;
+
+		for (final TuShardResults shard : shards) {
+
+			sameRunSeed &= shard.getRunSeed() == merged.getRunSeed();
+
+			System.out.println("<Shard " + shard.getIndex() + "/" + shard.getCount() + " of path "
+					+ sourceCodePathname + ": " + shard.getClassNames().size() + " class(es); run seed "
+					+ shard.getRunSeed() + ">");
+		}
+
+		// Summarize with the run seed of the shards (if shared).
+		final TuResultsPO tuResultsPO = results.snapshot();
+		final String message = displayResults(sourceCodePathname, tuResultsPO, anticipatedWarnings,
+				anticipatedGlitches, anticipatedCautions, sameRunSeed ? Long.valueOf(merged.getRunSeed()) : null);
+
+		// Check for the anticipated results of every shard.
+		if (!tuResultsPO.isAnticipated(anticipatedWarnings, anticipatedGlitches, anticipatedCautions)) {
+			throw new AssertionFailedError(message);
 		}
+		return true;
+	}
+
+	/**
+	 * This method verifies the classes of a package that changed since they
+	 * were last verified incrementally. A class whose bytecode (and that of its
+	 * superclasses and interfaces) is unchanged contributes its recorded
+	 * outcome counts without being loaded or verified; the records of removed
+	 * classes are discarded.
+	 *
+	 * @param packageName
+	 * @return <code>boolean</code> - Indicating if verification resulted in the
+	 *         anticipated number of "warnings", "glitches" and "cautions".
+	 * @throws AssertionFailedError
+	 * @since v. 6.1
+	 */
+	public static boolean verifyUsingPackageNameIncrementally(final String packageName)
+			throws AssertionFailedError {
+
+		// Initialize.
+		final TuResultsRegistry results = new TuResultsRegistry();
+		final TuIncrementalStore store = new TuIncrementalStore();
+		int reused = 0;
+		int verified = 0;
+
+		for (final String className : collectClassNames(packageName)) {
+
+			final String digest = TuIncrementalStore.digest(className, classLoader);
+			final long[] recorded = null == digest ? null : store.lookup(className, digest);
+
+			// Determine if the recorded outcome is current.
+			if (null != recorded) {
 
-		for (final ClassPath.ClassInfo classInfo : classpath.getTopLevelClassesRecursive(packageName)) {
-			System.out.println(classInfo.getName());
-			try {
-				processClass(classInfo.getName());
-			} catch (final Throwable e) {
-				// Ignore
+				results.addCounts(recorded[0], recorded[1], recorded[2]);
+				for (int i = 0; i < recorded[3]; i++) {
+					results.addClassCaution();
+				}
+				for (int i = 0; i < recorded[4]; i++) {
+					results.addClassSkip();
+				}
+				reused++;
+
+			} else {
+
+				final List<TuOutcomeTO> outcomes = verifyClassQuietly(className, results);
+				if (null != digest) {
+					store.record(className, digest, outcomes);
+				}
+				verified++;
 			}
 		}
 
-		return summarizeResults(packageName, verbose, 0, 0, 0);
+		store.pruneUnseen(packageName);
+		store.save();
+		TuDurationHistory.getGlobal().save();
+		getReporter().flush();
+
+		System.out.println("<Incremental verification of path " + packageName + ": " + verified
+				+ " class(es) verified; " + reused + " unchanged class(es) reused>");
+
+		return summarizeResults(packageName, results.snapshot(), 0, 0, 0);
+	}
+
+	/**
+	 * This method verifies all classes in a package with the classes spread
+	 * across the workers of the <code>ForkJoinPool</code>, longest first by
+	 * their recorded (or estimated) verification time. The results are the
+	 * same as the serial {@link #verifyUsingPackageName(String)}; only the
+	 * console order of per class output differs.
+	 *
+	 * @param packageName
+	 * @param forkJoinPool
+	 *            The pool executing the verification; it is not shut down.
+	 * @return <code>boolean</code> - Indicating if verification resulted in the
+	 *         anticipated number of "warnings", "glitches" and "cautions".
+	 * @throws AssertionFailedError
+	 * @since v. 6.1
+	 */
+	public static boolean verifyUsingPackageName(final String packageName, final ForkJoinPool forkJoinPool)
+			throws AssertionFailedError {
+
+		// Initialize.
+		final TuResultsRegistry results = new TuResultsRegistry();
+		final List<String> classNames = collectClassNames(packageName);
+
+		if (!classNames.isEmpty()) {
+
+			// Schedule the classes longest first (by history or estimate).
+			final TuDurationHistory history = TuDurationHistory.getGlobal();
+
+			forkJoinPool.invoke(new TuParallelVerificationTask(classNames,
+					history.estimate(classNames, classLoader), forkJoinPool.getParallelism(), results));
+			history.save();
+		}
+
+		return summarizeResults(packageName, results.snapshot(), 0, 0, 0);
+	}
+
+	/**
+	 * This method verifies all classes in a package using one worker per
+	 * available processor.
+	 *
+	 * @param packageName
+	 * @return <code>boolean</code> - Indicating if verification resulted in the
+	 *         anticipated number of "warnings", "glitches" and "cautions".
+	 * @throws AssertionFailedError
+	 * @since v. 6.1
+	 */
+	public static boolean verifyUsingPackageNameInParallel(final String packageName) throws AssertionFailedError {
+
+		final ForkJoinPool forkJoinPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+		try {
+			return verifyUsingPackageName(packageName, forkJoinPool);
+		} finally {
+			forkJoinPool.shutdown();
+		}
 	}
 }
\ No newline at end of file
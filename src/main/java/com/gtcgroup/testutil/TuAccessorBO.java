@@ -0,0 +1,252 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * <p>
+ * This immutable Business Object describes a matched setter/getter candidate
+ * of a class. The candidate is either a verifiable pair or a setter/getter
+ * precluded from verification by multiple occurrences.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+final class TuAccessorBO {
+
+	/**
+	 * Returns a candidate for a setter with multiple occurrences.
+	 *
+	 * @param setterName
+	 * @return TuAccessorBO
+	 */
+	static TuAccessorBO newDuplicateSetter(final String setterName) {
+
+		return new TuAccessorBO(setterName, null, null, null, null, true, false);
+	}
+
+	/**
+	 * Returns a candidate for a getter with multiple occurrences.
+	 *
+	 * @param getterName
+	 * @return TuAccessorBO
+	 */
+	static TuAccessorBO newDuplicateGetter(final String getterName) {
+
+		return new TuAccessorBO(null, getterName, null, null, null, false, true);
+	}
+
+	/**
+	 * Returns a candidate for a matched method pair.
+	 *
+	 * @param setter
+	 * @param getter
+	 * @param verifiableParameterTypes
+	 *            The resolved setter parameter types or null if they must be
+	 *            resolved upon each verification.
+	 * @return TuAccessorBO
+	 */
+	static TuAccessorBO newPair(final Method setter, final Method getter, final Class<?>[] verifiableParameterTypes) {
+
+		return new TuAccessorBO(setter.getName(), getter.getName(), setter, getter, verifiableParameterTypes, false,
+				false);
+	}
+
+	/** The setter name or null. */
+	private final String setterName;
+
+	/** The getter name or null. */
+	private final String getterName;
+
+	/** The setter or null. */
+	private final Method setter;
+
+	/** The getter or null. */
+	private final Method getter;
+
+	/** The resolved setter parameter types or null. */
+	private final Class<?>[] verifiableParameterTypes;
+
+	/** Indicates multiple occurrences of the setter. */
+	private final boolean duplicateSetter;
+
+	/** Indicates multiple occurrences of the getter. */
+	private final boolean duplicateGetter;
+
+	/** Indicates the setter declares at least one parameter. */
+	private final boolean setterParameter;
+
+	/**
+	 * Indicates the first setter parameter type and the getter return type are
+	 * assignable (either way).
+	 */
+	private final boolean typeCompatible;
+
+	/** The setter parameter types with primitives wrapped or null. */
+	private final Class<?>[] setterArgumentTypes;
+
+	/** The getter parameter types with primitives wrapped or null. */
+	private final Class<?>[] getterArgumentTypes;
+
+	/** The (lazily) bound setter or null. */
+	private volatile MethodHandle setterHandle;
+
+	/** The (lazily) bound getter or null. */
+	private volatile MethodHandle getterHandle;
+
+	/**
+	 * Constructor (private)
+	 */
+	private TuAccessorBO(final String setterName, final String getterName, final Method setter, final Method getter,
+			final Class<?>[] verifiableParameterTypes, final boolean duplicateSetter, final boolean duplicateGetter) {
+
+		super();
+
+		this.setterName = setterName;
+		this.getterName = getterName;
+		this.setter = setter;
+		this.getter = getter;
+		this.verifiableParameterTypes = verifiableParameterTypes;
+		this.duplicateSetter = duplicateSetter;
+		this.duplicateGetter = duplicateGetter;
+
+		this.setterArgumentTypes = argumentTypes(setter);
+		this.getterArgumentTypes = argumentTypes(getter);
+
+		// Determine the signature compatibility from the types alone.
+		this.setterParameter = null != setter && 0 < setter.getParameterCount();
+
+		if (this.setterParameter) {
+
+			final Class<?> parameterType = setter.getParameterTypes()[0];
+			this.typeCompatible = parameterType.isAssignableFrom(getter.getReturnType())
+					|| getter.getReturnType().isAssignableFrom(parameterType);
+		} else {
+			this.typeCompatible = false;
+		}
+	}
+
+	/**
+	 * @param method
+	 * @return Class[] - The parameter types with primitives wrapped or null.
+	 */
+	private static Class<?>[] argumentTypes(final Method method) {
+
+		if (null == method) {
+			return null;
+		}
+		return MethodType.methodType(void.class, method.getParameterTypes()).wrap().parameterArray();
+	}
+
+	String getSetterName() {
+		return this.setterName;
+	}
+
+	String getGetterName() {
+		return this.getterName;
+	}
+
+	Method getSetter() {
+		return this.setter;
+	}
+
+	Method getGetter() {
+		return this.getter;
+	}
+
+	Class<?>[] getVerifiableParameterTypes() {
+		return this.verifiableParameterTypes;
+	}
+
+	/**
+	 * @return Returns the bound setter or null if it can not be bound.
+	 */
+	MethodHandle getSetterHandle() {
+
+		MethodHandle handle = this.setterHandle;
+
+		// Bind upon first use; a race merely binds twice.
+		if (null == handle) {
+			handle = TuUtil.bindAccessor(this.setter);
+			this.setterHandle = handle;
+		}
+		return TuUtil.UNBOUND_ACCESSOR == handle ? null : handle;
+	}
+
+	/**
+	 * @return Returns the bound getter or null if it can not be bound.
+	 */
+	MethodHandle getGetterHandle() {
+
+		MethodHandle handle = this.getterHandle;
+
+		// Bind upon first use; a race merely binds twice.
+		if (null == handle) {
+			handle = TuUtil.bindAccessor(this.getter);
+			this.getterHandle = handle;
+		}
+		return TuUtil.UNBOUND_ACCESSOR == handle ? null : handle;
+	}
+
+	/**
+	 * @return Returns the setter parameter types with primitives wrapped.
+	 */
+	Class<?>[] getSetterArgumentTypes() {
+		return this.setterArgumentTypes;
+	}
+
+	/**
+	 * @return Returns the getter parameter types with primitives wrapped.
+	 */
+	Class<?>[] getGetterArgumentTypes() {
+		return this.getterArgumentTypes;
+	}
+
+	boolean isDuplicateSetter() {
+		return this.duplicateSetter;
+	}
+
+	boolean isDuplicateGetter() {
+		return this.duplicateGetter;
+	}
+
+	boolean hasSetterParameter() {
+		return this.setterParameter;
+	}
+
+	boolean isTypeCompatible() {
+		return this.typeCompatible;
+	}
+}
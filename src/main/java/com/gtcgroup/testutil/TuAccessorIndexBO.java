@@ -0,0 +1,213 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.gtcgroup.testutil.exception.TestUtilWarningException;
+
+/**
+ * <p>
+ * This immutable Business Object indexes the accessor candidates of a class.
+ * The index is computed once per <code>Class</code> and retained with a
+ * <code>ClassValue</code>; a subclass declaring no accessors of its own shares
+ * the index of its superclass.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+final class TuAccessorIndexBO {
+
+	/** The index per class. */
+	private static final ClassValue<TuAccessorIndexBO> INDEX = new ClassValue<TuAccessorIndexBO>() {
+
+		@Override
+		protected TuAccessorIndexBO computeValue(final Class<?> theClass) {
+
+			// Determine if the superclass index is sufficient.
+			if (inheritsAllAccessors(theClass)) {
+				return INDEX.get(theClass.getSuperclass());
+			}
+			return new TuAccessorIndexBO(theClass);
+		}
+	};
+
+	/**
+	 * Returns the (cached) index of a class.
+	 *
+	 * @param theClass
+	 * @return TuAccessorIndexBO
+	 */
+	static TuAccessorIndexBO forClass(final Class<?> theClass) {
+
+		return INDEX.get(theClass);
+	}
+
+	/**
+	 * Indicates the public methods of a class are those of its superclass with
+	 * respect to accessors.
+	 *
+	 * @param theClass
+	 * @return boolean
+	 */
+	static boolean inheritsAllAccessors(final Class<?> theClass) {
+
+		final Class<?> superclass = theClass.getSuperclass();
+
+		// Determine if there is a superclass worth sharing.
+		if (null == superclass || Object.class == superclass || 0 < theClass.getInterfaces().length) {
+			return false;
+		}
+
+		for (final Method method : theClass.getDeclaredMethods()) {
+
+			if (Modifier.isPublic(method.getModifiers()) && isAccessorName(method.getName())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param methodName
+	 * @return boolean - Indicating the method name is a setter or getter name.
+	 */
+	private static boolean isAccessorName(final String methodName) {
+
+		return methodName.startsWith("set") || methodName.startsWith("get") || methodName.startsWith("is");
+	}
+
+	/** The accessor candidates. */
+	private final List<TuAccessorBO> tuAccessorBOs;
+
+	/**
+	 * Constructor (private)
+	 *
+	 * @param theClass
+	 */
+	private TuAccessorIndexBO(final Class<?> theClass) {
+
+		super();
+
+		// Get all the methods.
+		final Method[] arrOfMethods = theClass.getMethods();
+
+		// Collect the "setters".
+		final HashMap<String, Method> setterMap = TuUtil.collectSetters(arrOfMethods);
+
+		// Collect the "getters".
+		final HashMap<String, Method> getterMap = TuUtil.collectGetters(arrOfMethods);
+
+		// Initialize.
+		final List<TuAccessorBO> accessors = new ArrayList<TuAccessorBO>(setterMap.size());
+
+		for (final Map.Entry<String, Method> setterEntry : setterMap.entrySet()) {
+
+			String setterName = setterEntry.getKey();
+
+			// Determine if duplication precludes verification.
+			if (setterName.startsWith(TuConstants.DUPLICATE_METHOD_KEY)) {
+
+				accessors.add(TuAccessorBO.newDuplicateSetter(setterName.substring(3)));
+				continue;
+			}
+
+			// Obtain the getter name.
+			String getterName = "g" + setterName.substring(1);
+
+			// Determine if duplication precludes verification.
+			if (getterMap.containsKey(TuConstants.DUPLICATE_METHOD_KEY + getterName)) {
+
+				accessors.add(TuAccessorBO.newDuplicateGetter(getterName));
+				continue;
+			}
+
+			// Determine if corresponding getter exists.
+			if (!getterMap.containsKey(getterName)) {
+
+				// Obtain the "is" method name.
+				getterName = "is" + setterName.substring(3);
+			}
+
+			// Determine if corresponding getter exists.
+			final Method getter = getterMap.get(getterName);
+
+			if (null != getter) {
+
+				final Method setter = setterEntry.getValue();
+
+				accessors.add(TuAccessorBO.newPair(setter, getter, resolveVerifiableParameterTypes(setter, getter)));
+			}
+		}
+
+		this.tuAccessorBOs = Collections.unmodifiableList(accessors);
+	}
+
+	/**
+	 * Returns the setter parameter types used for verification or null when
+	 * the resolution issues a warning (and therefore must be repeated upon each
+	 * verification).
+	 *
+	 * @param setter
+	 * @param getter
+	 * @return Class<?>[]
+	 */
+	private static Class<?>[] resolveVerifiableParameterTypes(final Method setter, final Method getter) {
+
+		final Class<?>[] originalParameterTypes = setter.getParameterTypes();
+		final Class<?>[] verifiableParameterTypes = new Class<?>[originalParameterTypes.length];
+
+		try {
+			for (int i = 0; i < originalParameterTypes.length; i++) {
+
+				verifiableParameterTypes[i] = TuUtil.checkForSubstituteSetterType(originalParameterTypes[i],
+						getter.getReturnType(), setter, null);
+			}
+		} catch (final TestUtilWarningException e) {
+			return null;
+		}
+		return verifiableParameterTypes;
+	}
+
+	/**
+	 * @return Returns the accessor candidates.
+	 */
+	List<TuAccessorBO> getTuAccessorBOs() {
+		return this.tuAccessorBOs;
+	}
+}
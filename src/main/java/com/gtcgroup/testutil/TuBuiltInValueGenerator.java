@@ -0,0 +1,233 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Random;
+import java.util.UUID;
+
+import com.gtcgroup.testutil.mock.EnumMock;
+
+/**
+ * <p>
+ * This enum contains the built-in parameter value generators, consulted after
+ * those registered or discovered. Dates and times are drawn from the years
+ * 1970 through 2099 at second precision.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+enum TuBuiltInValueGenerator implements TuValueGenerator {
+
+	/** Primitives (boxed). */
+	PRIMITIVE(null) {
+		@Override
+		public boolean supports(final Class<?> type) {
+			return type.isPrimitive();
+		}
+
+		@Override
+		public Object generate(final Class<?> type, final Random random) {
+			return TuPrimitiveValueGenerator.generate(type, random);
+		}
+	},
+
+	/** java.lang.String */
+	STRING(String.class) {
+		@Override
+		public Object generate(final Class<?> type, final Random random) {
+			return "S" + random.nextInt();
+		}
+	},
+
+	/** java.lang.Enum (mocked). */
+	ENUM_MOCK(Enum.class) {
+		@Override
+		public Object generate(final Class<?> type, final Random random) {
+			return EnumMock.RANDOM;
+		}
+	},
+
+	/** Arrays (empty). */
+	EMPTY_ARRAY(null) {
+		@Override
+		public boolean supports(final Class<?> type) {
+			return type.isArray();
+		}
+
+		@Override
+		public Object generate(final Class<?> type, final Random random) {
+			return Array.newInstance(type.getComponentType(), 0);
+		}
+	},
+
+	/** Interfaces (dynamic proxy). */
+	PROXY(null) {
+		@Override
+		public boolean supports(final Class<?> type) {
+			return type.isInterface();
+		}
+
+		@Override
+		public Object generate(final Class<?> type, final Random random) {
+			return TuDynamicProxy.newInstance(type);
+		}
+	},
+
+	/** java.math.BigDecimal */
+	BIG_DECIMAL(BigDecimal.class) {
+		@Override
+		public Object generate(final Class<?> type, final Random random) {
+			return BigDecimal.valueOf(random.nextLong(), 4);
+		}
+	},
+
+	/** java.math.BigInteger */
+	BIG_INTEGER(BigInteger.class) {
+		@Override
+		public Object generate(final Class<?> type, final Random random) {
+			return BigInteger.valueOf(random.nextLong());
+		}
+	},
+
+	/** java.util.UUID */
+	UUID_VALUE(UUID.class) {
+		@Override
+		public Object generate(final Class<?> type, final Random random) {
+			return new UUID(random.nextLong(), random.nextLong());
+		}
+	},
+
+	/** java.time.Instant */
+	INSTANT(Instant.class) {
+		@Override
+		public Object generate(final Class<?> type, final Random random) {
+			return randomInstant(random);
+		}
+	},
+
+	/** java.time.LocalDate */
+	LOCAL_DATE(LocalDate.class) {
+		@Override
+		public Object generate(final Class<?> type, final Random random) {
+			return randomLocalDateTime(random).toLocalDate();
+		}
+	},
+
+	/** java.time.LocalTime */
+	LOCAL_TIME(LocalTime.class) {
+		@Override
+		public Object generate(final Class<?> type, final Random random) {
+			return randomLocalDateTime(random).toLocalTime();
+		}
+	},
+
+	/** java.time.LocalDateTime */
+	LOCAL_DATE_TIME(LocalDateTime.class) {
+		@Override
+		public Object generate(final Class<?> type, final Random random) {
+			return randomLocalDateTime(random);
+		}
+	},
+
+	/** java.time.OffsetDateTime (UTC) */
+	OFFSET_DATE_TIME(OffsetDateTime.class) {
+		@Override
+		public Object generate(final Class<?> type, final Random random) {
+			return randomInstant(random).atOffset(ZoneOffset.UTC);
+		}
+	},
+
+	/** java.time.ZonedDateTime (UTC) */
+	ZONED_DATE_TIME(ZonedDateTime.class) {
+		@Override
+		public Object generate(final Class<?> type, final Random random) {
+			return randomInstant(random).atZone(ZoneOffset.UTC);
+		}
+	},
+
+	/** java.time.Duration */
+	DURATION(Duration.class) {
+		@Override
+		public Object generate(final Class<?> type, final Random random) {
+			return Duration.ofSeconds(random.nextInt(Integer.MAX_VALUE));
+		}
+	};
+
+	/** The seconds from 1970 to 2100. */
+	private static final long EPOCH_SECONDS_RANGE = 4102444800L;
+
+	/** The type generated or null if decided by <code>supports()</code>. */
+	private final Class<?> type;
+
+	/**
+	 * Constructor
+	 *
+	 * @param type
+	 */
+	private TuBuiltInValueGenerator(final Class<?> type) {
+		this.type = type;
+	}
+
+	@Override
+	public boolean supports(final Class<?> candidate) {
+		return this.type == candidate;
+	}
+
+	/**
+	 * @param random
+	 * @return Instant
+	 */
+	static Instant randomInstant(final Random random) {
+
+		return Instant.ofEpochSecond((random.nextLong() >>> 1) % EPOCH_SECONDS_RANGE);
+	}
+
+	/**
+	 * @param random
+	 * @return LocalDateTime
+	 */
+	static LocalDateTime randomLocalDateTime(final Random random) {
+
+		return LocalDateTime.ofInstant(randomInstant(random), ZoneOffset.UTC);
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>
+ * This class is the base of a sink writing UTF-8 text through a buffer to a
+ * <code>WritableByteChannel</code>; the channel is only written when the
+ * buffer fills or the sink is flushed.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+public abstract class TuChannelReportSink implements TuReportSink {
+
+	/** Attribute. */
+	static final int BUFFER_CAPACITY = 64 * 1024;
+
+	/** Attribute. */
+	private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_CAPACITY);
+
+	/** Attribute. */
+	private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+			.onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+	/**
+	 * @return WritableByteChannel - The channel the buffer is written to.
+	 * @throws IOException
+	 */
+	protected abstract WritableByteChannel getChannel() throws IOException;
+
+	/**
+	 * Appends text to the buffer (writing the buffer as it fills).
+	 *
+	 * @param text
+	 * @throws IOException
+	 */
+	protected final void write(final CharSequence text) throws IOException {
+
+		final CharBuffer chars = CharBuffer.wrap(text);
+
+		// Write the buffer as it fills.
+		while (this.encoder.encode(chars, this.buffer, true).isOverflow()) {
+			this.drain();
+		}
+		this.encoder.reset();
+	}
+
+	/**
+	 * @see com.gtcgroup.testutil.TuReportSink#flush()
+	 */
+	@Override
+	public void flush() throws IOException {
+		this.drain();
+	}
+
+	/**
+	 * Flushes the buffer and closes the channel.
+	 *
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+
+		this.drain();
+		this.getChannel().close();
+	}
+
+	/**
+	 * Writes the buffer to the channel.
+	 *
+	 * @throws IOException
+	 */
+	private void drain() throws IOException {
+
+		if (0 == this.buffer.position()) {
+			return;
+		}
+
+		final WritableByteChannel channel = this.getChannel();
+
+		this.buffer.flip();
+		while (this.buffer.hasRemaining()) {
+			channel.write(this.buffer);
+		}
+		this.buffer.clear();
+	}
+
+	/**
+	 * @param file
+	 * @return FileChannel - The file (and its directory) created or truncated.
+	 * @throws IOException
+	 */
+	static FileChannel openFile(final File file) throws IOException {
+
+		final File directory = file.getAbsoluteFile().getParentFile();
+
+		if (null != directory) {
+			directory.mkdirs();
+		}
+		return FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+	}
+}
@@ -0,0 +1,422 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>
+ * This enum prefilters classes from their class file bytes (access flags,
+ * <code>InnerClasses</code> attribute and public methods) so non-verifiable
+ * classes are rejected without being loaded or statically initialized. A
+ * class file that can not be read or parsed is not rejected; the loaded class
+ * is then examined as before.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+enum TuClassFilePrefilter {
+
+	INSTANCE;
+
+	/** Attribute. */
+	private static final int MAGIC = 0xCAFEBABE;
+
+	/** Attribute. */
+	private static final int ACC_SYNTHETIC = 0x1000;
+
+	/** Attribute. */
+	private static final String OBJECT_INTERNAL_NAME = "java/lang/Object";
+
+	/**
+	 * Returns the reason a class is not verifiable or null if it may be (or
+	 * the class file could not be examined).
+	 *
+	 * @param className
+	 * @param classLoader
+	 *            The class loader providing the class file resource.
+	 * @return String - The skip reason or null.
+	 */
+	static String rejectionReason(final String className, final ClassLoader classLoader) {
+
+		final TuClassFileInfo info = read(className.replace('.', '/'), classLoader);
+
+		// Determine if the class file is unavailable.
+		if (null == info) {
+			return null;
+		}
+		return rejectionReason(info, classLoader);
+	}
+
+	/**
+	 * @param info
+	 *            The parsed class file.
+	 * @param classLoader
+	 *            The class loader providing the class file resources of the
+	 *            supertypes.
+	 * @return String - The skip reason or null.
+	 */
+	static String rejectionReason(final TuClassFileInfo info, final ClassLoader classLoader) {
+
+		if (0 != (info.accessFlags & ACC_SYNTHETIC)) {
+			return "SYNTHETIC";
+		}
+
+		if (info.localClass) {
+			return "LOCAL";
+		}
+
+		if (info.memberClass) {
+			return "MEMBER";
+		}
+
+		if (Modifier.isInterface(info.accessFlags)) {
+			return "INTERFACE";
+		}
+
+		if (Modifier.isAbstract(info.accessFlags)) {
+			return "ABSTRACT";
+		}
+
+		if (!hasPublicSetter(info, classLoader, new HashSet<String>())) {
+			return "NO SETTERS";
+		}
+		return null;
+	}
+
+	/**
+	 * Determines if a type, its superclasses or interfaces declare a public
+	 * method beginning with "set". An unreadable type is presumed to.
+	 *
+	 * @param info
+	 * @param classLoader
+	 * @param visited
+	 * @return boolean
+	 */
+	private static boolean hasPublicSetter(final TuClassFileInfo info, final ClassLoader classLoader,
+			final Set<String> visited) {
+
+		if (info.publicSetter) {
+			return true;
+		}
+
+		if (null != info.superName && hasPublicSetter(info.superName, classLoader, visited)) {
+			return true;
+		}
+
+		for (final String interfaceName : info.interfaceNames) {
+
+			if (hasPublicSetter(interfaceName, classLoader, visited)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param internalName
+	 * @param classLoader
+	 * @param visited
+	 * @return boolean
+	 */
+	private static boolean hasPublicSetter(final String internalName, final ClassLoader classLoader,
+			final Set<String> visited) {
+
+		if (OBJECT_INTERNAL_NAME.equals(internalName) || !visited.add(internalName)) {
+			return false;
+		}
+
+		final TuClassFileInfo info = read(internalName, classLoader);
+
+		if (null == info) {
+			return true;
+		}
+		return hasPublicSetter(info, classLoader, visited);
+	}
+
+	/**
+	 * @param internalName
+	 * @param classLoader
+	 * @return TuClassFileInfo - The parsed class file or null.
+	 */
+	static TuClassFileInfo read(final String internalName, final ClassLoader classLoader) {
+
+		final byte[] classFile = readBytes(internalName, classLoader);
+
+		if (null == classFile) {
+			return null;
+		}
+		return parse(classFile);
+	}
+
+	/**
+	 * @param classFile
+	 *            The class file bytes.
+	 * @return TuClassFileInfo - The parsed class file or null.
+	 */
+	static TuClassFileInfo parse(final byte[] classFile) {
+
+		try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(classFile))) {
+
+			return parse(input);
+
+		} catch (final IOException | RuntimeException e) {
+
+			// Not examinable; defer to the loaded class.
+			return null;
+		}
+	}
+
+	/**
+	 * @param internalName
+	 * @param classLoader
+	 * @return byte[] - The class file bytes or null if unavailable.
+	 */
+	static byte[] readBytes(final String internalName, final ClassLoader classLoader) {
+
+		final InputStream stream = null == classLoader
+				? ClassLoader.getSystemResourceAsStream(internalName + ".class")
+				: classLoader.getResourceAsStream(internalName + ".class");
+
+		if (null == stream) {
+			return null;
+		}
+
+		try (InputStream input = stream) {
+
+			final ByteArrayOutputStream output = new ByteArrayOutputStream();
+			final byte[] buffer = new byte[8192];
+
+			for (int count = input.read(buffer); -1 != count; count = input.read(buffer)) {
+				output.write(buffer, 0, count);
+			}
+			return output.toByteArray();
+
+		} catch (final IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Parses the portions of a class file (JVMS chapter 4) required for
+	 * prefiltering.
+	 *
+	 * @param input
+	 * @return TuClassFileInfo
+	 * @throws IOException
+	 */
+	private static TuClassFileInfo parse(final DataInputStream input) throws IOException {
+
+		if (MAGIC != input.readInt()) {
+			throw new IOException("Not a class file.");
+		}
+
+		// Minor and major version.
+		input.readUnsignedShort();
+		input.readUnsignedShort();
+
+		// Constant pool: the UTF8 entries and class name indexes are retained.
+		final int constantPoolCount = input.readUnsignedShort();
+		final String[] utf8 = new String[constantPoolCount];
+		final int[] classNameIndex = new int[constantPoolCount];
+
+		for (int i = 1; i < constantPoolCount; i++) {
+
+			final int tag = input.readUnsignedByte();
+
+			switch (tag) {
+
+			case 1: // Utf8
+				utf8[i] = input.readUTF();
+				break;
+
+			case 7: // Class
+				classNameIndex[i] = input.readUnsignedShort();
+				break;
+
+			case 8: // String
+			case 16: // MethodType
+			case 19: // Module
+			case 20: // Package
+				input.skipBytes(2);
+				break;
+
+			case 15: // MethodHandle
+				input.skipBytes(3);
+				break;
+
+			case 3: // Integer
+			case 4: // Float
+			case 9: // Fieldref
+			case 10: // Methodref
+			case 11: // InterfaceMethodref
+			case 12: // NameAndType
+			case 17: // Dynamic
+			case 18: // InvokeDynamic
+				input.skipBytes(4);
+				break;
+
+			case 5: // Long
+			case 6: // Double
+				input.skipBytes(8);
+				i++;
+				break;
+
+			default:
+				throw new IOException("Unknown constant pool tag " + tag + ".");
+			}
+		}
+
+		final TuClassFileInfo info = new TuClassFileInfo();
+		info.accessFlags = input.readUnsignedShort();
+
+		final int thisClass = input.readUnsignedShort();
+		final int superClass = input.readUnsignedShort();
+		info.superName = 0 == superClass ? null : utf8[classNameIndex[superClass]];
+
+		info.interfaceNames = new String[input.readUnsignedShort()];
+		for (int i = 0; i < info.interfaceNames.length; i++) {
+			info.interfaceNames[i] = utf8[classNameIndex[input.readUnsignedShort()]];
+		}
+
+		// Fields.
+		final int fieldCount = input.readUnsignedShort();
+		for (int i = 0; i < fieldCount; i++) {
+			input.skipBytes(6);
+			skipAttributes(input);
+		}
+
+		// Methods.
+		final int methodCount = input.readUnsignedShort();
+		for (int i = 0; i < methodCount; i++) {
+
+			final int methodAccessFlags = input.readUnsignedShort();
+			final String methodName = utf8[input.readUnsignedShort()];
+			final String descriptor = utf8[input.readUnsignedShort()];
+			skipAttributes(input);
+
+			if (Modifier.isPublic(methodAccessFlags) && methodName.startsWith("set")) {
+				info.publicSetter = true;
+				info.publicSetterDescriptors.add(descriptor);
+			}
+		}
+
+		// Class attributes: InnerClasses identifies member and local classes.
+		final int attributeCount = input.readUnsignedShort();
+		for (int i = 0; i < attributeCount; i++) {
+
+			final String attributeName = utf8[input.readUnsignedShort()];
+			final int length = input.readInt();
+
+			if (!"InnerClasses".equals(attributeName)) {
+				skipFully(input, length);
+				continue;
+			}
+
+			final int classCount = input.readUnsignedShort();
+			for (int j = 0; j < classCount; j++) {
+
+				final int innerClass = input.readUnsignedShort();
+				final int outerClass = input.readUnsignedShort();
+				final int innerName = input.readUnsignedShort();
+				input.skipBytes(2);
+
+				if (innerClass == thisClass) {
+					info.memberClass = 0 != outerClass;
+					info.localClass = 0 == outerClass && 0 != innerName;
+				}
+			}
+		}
+		return info;
+	}
+
+	/**
+	 * @param input
+	 * @throws IOException
+	 */
+	private static void skipAttributes(final DataInputStream input) throws IOException {
+
+		final int attributeCount = input.readUnsignedShort();
+		for (int i = 0; i < attributeCount; i++) {
+			input.skipBytes(2);
+			skipFully(input, input.readInt());
+		}
+	}
+
+	/**
+	 * @param input
+	 * @param length
+	 * @throws IOException
+	 */
+	private static void skipFully(final DataInputStream input, final int length) throws IOException {
+
+		if (input.skipBytes(length) != length) {
+			throw new IOException("Truncated class file.");
+		}
+	}
+
+	/**
+	 * The class file properties examined by the prefilter.
+	 */
+	static final class TuClassFileInfo {
+
+		/** Attribute. */
+		int accessFlags;
+
+		/** Attribute; null for <code>java.lang.Object</code>. */
+		String superName;
+
+		/** Attribute. */
+		String[] interfaceNames;
+
+		/** Attribute. */
+		boolean publicSetter;
+
+		/** The descriptors of the public methods beginning with "set". */
+		final List<String> publicSetterDescriptors = new ArrayList<String>();
+
+		/** Attribute. */
+		boolean memberClass;
+
+		/** Attribute. */
+		boolean localClass;
+	}
+}
@@ -0,0 +1,514 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+
+/**
+ * <p>
+ * This enum collects the top level class names of a package from a class
+ * loader's class path. The class names of each jar are indexed by the jar
+ * path, size and modification time; the index is retained for the JVM and
+ * persisted (default <code>build/testutil/classpath-index.txt</code>) so a
+ * jar is only read again once changed; a jar no longer on the scanned class
+ * path is evicted. Directories are not indexed; only the
+ * package sub-directory is listed.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+enum TuClassPathIndex {
+
+	INSTANCE;
+
+	/** The system property declaring the index directory. */
+	static final String DIRECTORY_PROPERTY = "testutil.index.dir";
+
+	/** Attribute. */
+	private static final String DEFAULT_DIRECTORY = "build/testutil";
+
+	/** Attribute. */
+	private static final String INDEX_FILE_NAME = "classpath-index.txt";
+
+	/** Attribute. */
+	private static final String FORMAT_HEADER = "# TestUtil class path index v1";
+
+	/** Attribute. */
+	private static final String CLASS_SUFFIX = ".class";
+
+	/** The indexed jars by absolute path. */
+	private static final ConcurrentMap<String, TuJarRecord> JARS = new ConcurrentHashMap<String, TuJarRecord>();
+
+	/** The index files already read. */
+	private static final Set<File> LOADED_INDEX_FILES = Collections
+			.newSetFromMap(new ConcurrentHashMap<File, Boolean>());
+
+	/**
+	 * @return File - The (declared) persistent index file.
+	 */
+	static File getIndexFile() {
+
+		return new File(System.getProperty(DIRECTORY_PROPERTY, DEFAULT_DIRECTORY), INDEX_FILE_NAME);
+	}
+
+	/**
+	 * Returns the names of all top level classes within a package (and its
+	 * sub-packages).
+	 *
+	 * @param packageName
+	 * @param classLoader
+	 * @return List - The class names in class path order.
+	 */
+	static List<String> collectTopLevelClassNames(final String packageName, final ClassLoader classLoader) {
+
+		// Initialize.
+		final File indexFile = getIndexFile();
+		loadIndex(indexFile);
+
+		final Set<String> classNames = new LinkedHashSet<String>();
+		final Set<String> visited = new HashSet<String>();
+		boolean changed = false;
+
+		for (final File entry : classPathEntries(classLoader)) {
+			changed |= scanEntry(entry, packageName, classNames, visited);
+		}
+
+		// Evict the jars that left the class path.
+		changed |= JARS.keySet().retainAll(visited);
+
+		if (changed) {
+			saveIndex(indexFile);
+		}
+		return new ArrayList<String>(classNames);
+	}
+
+	/**
+	 * Returns the class path entries of a class loader and its parents (parents
+	 * first).
+	 *
+	 * @param classLoader
+	 * @return Set
+	 */
+	private static Set<File> classPathEntries(final ClassLoader classLoader) {
+
+		final Deque<ClassLoader> loaders = new ArrayDeque<ClassLoader>();
+		for (ClassLoader loader = classLoader; null != loader; loader = loader.getParent()) {
+			loaders.push(loader);
+		}
+
+		final Set<File> entries = new LinkedHashSet<File>();
+
+		for (final ClassLoader loader : loaders) {
+
+			if (loader instanceof URLClassLoader) {
+
+				for (final URL url : ((URLClassLoader) loader).getURLs()) {
+					addFileEntry(url, entries);
+				}
+			}
+
+			// The application class loader need not be a URLClassLoader.
+			if (loader == ClassLoader.getSystemClassLoader()) {
+
+				for (final String path : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+					if (!path.isEmpty()) {
+						entries.add(new File(path).getAbsoluteFile());
+					}
+				}
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * @param url
+	 * @param entries
+	 */
+	private static void addFileEntry(final URL url, final Set<File> entries) {
+
+		if ("file".equals(url.getProtocol())) {
+
+			try {
+				entries.add(new File(url.toURI()).getAbsoluteFile());
+
+			} catch (final URISyntaxException | IllegalArgumentException e) {
+				entries.add(new File(url.getPath()).getAbsoluteFile());
+			}
+		}
+	}
+
+	/**
+	 * Adds the package classes of a class path entry (and of the manifest class
+	 * path of a jar).
+	 *
+	 * @param entry
+	 * @param packageName
+	 * @param classNames
+	 * @param visited
+	 * @return boolean - Indicating if the index changed.
+	 */
+	private static boolean scanEntry(final File entry, final String packageName, final Set<String> classNames,
+			final Set<String> visited) {
+
+		if (!visited.add(entry.getAbsolutePath())) {
+			return false;
+		}
+
+		if (entry.isDirectory()) {
+
+			scanDirectory(entry, packageName, classNames);
+			return false;
+		}
+
+		if (!entry.isFile()) {
+			return false;
+		}
+
+		// Retrieve the indexed jar or index it.
+		TuJarRecord record = JARS.get(entry.getAbsolutePath());
+		boolean changed = false;
+
+		if (null == record || !record.isCurrent(entry)) {
+
+			record = indexJar(entry);
+			JARS.put(entry.getAbsolutePath(), record);
+			changed = true;
+		}
+
+		final String prefix = packageName + ".";
+
+		for (final String className : record.classNames) {
+			if (className.startsWith(prefix)) {
+				classNames.add(className);
+			}
+		}
+
+		for (final String classPathEntry : record.manifestClassPath) {
+			changed |= scanEntry(new File(classPathEntry), packageName, classNames, visited);
+		}
+		return changed;
+	}
+
+	/**
+	 * Lists the package sub-directory of a class path directory.
+	 *
+	 * @param directory
+	 * @param packageName
+	 * @param classNames
+	 */
+	private static void scanDirectory(final File directory, final String packageName, final Set<String> classNames) {
+
+		final File packageDirectory = new File(directory, packageName.replace('.', File.separatorChar));
+		final List<String> found = new ArrayList<String>();
+
+		collectDirectory(packageDirectory, packageName, found);
+
+		Collections.sort(found);
+		classNames.addAll(found);
+	}
+
+	/**
+	 * @param directory
+	 * @param packageName
+	 * @param found
+	 */
+	private static void collectDirectory(final File directory, final String packageName, final List<String> found) {
+
+		final File[] files = directory.listFiles();
+
+		if (null == files) {
+			return;
+		}
+
+		for (final File file : files) {
+
+			if (file.isDirectory()) {
+
+				collectDirectory(file, packageName + "." + file.getName(), found);
+
+			} else if (isTopLevelClassFile(file.getName())) {
+
+				found.add(packageName + "."
+						+ file.getName().substring(0, file.getName().length() - CLASS_SUFFIX.length()));
+			}
+		}
+	}
+
+	/**
+	 * @param fileName
+	 *            The simple file name.
+	 * @return boolean
+	 */
+	private static boolean isTopLevelClassFile(final String fileName) {
+
+		return fileName.endsWith(CLASS_SUFFIX) && -1 == fileName.indexOf('$')
+				&& !fileName.startsWith("package-info") && !fileName.startsWith("module-info");
+	}
+
+	/**
+	 * Reads the top level class names and manifest class path of a jar.
+	 *
+	 * @param jar
+	 * @return TuJarRecord - An empty record if the jar can not be read.
+	 */
+	private static TuJarRecord indexJar(final File jar) {
+
+		final List<String> classNames = new ArrayList<String>();
+		final List<String> manifestClassPath = new ArrayList<String>();
+
+		try (JarFile jarFile = new JarFile(jar)) {
+
+			final Enumeration<JarEntry> jarEntries = jarFile.entries();
+
+			while (jarEntries.hasMoreElements()) {
+
+				final String name = jarEntries.nextElement().getName();
+				final String simpleName = name.substring(name.lastIndexOf('/') + 1);
+
+				if (isTopLevelClassFile(simpleName)) {
+					classNames.add(name.substring(0, name.length() - CLASS_SUFFIX.length()).replace('/', '.'));
+				}
+			}
+
+			final Manifest manifest = jarFile.getManifest();
+
+			if (null != manifest && null != manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH)) {
+
+				for (final String path : manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH)
+						.split(" ")) {
+
+					if (!path.isEmpty()) {
+						addManifestEntry(jar, path, manifestClassPath);
+					}
+				}
+			}
+
+		} catch (final IOException e) {
+			// Not a readable jar; indexed as empty.
+		}
+
+		Collections.sort(classNames);
+		return new TuJarRecord(jar.length(), jar.lastModified(), classNames, manifestClassPath);
+	}
+
+	/**
+	 * @param jar
+	 * @param path
+	 *            A manifest class path entry (a URL relative to the jar).
+	 * @param manifestClassPath
+	 */
+	private static void addManifestEntry(final File jar, final String path, final List<String> manifestClassPath) {
+
+		try {
+			final URL url = new URL(jar.toURI().toURL(), path);
+			final Set<File> resolved = new LinkedHashSet<File>();
+			addFileEntry(url, resolved);
+
+			for (final File file : resolved) {
+				manifestClassPath.add(file.getAbsolutePath());
+			}
+
+		} catch (final IOException e) {
+			// Ignore a malformed entry.
+		}
+	}
+
+	/**
+	 * Reads a persisted index once per file; an unreadable index is ignored.
+	 *
+	 * @param indexFile
+	 */
+	private static void loadIndex(final File indexFile) {
+
+		if (!LOADED_INDEX_FILES.add(indexFile.getAbsoluteFile()) || !indexFile.isFile()) {
+			return;
+		}
+
+		try (BufferedReader reader = Files.newBufferedReader(indexFile.toPath(), StandardCharsets.UTF_8)) {
+
+			if (!FORMAT_HEADER.equals(reader.readLine())) {
+				return;
+			}
+
+			String jarPath = null;
+			TuJarRecord record = null;
+			String line;
+
+			while (null != (line = reader.readLine())) {
+
+				final String[] fields = line.split("\t");
+
+				if ("jar".equals(fields[0])) {
+
+					if (null != record) {
+						JARS.putIfAbsent(jarPath, record);
+					}
+					jarPath = fields[1];
+					record = new TuJarRecord(Long.parseLong(fields[2]), Long.parseLong(fields[3]),
+							new ArrayList<String>(), new ArrayList<String>());
+
+				} else if ("cls".equals(fields[0])) {
+					record.classNames.add(fields[1]);
+
+				} else if ("cp".equals(fields[0])) {
+					record.manifestClassPath.add(fields[1]);
+				}
+			}
+
+			if (null != record) {
+				JARS.putIfAbsent(jarPath, record);
+			}
+
+		} catch (final IOException | RuntimeException e) {
+			// Ignore a corrupt index; jars are indexed again.
+		}
+	}
+
+	/**
+	 * Persists the index (replacing the file); a failure is ignored.
+	 *
+	 * @param indexFile
+	 */
+	private static synchronized void saveIndex(final File indexFile) {
+
+		try {
+			final Path directory = indexFile.getAbsoluteFile().getParentFile().toPath();
+			Files.createDirectories(directory);
+
+			final Path temporary = Files.createTempFile(directory, INDEX_FILE_NAME, ".tmp");
+
+			try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+
+				writer.write(FORMAT_HEADER);
+				writer.newLine();
+
+				for (final String jarPath : new TreeSet<String>(JARS.keySet())) {
+
+					final TuJarRecord record = JARS.get(jarPath);
+
+					writer.write("jar\t" + jarPath + "\t" + record.size + "\t" + record.lastModified);
+					writer.newLine();
+
+					for (final String path : record.manifestClassPath) {
+						writer.write("cp\t" + path);
+						writer.newLine();
+					}
+
+					for (final String className : record.classNames) {
+						writer.write("cls\t" + className);
+						writer.newLine();
+					}
+				}
+			}
+
+			try {
+				Files.move(temporary, indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+
+			} catch (final AtomicMoveNotSupportedException e) {
+				Files.move(temporary, indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+
+		} catch (final IOException e) {
+			// The index is an optimization only.
+		}
+	}
+
+	/**
+	 * The indexed content of a jar.
+	 */
+	private static final class TuJarRecord {
+
+		/** Attribute. */
+		final long size;
+
+		/** Attribute. */
+		final long lastModified;
+
+		/** Attribute. */
+		final List<String> classNames;
+
+		/** Attribute. */
+		final List<String> manifestClassPath;
+
+		/**
+		 * Constructor
+		 *
+		 * @param size
+		 * @param lastModified
+		 * @param classNames
+		 * @param manifestClassPath
+		 */
+		TuJarRecord(final long size, final long lastModified, final List<String> classNames,
+				final List<String> manifestClassPath) {
+			this.size = size;
+			this.lastModified = lastModified;
+			this.classNames = classNames;
+			this.manifestClassPath = manifestClassPath;
+		}
+
+		/**
+		 * @param jar
+		 * @return boolean - Indicating if the jar is unchanged.
+		 */
+		boolean isCurrent(final File jar) {
+			return this.size == jar.length() && this.lastModified == jar.lastModified();
+		}
+	}
+}
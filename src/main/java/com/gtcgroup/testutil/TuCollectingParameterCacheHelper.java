@@ -26,13 +26,9 @@
 
 package com.gtcgroup.testutil;
 
-import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Iterator;
+import java.lang.invoke.MethodHandle;
 
 import com.gtcgroup.testutil.exception.TestUtilGlitchException;
-import com.gtcgroup.testutil.exception.TestUtilRuntimeException;
 import com.gtcgroup.testutil.exception.TestUtilWarningException;
 import com.gtcgroup.testutil.helper.TuWarningUtilHelper;
 import com.gtcgroup.testutil.helper.TuMethodGlitchUtilHelper;
@@ -55,12 +51,6 @@ public enum TuCollectingParameterCacheHelper {
 
 	INSTANCE;
 
-	/**
-	 * A collection of all <code>TuMethodPairBO</code>s for which test objects were
-	 * successfully instantiated.
-	 */
-	private static ArrayList<TuMethodPairBO> tuMethodPairBOsList = new ArrayList<TuMethodPairBO>();
-
 	/**
 	 * This method is invoked after <code>assertSameObject()</code> fails. It
 	 * asserts object equality.
@@ -76,7 +66,7 @@ public enum TuCollectingParameterCacheHelper {
 		if (!objReturnedFromGet.equals(objThatWasSet)) {
 
 			// Issue glitch.
-			TuMethodGlitchUtilHelper.throwNotEqualGlitch(objThatWasSet.toString(), objReturnedFromGet.toString());
+			TuMethodGlitchUtilHelper.throwNotEqualGlitch(objThatWasSet, objReturnedFromGet);
 		}
 		return;
 	}
@@ -102,7 +92,7 @@ public enum TuCollectingParameterCacheHelper {
 		if (null == objReturned) {
 
 			// Issue glitch.
-			TuMethodGlitchUtilHelper.throwNotSameGlitch(objSet.toString());
+			TuMethodGlitchUtilHelper.throwNotSameGlitch(objSet);
 		}
 
 		// Check for dynamic proxy.
@@ -110,7 +100,7 @@ public enum TuCollectingParameterCacheHelper {
 				|| "$Proxy".equalsIgnoreCase(objReturned.getClass().getName().substring(0, 6))) {
 
 			// Issue glitch.
-			TuMethodGlitchUtilHelper.throwProxyGlitch(objSet.toString(), objReturned.toString());
+			TuMethodGlitchUtilHelper.throwProxyGlitch(objSet, objReturned);
 		}
 
 		// If not the same, how about equal?
@@ -119,26 +109,35 @@ public enum TuCollectingParameterCacheHelper {
 		return;
 	}
 
-	/**
-	 * Returns the list of <code>TuMethodPairBO</code>s
-	 *
-	 * @return Returns the list of <code>TuMethodPairBO</code>s.
-	 */
-	private static ArrayList<TuMethodPairBO> getTuMethodPairBOsList() {
-		return tuMethodPairBOsList;
-	}
-
-	private static void invokeMethods(final TuMethodSetPO tuMethodSetBO, final TuMethodGetBO tuMethodGetBO,
-			final boolean isBooleanVerification) {
+	private static void invokeMethods(final TuMethodPairBO tuMethodPairBO, final boolean isBooleanVerification) {
 
 		// Declaration.
 		Object objReturnedFromGetter;
+		MethodHandle setterHandle = null;
+		MethodHandle getterHandle = null;
+		Class<?>[] setterArgumentTypes = null;
+		Class<?>[] getterArgumentTypes = null;
+
+		// Initialization.
+		final TuMethodSetPO tuMethodSetBO = tuMethodPairBO.getTuMethodSetBO();
+		final TuMethodGetBO tuMethodGetBO = tuMethodPairBO.getTuMethodGetBO();
+
+		// Determine if the cached method handles are used.
+		if (null != tuMethodPairBO.getTuAccessorBO()
+				&& TuInvocationBackend.METHOD_HANDLE == TuInvocationBackend.getActive()) {
+
+			setterHandle = tuMethodPairBO.getTuAccessorBO().getSetterHandle();
+			getterHandle = tuMethodPairBO.getTuAccessorBO().getGetterHandle();
+			setterArgumentTypes = tuMethodPairBO.getTuAccessorBO().getSetterArgumentTypes();
+			getterArgumentTypes = tuMethodPairBO.getTuAccessorBO().getGetterArgumentTypes();
+		}
 
 		// Fire the setter.
-		TuUtil.invokeMethod(tuMethodSetBO, isBooleanVerification);
+		TuUtil.invokeMethod(tuMethodSetBO, setterHandle, setterArgumentTypes, isBooleanVerification);
 
 		// Fire the getter.
-		objReturnedFromGetter = TuUtil.invokeMethod(tuMethodGetBO, isBooleanVerification);
+		objReturnedFromGetter = TuUtil.invokeMethod(tuMethodGetBO, getterHandle, getterArgumentTypes,
+				isBooleanVerification);
 
 		// Determine if boolean verification.
 		if (isBooleanVerification) {
@@ -158,7 +157,13 @@ public enum TuCollectingParameterCacheHelper {
 		}
 	}
 
-	public static void invokeSettersAndGetters(final Object mutableObject) {
+	/**
+	 * Invokes the prepared method pairs of a single class.
+	 *
+	 * @param context
+	 *            The verification state of the class.
+	 */
+	public static void invokeSettersAndGetters(final TuVerificationContextBO context) {
 
 		// Declaration.
 		TuMethodPairBO tuMethodPairBO;
@@ -166,12 +171,12 @@ public enum TuCollectingParameterCacheHelper {
 		TuMethodGetBO tuMethodGetBO = null;
 
 		// Iterate for processing all method pairs.
-		for (int i = 0; i < getTuMethodPairBOsList().size(); i++) {
+		for (int i = 0; i < context.getTuMethodPairBOsList().size(); i++) {
 
 			try {
 
 				// Retrieve the method business objects.
-				tuMethodPairBO = getTuMethodPairBOsList().get(i);
+				tuMethodPairBO = context.getTuMethodPairBOsList().get(i);
 				tuMethodSetBO = tuMethodPairBO.getTuMethodSetBO();
 				tuMethodGetBO = tuMethodPairBO.getTuMethodGetBO();
 
@@ -179,214 +184,141 @@ public enum TuCollectingParameterCacheHelper {
 				if (tuMethodSetBO.getVerifiableParameterTypes()[0] == Boolean.class) {
 
 					// Try twice; Once with 'true' and once with 'false'.
-					invokeMethods(tuMethodSetBO, tuMethodGetBO, true);
-					invokeMethods(tuMethodSetBO, tuMethodGetBO, false);
+					invokeMethods(tuMethodPairBO, true);
+					invokeMethods(tuMethodPairBO, false);
 
 				} else {
 					// Once is enough!
-					invokeMethods(tuMethodSetBO, tuMethodGetBO, false);
+					invokeMethods(tuMethodPairBO, false);
 				}
 
 				// Increment for successful invocation.
-				TestUtilRuntimeException.addMethodVerification();
+				context.addMethodVerification(tuMethodSetBO.getMethod().getName(),
+						tuMethodGetBO.getMethod().getName());
 
 			} catch (final TestUtilGlitchException exception) {
 
-				// // Is this the first glitch?
-				// if (0 == getTuResultsPO().getTotalGlitches()) {
-				//
-				// // Sub-header for glitches.
-				// System.out.println("\n\t++ Glitch Class: " +
-				// mutableObject.getClass().getName() + " ++");
-				// }
-
+				// Increment for glitch (reported with the class).
+				context.addGlitch(tuMethodSetBO.getMethod().getName(), tuMethodGetBO.getMethod().getName(),
+						exception::getMessage);
 			}
 		}
 		return;
 	}
 
 	/**
-	 * Prepares test instances.
+	 * Rejects a method pair from its types alone: duplicated, declared excluded
+	 * or with an incompatible signature. Parameter values are only generated
+	 * for the pairs passing.
 	 *
-	 * @param methodSet
-	 * @param methodGet
-	 * @return TuMethodPairBO
+	 * @param mutableObject
+	 * @param tuAccessorBO
 	 * @throws TestUtilWarningException
 	 */
-	private static TuMethodPairBO prepareAccessorPair(final Object mutableObject, final Method methodSet,
-			final Method methodGet) throws TestUtilWarningException {
+	private static void prefilterAccessorPair(final Object mutableObject, final TuAccessorBO tuAccessorBO)
+			throws TestUtilWarningException {
 
-		// Declaration.
-		TuMethodPairBO tuMethodPairBO = null;
+		// Determine if duplication precludes verification.
+		if (tuAccessorBO.isDuplicateSetter()) {
 
-		// Initialization.
-		final TuMethodSetPO tuMethodSetBO = new TuMethodSetPO(mutableObject, methodSet, methodGet.getReturnType());
-		final TuMethodGetBO tuMethodGetBO = new TuMethodGetBO(mutableObject, methodGet);
+			// Issue warning for exclusion.
+			TuWarningUtilHelper.throwMultiplesWarningForSetter(tuAccessorBO.getSetterName());
+		}
 
-		// Process exclusions.
-		TuUtil.excludeMethodPairsByType(tuMethodSetBO, tuMethodGetBO);
+		// Determine if duplication precludes verification.
+		if (tuAccessorBO.isDuplicateGetter()) {
 
-		// this.e
+			// Issue warning for exclusion.
+			TuWarningUtilHelper.throwMultiplesWarningForGetter(tuAccessorBO.getGetterName());
+		}
 
-		// Initialize.
-		tuMethodSetBO.initialize();
-		tuMethodGetBO.initialize();
+		// Process exclusions.
+		TuUtil.excludeMethodPairBySetter(mutableObject, tuAccessorBO.getSetterName());
+		TuUtil.excludeMethodPairsByType(tuAccessorBO.getSetter(), tuAccessorBO.getGetter());
 
 		// Ensure at least one setter parameter.
-		if (tuMethodSetBO.getOriginalParameterTypes().length > 0) {
-
-			// Check that the first parameter type of the original setter
-			// is assignable from the return type of the getter.
-			// - or -
-			// The return type of the getter is assignable
-			// from the first parameter type of the original setter.
-			// - or -
-			// Primitives are involved.
-			if (tuMethodSetBO.getOriginalParameterTypes()[0].isAssignableFrom(tuMethodGetBO.getReturnType())
-
-					|| tuMethodGetBO.getReturnType().isAssignableFrom(tuMethodSetBO.getOriginalParameterTypes()[0])) {
+		if (!tuAccessorBO.hasSetterParameter()) {
 
-				// || TuCacher.getInstance().getIncludePrimitiveReturnType()
-				// .containsElement(
-				// tuMethodGetBO.getReturnType().getName(),
-				// null)) {
+			// Issue warning for exclusion.
+			TuWarningUtilHelper.throwSetterSignatureWarning();
+		}
 
-				// Looks good - instantiate the return object.
-				tuMethodPairBO = new TuMethodPairBO(tuMethodGetBO, tuMethodSetBO);
+		// Check that the first parameter type of the original setter
+		// is assignable from the return type of the getter.
+		// - or -
+		// The return type of the getter is assignable
+		// from the first parameter type of the original setter.
+		// - or -
+		// Primitives are involved.
+		if (!tuAccessorBO.isTypeCompatible()) {
 
-			} else {
-
-				// Issue warning for exclusion.
-				TuWarningUtilHelper.throwNotVerifiableWarning(
-						tuMethodSetBO.getOriginalParameterTypes()[0].getName(),
-						tuMethodGetBO.getReturnType().getName());
-			}
-		} else {
+			// && !TuCacher.getInstance().getIncludePrimitiveReturnType()
+			// .containsElement(
+			// tuMethodGetBO.getReturnType().getName(),
+			// null)) {
 
 			// Issue warning for exclusion.
-			TuWarningUtilHelper.throwSetterSignatureWarning();
+			TuWarningUtilHelper.throwNotVerifiableWarning(tuAccessorBO.getSetter().getParameterTypes()[0].getName(),
+					tuAccessorBO.getGetter().getReturnType().getName());
 		}
 
-		return tuMethodPairBO;
+		return;
 	}
 
 	/**
-	 * Method preparing test instances for verification. Warnings are issued if the
-	 * preparation process indicates a verification is not possible.
+	 * Prepares test instances of a method pair passing the prefilter.
+	 *
+	 * @param mutableObject
+	 * @param tuAccessorBO
+	 * @return TuMethodPairBO
+	 * @throws TestUtilWarningException
 	 */
-	public static void prepareTestInstance(final Object mutableObject) {
-
-		// Declarations
-		StringBuffer sbSetterName = null;
-		StringBuffer sbGetterName = null;
-		TuMethodPairBO tuMethodPairBO = null;
-
-		// Get all the methods.
-		final Method[] arrOfMethods = mutableObject.getClass().getMethods();
-
-		// Collect the "setters".
-		final HashMap<String, Method> setterMap = TuUtil.collectSetters(arrOfMethods);
-
-		// Collect the "getters".
-		final HashMap<String, Method> getterMap = TuUtil.collectGetters(arrOfMethods);
-
-		// Obtain iterator.
-		final Iterator<?> keySet = setterMap.keySet().iterator();
-
-		// Obtain the Javadoc for methods.
-		// JavaMethod[] javaMethods = null;
-		//
-		// // Determine if Javadoc tag processing is warranted.
-		// if (null != this.sourceCodePathname) {
-		//
-		// try {
-		// javaMethods = TuUtil.obtainMethodJavadoc(
-		// this.sourceCodePathname, this.mutableObject.getClass());
-		// } catch (final Exception e) {
-		// // do nothing - Javadoc processing will not occur.
-		// }
-		// }
-
-		// Iterate.
-		while (keySet.hasNext()) {
-
-			try {
-
-				// Initialize
-				tuMethodPairBO = null;
-
-				// Retrieve the setter name.
-				sbSetterName = new StringBuffer((String) keySet.next());
-
-				// Determine if duplication precludes verification.
-				if (sbSetterName.substring(0, 3).equals(TuConstants.DUPLICATE_METHOD_KEY)) {
-
-					// Truncate setter name.
-					sbSetterName.delete(0, 3);
-
-					// Initialize getter.
-					sbGetterName = null;
+	private static TuMethodPairBO prepareAccessorPair(final Object mutableObject, final TuAccessorBO tuAccessorBO)
+			throws TestUtilWarningException {
 
-					// Issue warning for exclusion.
-					TuWarningUtilHelper.throwMultiplesWarningForSetter(sbSetterName.toString());
-				}
-
-				// Obtain the getter name.
-				sbGetterName = new StringBuffer(sbSetterName.toString());
-				sbGetterName.replace(0, 1, "g");
+		// Initialization.
+		final TuMethodSetPO tuMethodSetBO = new TuMethodSetPO(mutableObject, tuAccessorBO.getSetter(),
+				tuAccessorBO.getGetter().getReturnType());
+		final TuMethodGetBO tuMethodGetBO = new TuMethodGetBO(mutableObject, tuAccessorBO.getGetter());
 
-				// Determine if duplication precludes verification.
-				if (getterMap.containsKey(TuConstants.DUPLICATE_METHOD_KEY + sbGetterName)) {
+		// Initialize; the indexed types predate substitutions declared since.
+		tuMethodSetBO.initialize(
+				TuVerificationRules.hasSubstitutions() ? null : tuAccessorBO.getVerifiableParameterTypes());
+		tuMethodGetBO.initialize();
 
-					// Initialize setter.
-					sbSetterName = null;
+		// Looks good - instantiate the return object.
+		return new TuMethodPairBO(tuMethodGetBO, tuMethodSetBO, tuAccessorBO);
+	}
 
-					// Issue warning for exclusion.
-					TuWarningUtilHelper.throwMultiplesWarningForGetter(sbGetterName.toString());
-				}
+	/**
+	 * Method preparing test instances for verification. Warnings are issued if the
+	 * preparation process indicates a verification is not possible. The accessor
+	 * candidates are retrieved from the (cached) <code>TuAccessorIndexBO</code>.
+	 *
+	 * @param context
+	 *            The verification state of the class.
+	 */
+	public static void prepareTestInstance(final TuVerificationContextBO context) {
 
-				// Determine if Javadoc interrogation is warranted.
-				// if (null != javaMethods) {
-				//
-				// // Should method pair be excluded?
-				// if (TuUtil.excludeMethodUsingJavadocTag(javaMethods,
-				// sbSetterName.toString())) {
-				//
-				// // Issue warning for exclusion.
-				// TuWarningUtilHelper
-				// .throwExcludedWarningForSetter();
-				// }
-				// }
-
-				// Determine if corresponding getter exists.
-				if (!getterMap.containsKey(sbGetterName.toString())) {
-
-					// Obtain the "is" method name.
-					sbGetterName.replace(0, 3, "is");
-				}
+		// Initialize.
+		final Object mutableObject = context.getMutableObject();
 
-				// Determine if corresponding getter exists.
-				if (getterMap.containsKey(sbGetterName.toString())) {
+		// Iterate.
+		for (final TuAccessorBO tuAccessorBO : TuAccessorIndexBO.forClass(mutableObject.getClass())
+				.getTuAccessorBOs()) {
 
-					// Throw an exception if the method pair should be excluded.
-					// TuUtil.excludeMethodPairBySetter(this.mutableObject,
-					// sbSetterName);
+			try {
 
-					// Obtain the method pair business object.
-					tuMethodPairBO = prepareAccessorPair(mutableObject, setterMap.get(sbSetterName.toString()),
-							getterMap.get(sbGetterName.toString()));
+				// Reject from the types alone.
+				prefilterAccessorPair(mutableObject, tuAccessorBO);
 
-					// Add to the returning list.
-					getTuMethodPairBOsList().add(tuMethodPairBO);
-				}
+				// Add the method pair business object.
+				context.getTuMethodPairBOsList().add(prepareAccessorPair(mutableObject, tuAccessorBO));
 
 			} catch (final TestUtilWarningException warning) {
 
-				// Sub-header for warnings.
-				System.out.println("\n\t+ Verification Warning(s) - " + mutableObject.getClass().getName() + " +");
-
-				// Process warning.
-				TuWarningUtilHelper.processWarning(sbSetterName, sbGetterName, tuMethodPairBO, warning);
+				// Increment for warning (reported with the class).
+				context.addWarning(tuAccessorBO.getSetterName(), tuAccessorBO.getGetterName(), warning::getMessage);
 			}
 		}
 
@@ -150,16 +150,6 @@ final class TuConstants {
 	 */
 	static final String FALSE_STRING = "false";
 
-	/**
-	 * String correlating to <code>String</code> class name.
-	 */
-	static final String STRING_CLASS_NAME = "java.lang.String";
-
-	/**
-	 * String correlating to <code>Enum</code> class name.
-	 */
-	static final String ENUM_CLASS_NAME = "java.lang.Enum";
-
 	/**
 	 * String used as duplicate method key.
 	 */
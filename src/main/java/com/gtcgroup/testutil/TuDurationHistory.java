@@ -0,0 +1,331 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>
+ * This class records the verification time of each class (a moving average of
+ * the times measured) and estimates the time of the classes of a package for
+ * scheduling: longest first across parallel workers and balanced across
+ * shards. A class never verified is estimated from its class file (without
+ * loading it), each public setter weighted by its parameters, and scaled so an
+ * average such class takes the average time recorded for the other classes.
+ * The history is persisted (default <code>build/testutil/durations.txt</code>).
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+final class TuDurationHistory {
+
+	/** Attribute. */
+	private static final String HISTORY_FILE_NAME = "durations.txt";
+
+	/** Attribute. */
+	private static final String FORMAT_HEADER = "# TestUtil verification durations v1";
+
+	/** Attribute. */
+	private static final Object GLOBAL_LOCK = new Object();
+
+	/** Attribute. */
+	private static final String OBJECT_INTERNAL_NAME = "java/lang/Object";
+
+	/** The history recording the verifications of this JVM. */
+	private static volatile TuDurationHistory global;
+
+	/** The persistent history file. */
+	private final File historyFile;
+
+	/** The average nanoseconds by class name. */
+	private final ConcurrentMap<String, Long> durations = new ConcurrentHashMap<String, Long>();
+
+	/**
+	 * Constructor - reads the history in the (declared) index directory.
+	 */
+	TuDurationHistory() {
+
+		this(new File(TuClassPathIndex.getIndexFile().getParentFile(), HISTORY_FILE_NAME));
+	}
+
+	/**
+	 * Constructor - reads the history; an unreadable history is ignored.
+	 *
+	 * @param historyFile
+	 */
+	TuDurationHistory(final File historyFile) {
+
+		super();
+
+		this.historyFile = historyFile;
+		this.load();
+	}
+
+	/**
+	 * @return {@link TuDurationHistory} - The history recording the
+	 *         verifications of this JVM (read upon first use).
+	 */
+	static TuDurationHistory getGlobal() {
+
+		TuDurationHistory history = global;
+
+		if (null == history) {
+			synchronized (GLOBAL_LOCK) {
+
+				history = global;
+
+				if (null == history) {
+					history = new TuDurationHistory();
+					global = history;
+				}
+			}
+		}
+		return history;
+	}
+
+	/**
+	 * Records the time of a verified class; a quarter of the new time is
+	 * averaged in so an outlier does not dominate.
+	 *
+	 * @param className
+	 * @param elapsedNanos
+	 */
+	void record(final String className, final long elapsedNanos) {
+
+		this.durations.merge(className, Long.valueOf(elapsedNanos),
+				(recorded, elapsed) -> Long.valueOf((3 * recorded.longValue() + elapsed.longValue()) / 4));
+	}
+
+	/**
+	 * @param className
+	 * @return Long - The recorded nanoseconds or null if not recorded.
+	 */
+	Long lookup(final String className) {
+
+		return this.durations.get(className);
+	}
+
+	/**
+	 * Estimates the time of each class: the recorded time or, for a class not
+	 * recorded, its class file estimate scaled by the recorded classes.
+	 *
+	 * @param classNames
+	 * @param classLoader
+	 * @return Map - The (positive) nanoseconds by class name.
+	 */
+	Map<String, Long> estimate(final Collection<String> classNames, final ClassLoader classLoader) {
+
+		// Initialize.
+		final Map<String, Long> estimates = new LinkedHashMap<String, Long>();
+		final Map<String, Long> units = new LinkedHashMap<String, Long>();
+		long recordedNanos = 0;
+		long recordedCount = 0;
+		long estimatedUnits = 0;
+
+		for (final String className : classNames) {
+
+			final Long recorded = this.durations.get(className);
+
+			// Determine if only the class file estimate is available.
+			if (null == recorded) {
+
+				final long classUnits = estimateUnits(className, classLoader);
+
+				units.put(className, Long.valueOf(classUnits));
+				estimatedUnits += classUnits;
+
+			} else {
+				recordedNanos += recorded.longValue();
+				recordedCount++;
+			}
+			estimates.put(className, recorded);
+		}
+
+		// Scale the estimates to the average recorded time (if any).
+		final double nanosPerUnit = 0 == recordedCount || 0 == estimatedUnits ? 1.0
+				: (double) recordedNanos / recordedCount / ((double) estimatedUnits / units.size());
+
+		for (final Map.Entry<String, Long> entry : units.entrySet()) {
+
+			estimates.put(entry.getKey(),
+					Long.valueOf(Math.max(1L, Math.round(entry.getValue().longValue() * nanosPerUnit))));
+		}
+		return estimates;
+	}
+
+	/**
+	 * Estimates the relative cost of verifying a class from its class file
+	 * (neither loading nor indexing it): one unit for the class and, for each
+	 * public setter of the class and its superclasses, one unit plus its
+	 * parameter units. A class the prefilter rejects (or whose class file is
+	 * unavailable) is one unit.
+	 *
+	 * @param className
+	 * @param classLoader
+	 * @return long - The units.
+	 */
+	static long estimateUnits(final String className, final ClassLoader classLoader) {
+
+		TuClassFilePrefilter.TuClassFileInfo info = TuClassFilePrefilter.read(className.replace('.', '/'),
+				classLoader);
+
+		// Determine if the class is skipped.
+		if (null == info || null != TuClassFilePrefilter.rejectionReason(info, classLoader)) {
+			return 1;
+		}
+
+		long units = 1;
+
+		while (null != info) {
+
+			for (final String descriptor : info.publicSetterDescriptors) {
+				units += 1 + estimateParameterUnits(descriptor);
+			}
+
+			info = null == info.superName || OBJECT_INTERNAL_NAME.equals(info.superName) ? null
+					: TuClassFilePrefilter.read(info.superName, classLoader);
+		}
+		return units;
+	}
+
+	/**
+	 * Estimates the parameters of a method descriptor: one unit for a
+	 * primitive or <code>java</code> type and two for another type or an array
+	 * (an object graph to build).
+	 *
+	 * @param descriptor
+	 * @return int
+	 */
+	private static int estimateParameterUnits(final String descriptor) {
+
+		int units = 0;
+		int index = 1;
+
+		while (index < descriptor.length() && ')' != descriptor.charAt(index)) {
+
+			boolean graph = false;
+
+			while ('[' == descriptor.charAt(index)) {
+				graph = true;
+				index++;
+			}
+
+			if ('L' == descriptor.charAt(index)) {
+
+				graph |= !descriptor.startsWith("java/", index + 1);
+				index = descriptor.indexOf(';', index);
+			}
+
+			units += graph ? 2 : 1;
+			index++;
+		}
+		return units;
+	}
+
+	/**
+	 * Reads the persisted history.
+	 */
+	private void load() {
+
+		if (!this.historyFile.isFile()) {
+			return;
+		}
+
+		try (BufferedReader reader = Files.newBufferedReader(this.historyFile.toPath(), StandardCharsets.UTF_8)) {
+
+			if (!FORMAT_HEADER.equals(reader.readLine())) {
+				return;
+			}
+
+			String line;
+			while (null != (line = reader.readLine())) {
+
+				final String[] fields = line.split("\t");
+				this.durations.put(fields[0], Long.valueOf(fields[1]));
+			}
+
+		} catch (final IOException | RuntimeException e) {
+
+			// Ignore a corrupt history; classes are estimated.
+			this.durations.clear();
+		}
+	}
+
+	/**
+	 * Persists the history (replacing the file); a failure is ignored.
+	 */
+	void save() {
+
+		try {
+			final Path directory = this.historyFile.getAbsoluteFile().getParentFile().toPath();
+			Files.createDirectories(directory);
+
+			final Path temporary = Files.createTempFile(directory, HISTORY_FILE_NAME, ".tmp");
+
+			try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+
+				writer.write(FORMAT_HEADER);
+				writer.newLine();
+
+				for (final Map.Entry<String, Long> entry : new TreeMap<String, Long>(this.durations).entrySet()) {
+					writer.write(entry.getKey() + "\t" + entry.getValue());
+					writer.newLine();
+				}
+			}
+
+			try {
+				Files.move(temporary, this.historyFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+
+			} catch (final AtomicMoveNotSupportedException e) {
+				Files.move(temporary, this.historyFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+
+		} catch (final IOException e) {
+			// The history is an optimization only.
+		}
+	}
+}
@@ -26,10 +26,10 @@
 
 package com.gtcgroup.testutil;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
-import java.util.Random;
 
 /**
  * <p>
@@ -49,6 +49,33 @@ import java.util.Random;
 
 class TuDynamicProxy implements InvocationHandler {
 
+	/**
+	 * The proxy class constructor per interface. The proxy class is defined by
+	 * the class loader of the interface, so a <code>Class</code> key covers the
+	 * interface and class loader pair.
+	 */
+	private static final ClassValue<Constructor<?>> PROXY_CONSTRUCTORS = new ClassValue<Constructor<?>>() {
+
+		@Override
+		protected Constructor<?> computeValue(final Class<?> anInterface) {
+
+			try {
+				final Constructor<?> constructor = Proxy
+						.getProxyClass(anInterface.getClassLoader(), new Class[] { anInterface })
+						.getConstructor(InvocationHandler.class);
+
+				// A non-public interface results in a non-public proxy class.
+				constructor.setAccessible(true);
+				return constructor;
+
+			} catch (final NoSuchMethodException e) {
+
+				// This should never happen.
+				throw new IllegalStateException(e);
+			}
+		}
+	};
+
 	/**
 	 * Simply a <code>new Object()</code> placeholder.
 	 */
@@ -58,7 +85,7 @@ class TuDynamicProxy implements InvocationHandler {
 	 * A random integer assigned to this instance and used for display if
 	 * verification failed.
 	 */
-	private final Integer uniqueInteger;
+	private final int uniqueInteger;
 
 	/**
 	 * Returns a new <code>TuDynamicProxy</code> instance.
@@ -72,9 +99,15 @@ class TuDynamicProxy implements InvocationHandler {
 		// Instantiate a wrappable object.
 		final Object objectWrapped = new Object();
 
-		// Invokes the private constructor.
-		return Proxy.newProxyInstance(anInterface.getClassLoader(),
-				new Class[] { anInterface }, new TuDynamicProxy(objectWrapped));
+		try {
+			// Invokes the private constructor; the proxy constructor is cached.
+			return PROXY_CONSTRUCTORS.get(anInterface).newInstance(new TuDynamicProxy(objectWrapped));
+
+		} catch (final ReflectiveOperationException e) {
+
+			// This should never happen.
+			throw new IllegalStateException(e);
+		}
 	}
 
 	/**
@@ -87,9 +120,8 @@ class TuDynamicProxy implements InvocationHandler {
 
 		this.objectWrapped = objectWrapped;
 
-		// Assign a unique int.
-		final Random random = new Random();
-		this.uniqueInteger = new Integer(random.nextInt());
+		// Assign a unique int (from the seeded value source).
+		this.uniqueInteger = TuValueSource.current().nextInt();
 	}
 
 	/**
@@ -111,7 +143,7 @@ class TuDynamicProxy implements InvocationHandler {
 		if ("toString".equalsIgnoreCase(method.getName())) {
 
 			// Return a toString() message.
-			return this.uniqueInteger.toString();
+			return Integer.toString(this.uniqueInteger);
 		}
 
 		// Object result = method.invoke(proxy, args);
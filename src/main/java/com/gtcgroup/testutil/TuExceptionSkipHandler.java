@@ -26,14 +26,15 @@ public enum TuExceptionSkipHandler {
 	public static final void throwSkipException(final String className) {
 
 		// Process caution.
-		final StringBuffer message = new StringBuffer();
+		throw new TestUtilSkipException(() -> {
+			final StringBuffer message = new StringBuffer();
 
-		message.append("\n<Skip [# ");
-		// message.append(tuCountersListBO.getTotalSkips());
-		message.append("]: Not verifiable [");
-		message.append(className);
-		message.append("].");
-
-		throw new TestUtilSkipException(message.toString());
+			message.append("\n<Skip [# ");
+			// message.append(tuCountersListBO.getTotalSkips());
+			message.append("]: Not verifiable [");
+			message.append(className);
+			message.append("].");
+			return message.toString();
+		});
 	}
 }
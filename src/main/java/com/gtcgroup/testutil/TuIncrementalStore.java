@@ -0,0 +1,321 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.gtcgroup.testutil.to.TuOutcomeTO;
+
+/**
+ * <p>
+ * This class stores the outcome counts of each verified class with the digest
+ * of its bytecode (the class file and those of its superclasses and
+ * interfaces, along with the TestUtil version, declared rules, value generators and object graph
+ * budgets). An incremental verification reuses the recorded counts of a class
+ * whose digest is unchanged. The store is persisted (default
+ * <code>build/testutil/incremental-results.txt</code>).
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+final class TuIncrementalStore {
+
+	/** Attribute. */
+	private static final String STORE_FILE_NAME = "incremental-results.txt";
+
+	/** Attribute. */
+	private static final String FORMAT_HEADER = "# TestUtil incremental results v1";
+
+	/** The persistent store file. */
+	private final File storeFile;
+
+	/** The records by class name. */
+	private final ConcurrentMap<String, TuClassRecord> records = new ConcurrentHashMap<String, TuClassRecord>();
+
+	/** The names of the classes looked up or recorded. */
+	private final Set<String> seen = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+	/**
+	 * Constructor - reads the store in the (declared) index directory.
+	 */
+	TuIncrementalStore() {
+
+		this(new File(TuClassPathIndex.getIndexFile().getParentFile(), STORE_FILE_NAME));
+	}
+
+	/**
+	 * Constructor - reads the store; an unreadable store is ignored.
+	 *
+	 * @param storeFile
+	 */
+	TuIncrementalStore(final File storeFile) {
+
+		super();
+
+		this.storeFile = storeFile;
+		this.load();
+	}
+
+	/**
+	 * Computes the digest of a class: its class file followed by the class
+	 * files of its superclasses and (super) interfaces.
+	 *
+	 * @param className
+	 * @param classLoader
+	 * @return String - The hexadecimal digest or null if a class file of the
+	 *         hierarchy is unavailable.
+	 */
+	static String digest(final String className, final ClassLoader classLoader) {
+
+		final MessageDigest messageDigest;
+
+		try {
+			messageDigest = MessageDigest.getInstance("SHA-256");
+
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+
+		messageDigest.update(TuConstants.TEST_UTIL_VERSION.getBytes(StandardCharsets.UTF_8));
+		messageDigest.update(TuVerificationRules.getSignature().getBytes(StandardCharsets.UTF_8));
+		messageDigest.update(TuValueGenerators.getSignature().getBytes(StandardCharsets.UTF_8));
+		messageDigest.update((TuObjectGraphPlanBO.getMaximumDepth() + "/" + TuObjectGraphPlanBO.getMaximumBreadth())
+				.getBytes(StandardCharsets.UTF_8));
+
+		final Deque<String> pending = new ArrayDeque<String>();
+		final Set<String> visited = new HashSet<String>();
+		pending.push(className.replace('.', '/'));
+
+		while (!pending.isEmpty()) {
+
+			final String internalName = pending.pop();
+
+			// Determine if a platform type or already digested.
+			if (internalName.startsWith("java/") || !visited.add(internalName)) {
+				continue;
+			}
+
+			final byte[] classFile = TuClassFilePrefilter.readBytes(internalName, classLoader);
+			final TuClassFilePrefilter.TuClassFileInfo info = null == classFile ? null
+					: TuClassFilePrefilter.parse(classFile);
+
+			if (null == info) {
+				return null;
+			}
+
+			messageDigest.update(classFile);
+
+			// The superclass is digested next, then the interfaces in order.
+			for (int i = info.interfaceNames.length - 1; i >= 0; i--) {
+				pending.push(info.interfaceNames[i]);
+			}
+			if (null != info.superName) {
+				pending.push(info.superName);
+			}
+		}
+
+		final StringBuffer hex = new StringBuffer();
+		for (final byte b : messageDigest.digest()) {
+			hex.append(Character.forDigit(b >> 4 & 0xF, 16));
+			hex.append(Character.forDigit(b & 0xF, 16));
+		}
+		return hex.toString();
+	}
+
+	/**
+	 * @param className
+	 * @param digest
+	 * @return long[] - The recorded verifications, warnings, glitches, cautions
+	 *         and skips or null if the class is not recorded with the digest.
+	 */
+	long[] lookup(final String className, final String digest) {
+
+		this.seen.add(className);
+
+		final TuClassRecord record = this.records.get(className);
+
+		if (null == record || !record.digest.equals(digest)) {
+			return null;
+		}
+		return record.counts.clone();
+	}
+
+	/**
+	 * Records the outcomes of a verified class.
+	 *
+	 * @param className
+	 * @param digest
+	 * @param outcomes
+	 * @return long[] - The verifications, warnings, glitches, cautions and
+	 *         skips counted.
+	 */
+	long[] record(final String className, final String digest, final List<TuOutcomeTO> outcomes) {
+
+		final long[] counts = TuOutcomeTO.countByKind(outcomes);
+
+		this.seen.add(className);
+		this.records.put(className, new TuClassRecord(digest, counts));
+		return counts;
+	}
+
+	/**
+	 * Discards the records of a package (and its subpackages) whose classes
+	 * were neither looked up nor recorded, i.e. classes no longer present;
+	 * the records of other packages are retained.
+	 *
+	 * @param packageName
+	 */
+	void pruneUnseen(final String packageName) {
+
+		final String prefix = packageName + ".";
+
+		this.records.keySet().removeIf(className -> className.startsWith(prefix) && !this.seen.contains(className));
+	}
+
+	/**
+	 * Reads the persisted records.
+	 */
+	private void load() {
+
+		if (!this.storeFile.isFile()) {
+			return;
+		}
+
+		try (BufferedReader reader = Files.newBufferedReader(this.storeFile.toPath(), StandardCharsets.UTF_8)) {
+
+			if (!FORMAT_HEADER.equals(reader.readLine())) {
+				return;
+			}
+
+			String line;
+			while (null != (line = reader.readLine())) {
+
+				final String[] fields = line.split("\t");
+				final long[] counts = new long[5];
+
+				for (int i = 0; i < counts.length; i++) {
+					counts[i] = Long.parseLong(fields[2 + i]);
+				}
+				this.records.put(fields[0], new TuClassRecord(fields[1], counts));
+			}
+
+		} catch (final IOException | RuntimeException e) {
+
+			// Ignore a corrupt store; classes are verified again.
+			this.records.clear();
+		}
+	}
+
+	/**
+	 * Persists the records (replacing the file); a failure is ignored.
+	 */
+	void save() {
+
+		try {
+			final Path directory = this.storeFile.getAbsoluteFile().getParentFile().toPath();
+			Files.createDirectories(directory);
+
+			final Path temporary = Files.createTempFile(directory, STORE_FILE_NAME, ".tmp");
+
+			try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+
+				writer.write(FORMAT_HEADER);
+				writer.newLine();
+
+				for (final Map.Entry<String, TuClassRecord> entry : new TreeMap<String, TuClassRecord>(this.records)
+						.entrySet()) {
+
+					writer.write(entry.getKey() + "\t" + entry.getValue().digest);
+
+					for (final long count : entry.getValue().counts) {
+						writer.write("\t" + count);
+					}
+					writer.newLine();
+				}
+			}
+
+			try {
+				Files.move(temporary, this.storeFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+
+			} catch (final AtomicMoveNotSupportedException e) {
+				Files.move(temporary, this.storeFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+
+		} catch (final IOException e) {
+			// The store is an optimization only.
+		}
+	}
+
+	/**
+	 * The recorded outcome counts of a class.
+	 */
+	private static final class TuClassRecord {
+
+		/** Attribute. */
+		final String digest;
+
+		/** Attribute; indexed by <code>TuOutcomeTO.Kind</code> ordinal. */
+		final long[] counts;
+
+		/**
+		 * Constructor
+		 *
+		 * @param digest
+		 * @param counts
+		 */
+		TuClassRecord(final String digest, final long[] counts) {
+			this.digest = digest;
+			this.counts = counts;
+		}
+	}
+}
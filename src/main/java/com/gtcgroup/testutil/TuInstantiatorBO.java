@@ -0,0 +1,288 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.gtcgroup.justify.core.helper.internal.ReflectionUtilHelper;
+import com.gtcgroup.testutil.exception.TestUtilCautionException;
+import com.gtcgroup.testutil.helper.TuClassCautionUtilHelper;
+
+/**
+ * <p>
+ * This immutable Business Object memoizes how a class is instantiated. The
+ * instantiation cascade (public no argument, retrieved public no argument,
+ * non-public no argument and <code>String</code> argument constructors) is
+ * attempted once per class; subsequent instantiations invoke the resolved
+ * constructor directly, and a class that could not be instantiated fails fast.
+ * The instantiator is retained with a <code>ClassValue</code>, so it does not
+ * prevent its class from being unloaded.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+final class TuInstantiatorBO {
+
+	/**
+	 * The instantiation strategies in cascade order.
+	 */
+	enum Strategy {
+
+		/** Public no argument constructor. */
+		PUBLIC_NO_ARGUMENT,
+
+		/** Retrieved public no argument constructor. */
+		RETRIEVED_PUBLIC_NO_ARGUMENT,
+
+		/** Non-public no argument constructor. */
+		NON_PUBLIC_NO_ARGUMENT,
+
+		/** Constructor with a <code>String</code> argument. */
+		STRING_ARGUMENT,
+
+		/** The class could not be instantiated. */
+		NOT_INSTANTIABLE
+	}
+
+	/** The memoized instantiator (or null if not yet resolved) per class. */
+	private static final ClassValue<AtomicReference<TuInstantiatorBO>> INSTANTIATORS = new ClassValue<AtomicReference<TuInstantiatorBO>>() {
+
+		@Override
+		protected AtomicReference<TuInstantiatorBO> computeValue(final Class<?> theClass) {
+			return new AtomicReference<TuInstantiatorBO>();
+		}
+	};
+
+	/** The successful strategy. */
+	private final Strategy strategy;
+
+	/** The resolved constructor or null if not instantiable. */
+	private final Constructor<?> constructor;
+
+	/**
+	 * Constructor
+	 *
+	 * @param strategy
+	 * @param constructor
+	 */
+	private TuInstantiatorBO(final Strategy strategy, final Constructor<?> constructor) {
+		super();
+		this.strategy = strategy;
+		this.constructor = constructor;
+	}
+
+	/**
+	 * @param theClass
+	 * @return Strategy - The memoized strategy or null if not (yet) resolved.
+	 */
+	static Strategy getMemoizedStrategy(final Class<?> theClass) {
+
+		final TuInstantiatorBO instantiator = INSTANTIATORS.get(theClass).get();
+
+		if (null == instantiator) {
+			return null;
+		}
+		return instantiator.strategy;
+	}
+
+	/**
+	 * Returns the memoized strategy, resolving it (and discarding the instance)
+	 * if need be.
+	 *
+	 * @param theClass
+	 * @return Strategy
+	 */
+	static Strategy resolveStrategy(final Class<?> theClass) {
+
+		Strategy strategy = getMemoizedStrategy(theClass);
+
+		if (null == strategy) {
+
+			try {
+				resolve(theClass);
+
+			} catch (final TestUtilCautionException e) {
+				// Memoized as not instantiable.
+			}
+			strategy = getMemoizedStrategy(theClass);
+		}
+		return null == strategy ? Strategy.NOT_INSTANTIABLE : strategy;
+	}
+
+	/**
+	 * Returns a new instance of the class using the memoized strategy.
+	 *
+	 * @param theClass
+	 * @return Object
+	 * @throws com.gtcgroup.testutil.exception.TestUtilCautionException
+	 *             if the class could not be instantiated.
+	 */
+	static Object instantiate(final Class<?> theClass) {
+
+		final TuInstantiatorBO instantiator = INSTANTIATORS.get(theClass).get();
+
+		// Determine if memoized.
+		if (null != instantiator) {
+
+			// Fail fast.
+			if (Strategy.NOT_INSTANTIABLE == instantiator.strategy) {
+
+				throwInstantiationCaution(theClass);
+			}
+
+			final Object objInstantiated = instantiator.instantiateUsingConstructor();
+
+			if (null != objInstantiated) {
+				return objInstantiated;
+			}
+			// The strategy no longer succeeds; resolve again.
+		}
+
+		return resolve(theClass);
+	}
+
+	/**
+	 * @return Object - The instance or null.
+	 */
+	private Object instantiateUsingConstructor() {
+
+		if (null == this.constructor) {
+			return null;
+		}
+
+		try {
+			if (Strategy.STRING_ARGUMENT == this.strategy) {
+				return this.constructor.newInstance(new String());
+			}
+			return this.constructor.newInstance();
+
+		} catch (final Exception e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Attempts the instantiation cascade and memoizes the outcome.
+	 *
+	 * @param theClass
+	 * @return Object
+	 */
+	private static Object resolve(final Class<?> theClass) {
+
+		Object objInstantiated = ReflectionUtilHelper.instantiatePublicConstructorNoArgument(theClass, true);
+
+		if (null != objInstantiated) {
+
+			return memoize(theClass, Strategy.PUBLIC_NO_ARGUMENT, retrieveConstructor(theClass), objInstantiated);
+		}
+
+		Constructor<?> constructor = ReflectionUtilHelper.retrievePublicConstructorNoArgument(theClass);
+		objInstantiated = ReflectionUtilHelper.instantiatePublicConstructorNoArgument(constructor, true);
+
+		if (null != objInstantiated) {
+
+			return memoize(theClass, Strategy.RETRIEVED_PUBLIC_NO_ARGUMENT, retrieveConstructor(theClass),
+					objInstantiated);
+		}
+
+		constructor = ReflectionUtilHelper.retrieveNonPublicConstructorNoArgument(theClass);
+		objInstantiated = ReflectionUtilHelper.instantiatePublicConstructorNoArgument(constructor, true);
+
+		if (null != objInstantiated) {
+
+			return memoize(theClass, Strategy.NON_PUBLIC_NO_ARGUMENT, retrieveConstructor(theClass), objInstantiated);
+		}
+
+		objInstantiated = instantiateWithStringArgument(theClass);
+
+		if (null != objInstantiated) {
+
+			return memoize(theClass, Strategy.STRING_ARGUMENT, retrieveConstructor(theClass, String.class),
+					objInstantiated);
+		}
+
+		// Remember the failure.
+		INSTANTIATORS.get(theClass).set(new TuInstantiatorBO(Strategy.NOT_INSTANTIABLE, null));
+		throwInstantiationCaution(theClass);
+		return null;
+	}
+
+	/**
+	 * @param theClass
+	 * @param strategy
+	 * @param constructor
+	 * @param objInstantiated
+	 * @return Object - The instance.
+	 */
+	private static Object memoize(final Class<?> theClass, final Strategy strategy, final Constructor<?> constructor,
+			final Object objInstantiated) {
+
+		INSTANTIATORS.get(theClass).set(new TuInstantiatorBO(strategy, constructor));
+		return objInstantiated;
+	}
+
+	/**
+	 * @param theClass
+	 * @param parameterTypes
+	 * @return Constructor - The accessible constructor or null.
+	 */
+	private static Constructor<?> retrieveConstructor(final Class<?> theClass, final Class<?>... parameterTypes) {
+
+		try {
+			final Constructor<?> constructor = theClass.getDeclaredConstructor(parameterTypes);
+			constructor.setAccessible(true);
+			return constructor;
+
+		} catch (final Exception e) {
+			return null;
+		}
+	}
+
+	/**
+	 * @param theClass
+	 * @return Object - The instance or null.
+	 */
+	private static Object instantiateWithStringArgument(final Class<?> theClass) {
+
+		final Object[] constructorParameterValues = { new String() };
+		return ReflectionUtilHelper.instantiatePublicConstructorWithArgument(constructorParameterValues, theClass);
+	}
+
+	/**
+	 * @param theClass
+	 */
+	private static void throwInstantiationCaution(final Class<?> theClass) {
+
+		TuClassCautionUtilHelper.throwClassInstantiationCaution(theClass);
+	}
+}
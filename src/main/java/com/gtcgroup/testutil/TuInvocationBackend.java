@@ -0,0 +1,123 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * <p>
+ * This enum selects how accessor methods are invoked during verification. The
+ * default may be declared with the system property
+ * <code>testutil.invocation.backend</code> (<code>METHOD_HANDLE</code> or
+ * <code>REFLECTION</code>) or set programmatically, e.g. to compare the
+ * throughput of both on a large model. An unknown declaration is reported and
+ * the default (<code>METHOD_HANDLE</code>) used.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+public enum TuInvocationBackend {
+
+	/**
+	 * Accessors are bound (once per class) to cached <code>MethodHandle</code>s,
+	 * sparing the access checks and argument copying of reflection. The handles
+	 * are held per accessor and invoked with boxed arguments, so the JIT does
+	 * not inline them as it would a constant handle. An accessor that can not
+	 * be bound, or arguments a handle can not accept, revert to reflection so
+	 * the outcome is the same.
+	 */
+	METHOD_HANDLE,
+
+	/** Accessors are invoked with <code>Method.invoke()</code>. */
+	REFLECTION;
+
+	/** The system property declaring the backend. */
+	public static final String SYSTEM_PROPERTY = "testutil.invocation.backend";
+
+	/** The active backend. */
+	private static volatile TuInvocationBackend active = fromSystemProperty();
+
+	/**
+	 * @param declaration
+	 * @return {@link TuInvocationBackend} - The backend declared (ignoring case).
+	 * @throws IllegalArgumentException
+	 *             If no backend is so named.
+	 */
+	public static TuInvocationBackend parse(final String declaration) {
+
+		for (final TuInvocationBackend backend : values()) {
+
+			if (backend.name().equals(declaration.trim().toUpperCase(Locale.ROOT))) {
+				return backend;
+			}
+		}
+		throw new IllegalArgumentException("The " + SYSTEM_PROPERTY + " declared [" + declaration + "] is not one of "
+				+ Arrays.toString(values()) + ".");
+	}
+
+	/**
+	 * @return {@link TuInvocationBackend} - The declared backend or the default.
+	 */
+	private static TuInvocationBackend fromSystemProperty() {
+
+		final String declaration = System.getProperty(SYSTEM_PROPERTY);
+
+		if (null == declaration || declaration.trim().isEmpty()) {
+			return METHOD_HANDLE;
+		}
+
+		try {
+			return parse(declaration);
+
+		} catch (final IllegalArgumentException e) {
+
+			System.err.println("<" + e.getMessage() + " " + METHOD_HANDLE + " is used.>");
+			return METHOD_HANDLE;
+		}
+	}
+
+	/**
+	 * @return Returns the active backend.
+	 */
+	public static TuInvocationBackend getActive() {
+		return active;
+	}
+
+	/**
+	 * @param backend
+	 *            The backend for subsequent verifications.
+	 */
+	public static void setActive(final TuInvocationBackend backend) {
+		active = backend;
+	}
+}
@@ -0,0 +1,215 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+import com.gtcgroup.testutil.to.TuClassResultTO;
+import com.gtcgroup.testutil.to.TuOutcomeTO;
+
+/**
+ * <p>
+ * This sink writes a JUnit XML report: a <code>testsuite</code> per verified
+ * class with a <code>testcase</code> per setter/getter pair. A glitch is a
+ * failure, a class caution an error, and a warning or class skip is skipped.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+public final class TuJUnitXmlReportSink extends TuChannelReportSink {
+
+	/** Attribute. */
+	private final FileChannel channel;
+
+	/**
+	 * Constructor
+	 *
+	 * @param file
+	 *            Created or truncated.
+	 * @throws IOException
+	 */
+	public TuJUnitXmlReportSink(final File file) throws IOException {
+
+		super();
+
+		this.channel = openFile(file);
+		this.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<testsuites name=\"TestUtil\">\n");
+	}
+
+	/**
+	 * @see com.gtcgroup.testutil.TuReportSink#report(com.gtcgroup.testutil.to.TuClassResultTO)
+	 */
+	@Override
+	public void report(final TuClassResultTO result) throws IOException {
+
+		final StringBuilder xml = new StringBuilder();
+
+		xml.append("  <testsuite name=\"");
+		appendEscaped(xml, result.getClassName());
+		xml.append("\" tests=\"");
+		xml.append(result.getPairOutcomes().size());
+		xml.append("\" failures=\"");
+		xml.append(result.getCount(TuOutcomeTO.Kind.GLITCH));
+		xml.append("\" errors=\"");
+		xml.append(result.getCount(TuOutcomeTO.Kind.CLASS_CAUTION));
+		xml.append("\" skipped=\"");
+		xml.append(result.getCount(TuOutcomeTO.Kind.WARNING) + result.getCount(TuOutcomeTO.Kind.CLASS_SKIP));
+		xml.append("\" time=\"");
+		xml.append(result.getElapsedNanos() / 1000000000.0);
+		xml.append("\">\n");
+
+		for (final TuOutcomeTO outcome : result.getPairOutcomes()) {
+
+			xml.append("    <testcase classname=\"");
+			appendEscaped(xml, result.getClassName());
+			xml.append("\" name=\"");
+			appendEscaped(xml, null == outcome.getSetterName() ? "class"
+					: outcome.getSetterName() + "/" + outcome.getGetterName());
+			xml.append("\"");
+
+			switch (outcome.getKind()) {
+
+			case VERIFICATION:
+				xml.append("/>\n");
+				continue;
+
+			case GLITCH:
+				appendElement(xml, "failure", "glitch", outcome.getMessage());
+				break;
+
+			case CLASS_CAUTION:
+				appendElement(xml, "error", "caution", outcome.getMessage());
+				break;
+
+			default:
+				appendElement(xml, "skipped", TuOutcomeTO.Kind.WARNING == outcome.getKind() ? "warning" : "skip",
+						outcome.getMessage());
+				break;
+			}
+			xml.append("    </testcase>\n");
+		}
+		xml.append("  </testsuite>\n");
+
+		this.write(xml);
+	}
+
+	/**
+	 * Completes the document and closes the file.
+	 *
+	 * @see com.gtcgroup.testutil.TuChannelReportSink#close()
+	 */
+	@Override
+	public void close() throws IOException {
+
+		this.write("</testsuites>\n");
+		super.close();
+	}
+
+	/**
+	 * @see com.gtcgroup.testutil.TuChannelReportSink#getChannel()
+	 */
+	@Override
+	protected WritableByteChannel getChannel() {
+		return this.channel;
+	}
+
+	/**
+	 * @param xml
+	 * @param element
+	 * @param type
+	 * @param message
+	 */
+	private static void appendElement(final StringBuilder xml, final String element, final String type,
+			final String message) {
+
+		xml.append(">\n      <");
+		xml.append(element);
+		xml.append(" type=\"");
+		xml.append(type);
+		xml.append("\" message=\"");
+		appendEscaped(xml, null == message ? "" : message.trim());
+		xml.append("\"/>\n");
+	}
+
+	/**
+	 * Appends text escaped for an XML attribute; characters XML does not allow
+	 * are replaced.
+	 *
+	 * @param xml
+	 * @param text
+	 */
+	static void appendEscaped(final StringBuilder xml, final String text) {
+
+		for (int i = 0; i < text.length(); i++) {
+
+			final char character = text.charAt(i);
+
+			switch (character) {
+
+			case '&':
+				xml.append("&amp;");
+				break;
+
+			case '<':
+				xml.append("&lt;");
+				break;
+
+			case '>':
+				xml.append("&gt;");
+				break;
+
+			case '"':
+				xml.append("&quot;");
+				break;
+
+			case '\n':
+				xml.append("&#10;");
+				break;
+
+			case '\r':
+				xml.append("&#13;");
+				break;
+
+			case '\t':
+				xml.append("&#9;");
+				break;
+
+			default:
+				xml.append(character < ' ' ? '?' : character);
+				break;
+			}
+		}
+	}
+}
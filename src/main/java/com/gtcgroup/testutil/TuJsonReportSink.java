@@ -0,0 +1,195 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+import com.gtcgroup.testutil.to.TuClassResultTO;
+import com.gtcgroup.testutil.to.TuOutcomeTO;
+
+/**
+ * <p>
+ * This sink writes a JSON array holding an object per verified class: its
+ * name, class seed, elapsed time, outcome counts and the outcomes of its
+ * setter/getter pairs.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+public final class TuJsonReportSink extends TuChannelReportSink {
+
+	/** Attribute. */
+	private final FileChannel channel;
+
+	/** Indicates no class is reported yet. */
+	private boolean empty = true;
+
+	/**
+	 * Constructor
+	 *
+	 * @param file
+	 *            Created or truncated.
+	 * @throws IOException
+	 */
+	public TuJsonReportSink(final File file) throws IOException {
+
+		super();
+
+		this.channel = openFile(file);
+		this.write("[");
+	}
+
+	/**
+	 * @see com.gtcgroup.testutil.TuReportSink#report(com.gtcgroup.testutil.to.TuClassResultTO)
+	 */
+	@Override
+	public void report(final TuClassResultTO result) throws IOException {
+
+		final StringBuilder json = new StringBuilder();
+
+		json.append(this.empty ? "\n" : ",\n");
+		json.append("{\"className\":");
+		appendString(json, result.getClassName());
+		json.append(",\"classSeed\":");
+		json.append(result.getClassSeed());
+		json.append(",\"elapsedNanos\":");
+		json.append(result.getElapsedNanos());
+		json.append(",\"counts\":{");
+
+		for (final TuOutcomeTO.Kind kind : TuOutcomeTO.Kind.values()) {
+
+			if (0 != kind.ordinal()) {
+				json.append(",");
+			}
+			appendString(json, kind.name());
+			json.append(":");
+			json.append(result.getCount(kind));
+		}
+		json.append("},\"outcomes\":[");
+
+		for (int i = 0; i < result.getPairOutcomes().size(); i++) {
+
+			final TuOutcomeTO outcome = result.getPairOutcomes().get(i);
+			final String message = outcome.getMessage();
+
+			json.append(0 == i ? "{\"kind\":" : ",{\"kind\":");
+			appendString(json, outcome.getKind().name());
+			json.append(",\"setter\":");
+			appendString(json, outcome.getSetterName());
+			json.append(",\"getter\":");
+			appendString(json, outcome.getGetterName());
+			json.append(",\"message\":");
+			appendString(json, null == message ? null : message.trim());
+			json.append("}");
+		}
+		json.append("]}");
+
+		this.empty = false;
+		this.write(json);
+	}
+
+	/**
+	 * Completes the array and closes the file.
+	 *
+	 * @see com.gtcgroup.testutil.TuChannelReportSink#close()
+	 */
+	@Override
+	public void close() throws IOException {
+
+		this.write("\n]\n");
+		super.close();
+	}
+
+	/**
+	 * @see com.gtcgroup.testutil.TuChannelReportSink#getChannel()
+	 */
+	@Override
+	protected WritableByteChannel getChannel() {
+		return this.channel;
+	}
+
+	/**
+	 * Appends a JSON string (or null).
+	 *
+	 * @param json
+	 * @param text
+	 */
+	static void appendString(final StringBuilder json, final String text) {
+
+		if (null == text) {
+			json.append("null");
+			return;
+		}
+
+		json.append('"');
+
+		for (int i = 0; i < text.length(); i++) {
+
+			final char character = text.charAt(i);
+
+			switch (character) {
+
+			case '"':
+				json.append("\\\"");
+				break;
+
+			case '\\':
+				json.append("\\\\");
+				break;
+
+			case '\n':
+				json.append("\\n");
+				break;
+
+			case '\r':
+				json.append("\\r");
+				break;
+
+			case '\t':
+				json.append("\\t");
+				break;
+
+			default:
+				if (character < ' ') {
+					json.append(String.format("\\u%04x", Integer.valueOf(character)));
+				} else {
+					json.append(character);
+				}
+				break;
+			}
+		}
+		json.append('"');
+	}
+}
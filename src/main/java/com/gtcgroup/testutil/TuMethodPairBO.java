@@ -49,6 +49,9 @@ public class TuMethodPairBO extends TuBaseBO {
 	/** Immutable Business Object with initialized attributes. */
 	private final TuMethodSetPO tuMethodSetBO;
 
+	/** The cached accessor metadata or null. */
+	private final TuAccessorBO tuAccessorBO;
+
 	/**
 	 * Constructor
 	 *
@@ -59,6 +62,22 @@ public class TuMethodPairBO extends TuBaseBO {
 	 */
 	TuMethodPairBO(final TuMethodGetBO tuMethodGetBO, final TuMethodSetPO tuMethodSetBO) {
 
+		this(tuMethodGetBO, tuMethodSetBO, null);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param tuMethodGetBO
+	 *            Immutable Business Object with initialized attributes.
+	 * @param tuMethodSetBO
+	 *            Immutable Business Object with initialized attributes.
+	 * @param tuAccessorBO
+	 *            The cached accessor metadata or null.
+	 */
+	TuMethodPairBO(final TuMethodGetBO tuMethodGetBO, final TuMethodSetPO tuMethodSetBO,
+			final TuAccessorBO tuAccessorBO) {
+
 		super();
 
 		// Set the Business Object.
@@ -66,6 +85,16 @@ public class TuMethodPairBO extends TuBaseBO {
 
 		// Set the Business Object.
 		this.tuMethodSetBO = tuMethodSetBO;
+
+		// Set the accessor metadata.
+		this.tuAccessorBO = tuAccessorBO;
+	}
+
+	/**
+	 * @return TuAccessorBO - The cached accessor metadata or null.
+	 */
+	TuAccessorBO getTuAccessorBO() {
+		return this.tuAccessorBO;
 	}
 
 	/**
@@ -0,0 +1,513 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import com.gtcgroup.testutil.exception.TestUtilCautionException;
+import com.gtcgroup.testutil.exception.TestUtilRuntimeException;
+import com.gtcgroup.testutil.exception.TestUtilWarningException;
+import com.gtcgroup.testutil.helper.TuClassCautionUtilHelper;
+import com.gtcgroup.testutil.helper.TuWarningUtilHelper;
+
+/**
+ * <p>
+ * This immutable Business Object is the cached plan building a parameter value
+ * of a type: its object graph is resolved once (including, for a class with
+ * only argument constructors, the plans of the constructor arguments) and
+ * each request then builds fresh instances by following the plan. A type with
+ * a value generator (see {@link TuValueGenerators}) is planned as such.
+ * </p>
+ * <p>
+ * Resolution detects cycles among constructor arguments and is bounded by a
+ * depth budget (nested constructor arguments) and a breadth budget (objects
+ * built per value); the budgets default to
+ * <code>-Dtestutil.graph.depth=8</code> and
+ * <code>-Dtestutil.graph.breadth=64</code>.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+final class TuObjectGraphPlanBO {
+
+	/**
+	 * How the value is built.
+	 */
+	enum Kind {
+
+		/** A value of the generator dispatched for the type. */
+		GENERATOR,
+
+		/** The memoized no argument or <code>String</code> strategy. */
+		INSTANTIATOR,
+
+		/** An argument constructor invoked with the values of its plans. */
+		CONSTRUCTOR,
+
+		/** The value can not be built; the exception is rethrown. */
+		FAILED
+	}
+
+	/** Attribute. */
+	static final String DEPTH_PROPERTY = "testutil.graph.depth";
+
+	/** Attribute. */
+	static final String BREADTH_PROPERTY = "testutil.graph.breadth";
+
+	/**
+	 * The plan (or null if not yet resolved) per type; retained with a
+	 * <code>ClassValue</code> so it does not prevent its type from being
+	 * unloaded.
+	 */
+	private static final ClassValue<AtomicReference<TuObjectGraphPlanBO>> PLANS = new ClassValue<AtomicReference<TuObjectGraphPlanBO>>() {
+
+		@Override
+		protected AtomicReference<TuObjectGraphPlanBO> computeValue(final Class<?> type) {
+			return new AtomicReference<TuObjectGraphPlanBO>();
+		}
+	};
+
+	/** Incremented as the budgets change, invalidating the plans. */
+	private static volatile int budgetsVersion;
+
+	/** The maximum nesting of constructor arguments. */
+	private static volatile int maximumDepth = Integer.getInteger(DEPTH_PROPERTY, 8).intValue();
+
+	/** The maximum number of objects built per value. */
+	private static volatile int maximumBreadth = Integer.getInteger(BREADTH_PROPERTY, 64).intValue();
+
+	/** Attribute. */
+	private final Kind kind;
+
+	/** Attribute. */
+	private final Class<?> type;
+
+	/** The generator or null. */
+	private final TuValueGenerator generator;
+
+	/** The argument constructor or null. */
+	private final Constructor<?> constructor;
+
+	/** The plans of the constructor arguments or null. */
+	private final TuObjectGraphPlanBO[] argumentPlans;
+
+	/** The nesting of the plan (1 unless an argument constructor). */
+	private final int depth;
+
+	/** The number of objects built by the plan. */
+	private final int breadth;
+
+	/** Creates the exception of a failed plan (afresh per build) or null. */
+	private final Supplier<TestUtilRuntimeException> failure;
+
+	/** The rules the plan was resolved with. */
+	private final Object rules;
+
+	/** The generators the plan was resolved with. */
+	private final Object generators;
+
+	/** The budgets version the plan was resolved with. */
+	private final int budgets;
+
+	/**
+	 * Constructor
+	 */
+	private TuObjectGraphPlanBO(final Kind kind, final Class<?> type, final TuValueGenerator generator,
+			final Constructor<?> constructor, final TuObjectGraphPlanBO[] argumentPlans,
+			final Supplier<TestUtilRuntimeException> failure, final Object rules) {
+
+		super();
+
+		this.kind = kind;
+		this.type = type;
+		this.generator = generator;
+		this.constructor = constructor;
+		this.argumentPlans = argumentPlans;
+		this.failure = failure;
+		this.rules = rules;
+		this.generators = TuValueGenerators.getSnapshot();
+		this.budgets = budgetsVersion;
+
+		int argumentDepth = 0;
+		int argumentBreadth = 0;
+
+		if (null != argumentPlans) {
+			for (final TuObjectGraphPlanBO argumentPlan : argumentPlans) {
+				argumentDepth = Math.max(argumentDepth, argumentPlan.depth);
+				argumentBreadth += argumentPlan.breadth;
+			}
+		}
+		this.depth = 1 + argumentDepth;
+		this.breadth = 1 + argumentBreadth;
+	}
+
+	/**
+	 * Returns the (cached) plan of a type.
+	 *
+	 * @param type
+	 * @return {@link TuObjectGraphPlanBO}
+	 */
+	static TuObjectGraphPlanBO forType(final Class<?> type) {
+
+		final TuObjectGraphPlanBO plan = PLANS.get(type).get();
+
+		// Determine if resolved with the current rules and generators.
+		if (null != plan && plan.isCurrent()) {
+			return plan;
+		}
+
+		final TuObjectGraphPlanBO resolved = resolve(type, new ArrayDeque<Class<?>>());
+
+		PLANS.get(type).set(resolved);
+		return resolved;
+	}
+
+	/**
+	 * @param depth
+	 *            The maximum nesting of constructor arguments.
+	 * @param breadth
+	 *            The maximum number of objects built per value.
+	 */
+	static void setBudgets(final int depth, final int breadth) {
+
+		maximumDepth = depth;
+		maximumBreadth = breadth;
+		budgetsVersion++;
+	}
+
+	/**
+	 * @return int - The maximum nesting of constructor arguments.
+	 */
+	static int getMaximumDepth() {
+		return maximumDepth;
+	}
+
+	/**
+	 * @return int - The maximum number of objects built per value.
+	 */
+	static int getMaximumBreadth() {
+		return maximumBreadth;
+	}
+
+	/**
+	 * Builds a fresh value following the plan.
+	 *
+	 * @return Object
+	 * @throws TestUtilRuntimeException
+	 *             The warning or caution of a failed plan.
+	 */
+	Object newInstance() {
+
+		switch (this.kind) {
+
+		case GENERATOR:
+			return this.generator.generate(this.type, TuValueSource.current());
+
+		case INSTANTIATOR:
+			return TuInstantiatorBO.instantiate(this.type);
+
+		case CONSTRUCTOR:
+			return this.construct();
+
+		default:
+			throw this.failure.get();
+		}
+	}
+
+	/**
+	 * @return Kind
+	 */
+	Kind getKind() {
+		return this.kind;
+	}
+
+	/**
+	 * @return boolean - Indicates the plan was resolved with the current rules
+	 *         and generators.
+	 */
+	private boolean isCurrent() {
+
+		return this.rules == TuVerificationRules.getSnapshot() && this.generators == TuValueGenerators.getSnapshot()
+				&& this.budgets == budgetsVersion;
+	}
+
+	/**
+	 * @return int - The nesting of the plan.
+	 */
+	int getDepth() {
+		return this.depth;
+	}
+
+	/**
+	 * @return int - The number of objects built by the plan.
+	 */
+	int getBreadth() {
+		return this.breadth;
+	}
+
+	/**
+	 * @return Object - A new instance from the argument constructor.
+	 */
+	private Object construct() {
+
+		final Object[] arguments = new Object[this.argumentPlans.length];
+
+		for (int i = 0; i < arguments.length; i++) {
+			arguments[i] = this.argumentPlans[i].newInstance();
+		}
+
+		try {
+			return this.constructor.newInstance(arguments);
+
+		} catch (final Exception e) {
+
+			TuWarningUtilHelper.throwInstantiationWarning(this.type, e, null);
+			return null;
+		}
+	}
+
+	/**
+	 * Resolves the plan of a type.
+	 *
+	 * @param type
+	 * @param path
+	 *            The types whose argument constructors are being resolved.
+	 * @return {@link TuObjectGraphPlanBO}
+	 */
+	private static TuObjectGraphPlanBO resolve(final Class<?> type, final Deque<Class<?>> path) {
+
+		final Object rules = TuVerificationRules.getSnapshot();
+
+		// Determine if a generator builds the value.
+		final TuValueGenerator generator = TuValueGenerators.forType(type);
+
+		if (null != generator) {
+			return new TuObjectGraphPlanBO(Kind.GENERATOR, type, generator, null, null, null, rules);
+		}
+
+		// Determine if the memoized strategy suffices.
+		if (TuInstantiatorBO.Strategy.NOT_INSTANTIABLE != TuInstantiatorBO.resolveStrategy(type)) {
+			return new TuObjectGraphPlanBO(Kind.INSTANTIATOR, type, null, null, null, null, rules);
+		}
+
+		return resolveConstructor(type, path, rules);
+	}
+
+	/**
+	 * Resolves the plan of a class with argument constructors only; the
+	 * constructors are attempted in order of their argument count.
+	 *
+	 * @param type
+	 * @param path
+	 * @param rules
+	 * @return {@link TuObjectGraphPlanBO}
+	 */
+	private static TuObjectGraphPlanBO resolveConstructor(final Class<?> type, final Deque<Class<?>> path,
+			final Object rules) {
+
+		// Determine if a cycle precludes instantiation.
+		if (path.contains(type)) {
+			return failed(type, () -> TuWarningUtilHelper.throwObjectGraphCycleWarning(path, type), rules);
+		}
+
+		// Determine if the depth budget precludes instantiation.
+		if (path.size() >= maximumDepth) {
+			return failed(type, () -> TuWarningUtilHelper.throwObjectGraphBudgetWarning(type, path.size() + 1,
+					maximumDepth, "depth"), rules);
+		}
+
+		final Constructor<?>[] constructors = type.getConstructors();
+		Arrays.sort(constructors, Comparator.comparingInt(Constructor::getParameterCount));
+
+		Supplier<TestUtilRuntimeException> firstFailure = null;
+
+		path.push(type);
+		try {
+			for (final Constructor<?> candidate : constructors) {
+
+				if (0 == candidate.getParameterCount()) {
+					continue;
+				}
+
+				final TuObjectGraphPlanBO plan = resolveCandidate(type, candidate, path, rules);
+
+				if (Kind.FAILED != plan.kind) {
+					return plan;
+				}
+
+				if (null == firstFailure) {
+					firstFailure = plan.failure;
+				}
+			}
+		} finally {
+			path.pop();
+		}
+
+		if (null != firstFailure) {
+			return new TuObjectGraphPlanBO(Kind.FAILED, type, null, null, null, firstFailure, rules);
+		}
+
+		return failed(type, () -> TuClassCautionUtilHelper.throwClassInstantiationCaution(type), rules);
+	}
+
+	/**
+	 * Resolves the plans of the arguments of a constructor and builds a
+	 * template instance to prove the plan (with values of a fixed seed, so the
+	 * values of the class being verified do not depend on the plan cache).
+	 *
+	 * @param type
+	 * @param candidate
+	 * @param path
+	 * @param rules
+	 * @return {@link TuObjectGraphPlanBO}
+	 */
+	private static TuObjectGraphPlanBO resolveCandidate(final Class<?> type, final Constructor<?> candidate,
+			final Deque<Class<?>> path, final Object rules) {
+
+		final Class<?>[] parameterTypes = candidate.getParameterTypes();
+		final TuObjectGraphPlanBO[] argumentPlans = new TuObjectGraphPlanBO[parameterTypes.length];
+
+		try {
+			for (int i = 0; i < parameterTypes.length; i++) {
+
+				// Substitute a declared type.
+				final Class<?> argumentType = TuUtil.checkForSubstituteSetterType(parameterTypes[i], null, null,
+						candidate);
+
+				if (isAbstractClass(argumentType)) {
+					TuWarningUtilHelper.throwAbstractClassWarning(argumentType, null, candidate);
+				}
+
+				argumentPlans[i] = resolveArgument(argumentType, path);
+
+				if (Kind.FAILED == argumentPlans[i].kind) {
+					return new TuObjectGraphPlanBO(Kind.FAILED, type, null, null, null, argumentPlans[i].failure,
+							rules);
+				}
+			}
+
+			final TuObjectGraphPlanBO plan = new TuObjectGraphPlanBO(Kind.CONSTRUCTOR, type, null, candidate,
+					argumentPlans, null, rules);
+
+			// Determine if the breadth budget precludes instantiation.
+			if (plan.breadth > maximumBreadth) {
+				TuWarningUtilHelper.throwObjectGraphBudgetWarning(type, plan.breadth, maximumBreadth, "breadth");
+			}
+
+			// The template draws its values from a trial source.
+			TuValueSource.callWithTrialSource(plan::construct);
+			return plan;
+
+		} catch (final TestUtilWarningException | TestUtilCautionException e) {
+			return new TuObjectGraphPlanBO(Kind.FAILED, type, null, null, null, failureOf(e), rules);
+		}
+	}
+
+	/**
+	 * Resolves the plan of a constructor argument. A cached plan is reused; a
+	 * resolved plan is cached unless it failed (a failure may be particular to
+	 * the path).
+	 *
+	 * @param type
+	 * @param path
+	 * @return {@link TuObjectGraphPlanBO}
+	 */
+	private static TuObjectGraphPlanBO resolveArgument(final Class<?> type, final Deque<Class<?>> path) {
+
+		final TuObjectGraphPlanBO cached = PLANS.get(type).get();
+
+		if (null != cached && Kind.FAILED != cached.kind && cached.isCurrent()
+				&& path.size() + cached.depth <= maximumDepth) {
+			return cached;
+		}
+
+		final TuObjectGraphPlanBO plan = resolve(type, path);
+
+		if (Kind.FAILED != plan.kind) {
+			PLANS.get(type).set(plan);
+		}
+		return plan;
+	}
+
+	/**
+	 * @param type
+	 * @return boolean - Indicates an abstract class without a generator (an
+	 *         interface, primitive, array or <code>java.lang.Enum</code> has a
+	 *         built-in generator).
+	 */
+	static boolean isAbstractClass(final Class<?> type) {
+
+		return Modifier.isAbstract(type.getModifiers()) && null == TuValueGenerators.forType(type);
+	}
+
+	/**
+	 * @param type
+	 * @param thrower
+	 *            Throws the warning or caution.
+	 * @param rules
+	 * @return {@link TuObjectGraphPlanBO} - A failed plan.
+	 */
+	private static TuObjectGraphPlanBO failed(final Class<?> type, final Runnable thrower, final Object rules) {
+
+		try {
+			thrower.run();
+
+		} catch (final TestUtilWarningException | TestUtilCautionException e) {
+			return new TuObjectGraphPlanBO(Kind.FAILED, type, null, null, null, failureOf(e), rules);
+		}
+		throw new IllegalStateException("No exception thrown for [" + type + "].");
+	}
+
+	/**
+	 * The exception of a failed plan is thrown by every build (on any thread)
+	 * so a fresh exception is created each time; the message is shared.
+	 *
+	 * @param exception
+	 * @return Supplier - Creates an exception like the given one.
+	 */
+	private static Supplier<TestUtilRuntimeException> failureOf(final TestUtilRuntimeException exception) {
+
+		final Supplier<String> message = exception::getMessage;
+
+		if (exception instanceof TestUtilCautionException) {
+			return () -> new TestUtilCautionException(message);
+		}
+		return () -> new TestUtilWarningException(message);
+	}
+}
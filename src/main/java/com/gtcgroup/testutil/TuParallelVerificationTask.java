@@ -0,0 +1,238 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>
+ * This <code>ForkJoinTask</code> verifies the classes of a package longest
+ * first. The classes are dealt (by estimated time, longest first) to the queue
+ * of the least loaded worker; a worker verifies its own queue in order and,
+ * once empty, steals the next class of the worker with the most estimated
+ * time remaining. An expensive class is therefore started early rather than
+ * stretching the run when reached at the end of the package.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+final class TuParallelVerificationTask extends RecursiveAction {
+
+	/** UID */
+	private static final long serialVersionUID = 1L;
+
+	/** The class names for verification. */
+	private final List<String> classNames;
+
+	/** The estimated nanoseconds by class name. */
+	private final Map<String, Long> estimates;
+
+	/** The number of workers. */
+	private final int workers;
+
+	/** The counters of the verification run. */
+	private final TuResultsRegistry results;
+
+	/** The classes queued by worker. */
+	private final List<ConcurrentLinkedDeque<String>> queues = new ArrayList<ConcurrentLinkedDeque<String>>();
+
+	/** The estimated nanoseconds queued by worker. */
+	private final AtomicLongArray remaining;
+
+	/**
+	 * Constructor
+	 *
+	 * @param classNames
+	 * @param estimates
+	 *            The estimated nanoseconds by class name.
+	 * @param workers
+	 * @param results
+	 */
+	TuParallelVerificationTask(final List<String> classNames, final Map<String, Long> estimates, final int workers,
+			final TuResultsRegistry results) {
+
+		super();
+
+		this.classNames = classNames;
+		this.estimates = estimates;
+		this.workers = Math.max(1, Math.min(workers, classNames.size()));
+		this.results = results;
+		this.remaining = new AtomicLongArray(this.workers);
+
+		for (int i = 0; i < this.workers; i++) {
+			this.queues.add(new ConcurrentLinkedDeque<String>());
+		}
+	}
+
+	/**
+	 * @see java.util.concurrent.RecursiveAction#compute()
+	 */
+	@Override
+	protected void compute() {
+
+		// Initialize.
+		final long[] dealt = new long[this.workers];
+		final List<String> longestFirst = new ArrayList<String>(this.classNames);
+		Collections.sort(longestFirst,
+				Comparator.comparing((final String className) -> Long.valueOf(this.estimateOf(className))).reversed());
+
+		// Deal each class to the least loaded worker.
+		for (final String className : longestFirst) {
+
+			int lightest = 0;
+			for (int i = 1; i < this.workers; i++) {
+				if (dealt[i] < dealt[lightest]) {
+					lightest = i;
+				}
+			}
+			dealt[lightest] += this.estimateOf(className);
+			this.queues.get(lightest).addLast(className);
+			this.remaining.addAndGet(lightest, this.estimateOf(className));
+		}
+
+		final List<TuWorker> tasks = new ArrayList<TuWorker>(this.workers);
+		for (int i = 0; i < this.workers; i++) {
+			tasks.add(new TuWorker(i));
+		}
+		invokeAll(tasks);
+	}
+
+	/**
+	 * @param className
+	 * @return long - The estimated nanoseconds.
+	 */
+	private long estimateOf(final String className) {
+
+		final Long estimate = this.estimates.get(className);
+
+		return null == estimate ? 1L : Math.max(1L, estimate.longValue());
+	}
+
+	/**
+	 * Takes the next class of a worker.
+	 *
+	 * @param worker
+	 * @return String - The class name or null if the queue is empty.
+	 */
+	private String take(final int worker) {
+
+		final String className = this.queues.get(worker).pollFirst();
+
+		if (null != className) {
+			this.remaining.addAndGet(worker, -this.estimateOf(className));
+		}
+		return className;
+	}
+
+	/**
+	 * Steals the next (longest) class of the worker with the most estimated
+	 * time remaining.
+	 *
+	 * @return String - The class name or null if every queue is empty.
+	 */
+	private String steal() {
+
+		while (true) {
+
+			int victim = -1;
+			for (int i = 0; i < this.workers; i++) {
+				if (!this.queues.get(i).isEmpty()
+						&& (0 > victim || this.remaining.get(i) > this.remaining.get(victim))) {
+					victim = i;
+				}
+			}
+
+			if (0 > victim) {
+				return null;
+			}
+
+			final String className = this.take(victim);
+
+			if (null != className) {
+				return className;
+			}
+		}
+	}
+
+	/**
+	 * A worker verifying its queue and then stealing.
+	 */
+	private final class TuWorker extends RecursiveAction {
+
+		/** UID */
+		private static final long serialVersionUID = 1L;
+
+		/** Attribute. */
+		private final int worker;
+
+		/**
+		 * Constructor
+		 *
+		 * @param worker
+		 */
+		TuWorker(final int worker) {
+
+			super();
+
+			this.worker = worker;
+		}
+
+		/**
+		 * @see java.util.concurrent.RecursiveAction#compute()
+		 */
+		@Override
+		protected void compute() {
+
+			while (true) {
+
+				String className = TuParallelVerificationTask.this.take(this.worker);
+
+				// Determine if the queue of this worker is empty.
+				if (null == className) {
+					className = TuParallelVerificationTask.this.steal();
+				}
+
+				if (null == className) {
+					return;
+				}
+				TestUtil.verifyClassQuietly(className, TuParallelVerificationTask.this.results);
+			}
+		}
+	}
+}
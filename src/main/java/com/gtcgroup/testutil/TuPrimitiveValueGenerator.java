@@ -0,0 +1,160 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * <p>
+ * This enum generates the (boxed) parameter values for primitive setter
+ * types. The generator is selected by <code>Class</code> identity from a
+ * table precomputed at class initialization; boxes are obtained with
+ * <code>valueOf()</code> (the getter returns a new box regardless, so only
+ * equality is verified).
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+enum TuPrimitiveValueGenerator {
+
+	/** boolean - default assignment (the opposing value is verified separately). */
+	BOOLEAN(boolean.class) {
+		@Override
+		Object generate(final Random random) {
+			return Boolean.TRUE;
+		}
+	},
+
+	/** byte */
+	BYTE(byte.class) {
+		@Override
+		Object generate(final Random random) {
+			return Byte.valueOf((byte) random.nextInt());
+		}
+	},
+
+	/** char */
+	CHAR(char.class) {
+		@Override
+		Object generate(final Random random) {
+			return Character.valueOf((char) random.nextInt(65536));
+		}
+	},
+
+	/** double */
+	DOUBLE(double.class) {
+		@Override
+		Object generate(final Random random) {
+			return Double.valueOf(random.nextDouble());
+		}
+	},
+
+	/** float */
+	FLOAT(float.class) {
+		@Override
+		Object generate(final Random random) {
+			return Float.valueOf(random.nextFloat());
+		}
+	},
+
+	/** int */
+	INT(int.class) {
+		@Override
+		Object generate(final Random random) {
+			return Integer.valueOf(random.nextInt());
+		}
+	},
+
+	/** long */
+	LONG(long.class) {
+		@Override
+		Object generate(final Random random) {
+			return Long.valueOf(random.nextLong());
+		}
+	},
+
+	/** short */
+	SHORT(short.class) {
+		@Override
+		Object generate(final Random random) {
+			return Short.valueOf((short) random.nextInt(32767));
+		}
+	};
+
+	/** The generators by primitive type (read only after initialization). */
+	private static final Map<Class<?>, TuPrimitiveValueGenerator> GENERATORS = new IdentityHashMap<Class<?>, TuPrimitiveValueGenerator>();
+
+	static {
+		for (final TuPrimitiveValueGenerator generator : values()) {
+			GENERATORS.put(generator.primitiveType, generator);
+		}
+	}
+
+	/** The primitive type. */
+	private final Class<?> primitiveType;
+
+	/**
+	 * Constructor
+	 *
+	 * @param primitiveType
+	 */
+	private TuPrimitiveValueGenerator(final Class<?> primitiveType) {
+		this.primitiveType = primitiveType;
+	}
+
+	/**
+	 * @param random
+	 * @return Object - A boxed value of the primitive type.
+	 */
+	abstract Object generate(Random random);
+
+	/**
+	 * Returns an initialized parameter object used for verification.
+	 *
+	 * @param parameterType
+	 *            A method's parameter data type <code>Class</code>.
+	 * @param random
+	 * @return Object - A boxed value or null if the type is not primitive (e.g.
+	 *         <code>void</code>).
+	 */
+	static Object generate(final Class<?> parameterType, final Random random) {
+
+		final TuPrimitiveValueGenerator generator = GENERATORS.get(parameterType);
+
+		if (null == generator) {
+			return null;
+		}
+		return generator.generate(random);
+	}
+}
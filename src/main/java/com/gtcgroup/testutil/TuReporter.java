@@ -0,0 +1,332 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import com.gtcgroup.testutil.to.TuClassResultTO;
+
+/**
+ * <p>
+ * This class reports verified classes to its sinks without blocking the
+ * verifying threads: each class is queued (on a lock-free queue) as a whole
+ * and a single writer thread formats it into the buffered sinks, flushing them
+ * once the queue is drained. The output of a class is therefore never
+ * interleaved with that of another, and the message of an outcome is only
+ * built by a sink printing it.
+ * </p>
+ * <p>
+ * A sink failing is closed and detached; its exception is rethrown by
+ * <code>close()</code>.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+public final class TuReporter implements Closeable {
+
+	/** The longest the idle writer waits before polling the queue. */
+	private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50L);
+
+	/** The sinks; only accessed by the writer thread. */
+	private final List<TuReportSink> sinks;
+
+	/** The reported classes and flush barriers. */
+	private final ConcurrentLinkedQueue<Object> queue = new ConcurrentLinkedQueue<Object>();
+
+	/** Attribute. */
+	private final AtomicBoolean closed = new AtomicBoolean();
+
+	/**
+	 * The threads queuing an event; the writer ends once closed with none, so
+	 * an event accepted while closing is still written.
+	 */
+	private final AtomicInteger producers = new AtomicInteger();
+
+	/** Attribute. */
+	private final Thread writer;
+
+	/** Indicates the writer is (about to be) parked. */
+	private volatile boolean parked;
+
+	/** The first failure of a sink or null; read once the writer ends. */
+	private Exception failure;
+
+	/**
+	 * Constructor; starts the writer thread.
+	 *
+	 * @param sinks
+	 */
+	public TuReporter(final TuReportSink... sinks) {
+
+		super();
+
+		this.sinks = new ArrayList<TuReportSink>(Arrays.asList(sinks));
+		this.writer = new Thread(this::write, "testutil-reporter");
+		this.writer.setDaemon(true);
+		this.writer.start();
+	}
+
+	/**
+	 * Queues a verified class for its sinks; returns immediately.
+	 *
+	 * @param result
+	 * @throws IllegalStateException
+	 *             If the reporter is closed.
+	 */
+	public void report(final TuClassResultTO result) {
+		this.enqueue(result);
+	}
+
+	/**
+	 * Waits until the classes reported so far are written to the sinks and the
+	 * sinks are flushed.
+	 */
+	public void flush() {
+
+		final CountDownLatch barrier = new CountDownLatch(1);
+
+		this.enqueue(barrier);
+
+		boolean interrupted = false;
+
+		// Wait unless the writer ended.
+		while (0 < barrier.getCount() && this.writer.isAlive()) {
+
+			try {
+				barrier.await(PARK_NANOS, TimeUnit.NANOSECONDS);
+
+			} catch (final InterruptedException e) {
+				interrupted = true;
+			}
+		}
+
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Writes the classes reported, closes the sinks and ends the writer thread.
+	 *
+	 * @throws IOException
+	 *             The first failure of a sink.
+	 */
+	@Override
+	public void close() throws IOException {
+
+		if (!this.closed.compareAndSet(false, true)) {
+			return;
+		}
+
+		LockSupport.unpark(this.writer);
+
+		boolean interrupted = false;
+
+		while (this.writer.isAlive()) {
+
+			try {
+				this.writer.join();
+
+			} catch (final InterruptedException e) {
+				interrupted = true;
+			}
+		}
+
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+
+		if (this.failure instanceof IOException) {
+			throw (IOException) this.failure;
+		}
+
+		if (null != this.failure) {
+			throw new IOException(this.failure);
+		}
+	}
+
+	/**
+	 * @param event
+	 */
+	private void enqueue(final Object event) {
+
+		this.producers.incrementAndGet();
+
+		try {
+			if (this.closed.get()) {
+				throw new IllegalStateException("The reporter is closed.");
+			}
+
+			this.queue.offer(event);
+
+		} finally {
+			this.producers.decrementAndGet();
+		}
+
+		// Wake an idle writer.
+		if (this.parked) {
+			LockSupport.unpark(this.writer);
+		}
+	}
+
+	/**
+	 * The writer thread: drains the queue into the sinks until closed.
+	 */
+	private void write() {
+
+		boolean written = false;
+
+		for (;;) {
+
+			final Object event = this.queue.poll();
+
+			if (event instanceof TuClassResultTO) {
+
+				this.reportToSinks((TuClassResultTO) event);
+				written = true;
+
+			} else if (event instanceof CountDownLatch) {
+
+				this.flushSinks();
+				written = false;
+				((CountDownLatch) event).countDown();
+
+			} else {
+
+				// The queue is drained.
+				if (written) {
+					this.flushSinks();
+					written = false;
+				}
+
+				// Determine if closed with no event being queued.
+				if (this.closed.get() && 0 == this.producers.get() && this.queue.isEmpty()) {
+					break;
+				}
+
+				this.parked = true;
+
+				if (this.queue.isEmpty() && !this.closed.get()) {
+					LockSupport.parkNanos(this, PARK_NANOS);
+				}
+				this.parked = false;
+			}
+		}
+
+		for (final TuReportSink sink : this.sinks) {
+
+			try {
+				sink.close();
+
+			} catch (final IOException | RuntimeException e) {
+				this.fail(e);
+			}
+		}
+	}
+
+	/**
+	 * @param result
+	 */
+	private void reportToSinks(final TuClassResultTO result) {
+
+		for (final Iterator<TuReportSink> iterator = this.sinks.iterator(); iterator.hasNext();) {
+
+			final TuReportSink sink = iterator.next();
+
+			try {
+				sink.report(result);
+
+			} catch (final IOException | RuntimeException e) {
+				this.detach(iterator, sink, e);
+			}
+		}
+	}
+
+	/**
+	 * Flushes the sinks.
+	 */
+	private void flushSinks() {
+
+		for (final Iterator<TuReportSink> iterator = this.sinks.iterator(); iterator.hasNext();) {
+
+			final TuReportSink sink = iterator.next();
+
+			try {
+				sink.flush();
+
+			} catch (final IOException | RuntimeException e) {
+				this.detach(iterator, sink, e);
+			}
+		}
+	}
+
+	/**
+	 * Closes and detaches a failed sink.
+	 *
+	 * @param iterator
+	 * @param sink
+	 * @param e
+	 */
+	private void detach(final Iterator<TuReportSink> iterator, final TuReportSink sink, final Exception e) {
+
+		iterator.remove();
+		this.fail(e);
+
+		try {
+			sink.close();
+
+		} catch (final IOException | RuntimeException ignore) {
+			// The failure is recorded.
+		}
+	}
+
+	/**
+	 * @param e
+	 */
+	private void fail(final Exception e) {
+
+		if (null == this.failure) {
+			this.failure = e;
+		}
+	}
+}
@@ -0,0 +1,595 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import com.gtcgroup.testutil.to.TuClassResultTO;
+import com.gtcgroup.testutil.to.TuOutcomeTO;
+
+/**
+ * <p>
+ * This class is an append-only store of verification results in a
+ * memory-mapped file (default <code>build/testutil/results.store</code>). Each
+ * verified class is appended as one record holding the run id, class seed,
+ * elapsed time, outcome counts and the outcomes of its setter/getter pairs.
+ * </p>
+ * <p>
+ * Records are chained on disk to the previous record of the same class and of
+ * the same run; only the newest offset of each class and run is held on the
+ * heap, so lookups read just the matching records.
+ * </p>
+ * <p>
+ * Shards in separate JVMs may share the store: each access holds a lock on the
+ * file and first indexes the records appended by other JVMs, and run ids are
+ * allocated from the file header. Appends are queued; whichever thread finds
+ * no other appending writes the queued records in a batch under one lock, so
+ * concurrent verifications do not wait on the file.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+public final class TuResultStore implements Closeable {
+
+	/** Attribute. */
+	private static final String STORE_FILE_NAME = "results.store";
+
+	/** Attribute. */
+	private static final int MAGIC = 0x54555253;
+
+	/** Attribute. */
+	private static final int FORMAT_VERSION = 2;
+
+	/**
+	 * Magic, version, the end (long) of the appended records and the last
+	 * (long) run id.
+	 */
+	private static final int HEADER_SIZE = 24;
+
+	/** Attribute. */
+	private static final int END_OFFSET = 8;
+
+	/** Attribute. */
+	private static final int RUN_ID_OFFSET = 16;
+
+	/** Serializes the file locks of the stores within this JVM. */
+	private static final Object FILE_LOCK_MONITOR = new Object();
+
+	/** Attribute. */
+	private static final int INITIAL_CAPACITY = 1 << 20;
+
+	/** Attribute. */
+	private static final long NONE = -1L;
+
+	/**
+	 * Record layout: length, run id, previous offset for the class, previous
+	 * offset for the run, class seed, elapsed nanos, counts, pair count, class
+	 * name and then the pairs (kind, setter name, getter name).
+	 */
+	private static final int FIXED_RECORD_SIZE = 4 + 8 + 8 + 8 + 8 + 8 + 8 * TuOutcomeTO.Kind.values().length + 4;
+
+	/** Attribute. */
+	private final FileChannel channel;
+
+	/** Attribute. */
+	private MappedByteBuffer buffer;
+
+	/** The end of the indexed records. */
+	private long end;
+
+	/** The newest record offset by class name. */
+	private final Map<String, Long> classHeads = new HashMap<String, Long>();
+
+	/** The newest record offset by run id. */
+	private final Map<Long, Long> runHeads = new HashMap<Long, Long>();
+
+	/** Attribute. */
+	private volatile long runId;
+
+	/** The records queued for appending. */
+	private final ConcurrentLinkedQueue<Runnable> pending = new ConcurrentLinkedQueue<Runnable>();
+
+	/** Indicates a thread is appending the queued records. */
+	private final AtomicBoolean appending = new AtomicBoolean();
+
+	/**
+	 * Constructor
+	 *
+	 * @param storeFile
+	 * @throws IOException
+	 */
+	private TuResultStore(final File storeFile) throws IOException {
+
+		super();
+
+		Files.createDirectories(storeFile.getAbsoluteFile().getParentFile().toPath());
+
+		this.channel = FileChannel.open(storeFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+
+		try {
+			this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0,
+					Math.max(INITIAL_CAPACITY, this.channel.size()));
+
+		} catch (final IOException | RuntimeException e) {
+			this.channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Opens the store in the (declared) index directory and begins a run.
+	 *
+	 * @return {@link TuResultStore}
+	 * @throws IOException
+	 */
+	public static TuResultStore open() throws IOException {
+
+		return open(new File(TuClassPathIndex.getIndexFile().getParentFile(), STORE_FILE_NAME));
+	}
+
+	/**
+	 * Opens (or creates) a store and begins a run.
+	 *
+	 * @param storeFile
+	 * @return {@link TuResultStore}
+	 * @throws IOException
+	 */
+	public static TuResultStore open(final File storeFile) throws IOException {
+
+		final TuResultStore store = new TuResultStore(storeFile);
+
+		try {
+			store.beginRun();
+
+		} catch (final RuntimeException e) {
+			store.close();
+			throw e;
+		}
+		return store;
+	}
+
+	/**
+	 * Begins a new run; subsequent records carry its id.
+	 *
+	 * @return long - The run id.
+	 */
+	public synchronized long beginRun() {
+
+		return this.underFileLock(() -> {
+
+			this.appendPending();
+			this.runId = this.buffer.getLong(RUN_ID_OFFSET) + 1;
+			this.buffer.putLong(RUN_ID_OFFSET, this.runId);
+
+			return Long.valueOf(this.runId);
+		}).longValue();
+	}
+
+	/**
+	 * @return long - The id of the current run.
+	 */
+	public long getRunId() {
+		return this.runId;
+	}
+
+	/**
+	 * Appends the result of a verified class to the current run; it is written
+	 * by this thread or one already appending.
+	 *
+	 * @param className
+	 * @param classSeed
+	 * @param elapsedNanos
+	 * @param outcomes
+	 */
+	public void append(final String className, final long classSeed, final long elapsedNanos,
+			final List<TuOutcomeTO> outcomes) {
+
+		final long id = this.runId;
+
+		this.pending.offer(() -> this.appendRecord(id, className, classSeed, elapsedNanos, outcomes));
+
+		// Append the queued records unless another thread is.
+		while (!this.pending.isEmpty() && this.appending.compareAndSet(false, true)) {
+
+			try {
+				this.underFileLock(() -> {
+					this.appendPending();
+					return null;
+				});
+
+			} finally {
+				this.appending.set(false);
+			}
+		}
+	}
+
+	/**
+	 * Writes the queued records; invoked holding the file lock.
+	 */
+	private void appendPending() {
+
+		for (Runnable record = this.pending.poll(); null != record; record = this.pending.poll()) {
+			record.run();
+		}
+	}
+
+	/**
+	 * @param id
+	 *            The run id.
+	 * @param className
+	 * @param classSeed
+	 * @param elapsedNanos
+	 * @param outcomes
+	 */
+	private void appendRecord(final long id, final String className, final long classSeed, final long elapsedNanos,
+			final List<TuOutcomeTO> outcomes) {
+
+		// Initialize.
+		final long[] counts = TuOutcomeTO.countByKind(outcomes);
+		final List<TuOutcomeTO> pairs = new ArrayList<TuOutcomeTO>();
+
+		for (final TuOutcomeTO outcome : outcomes) {
+			if (null != outcome.getSetterName()) {
+				pairs.add(outcome);
+			}
+		}
+
+		int length = FIXED_RECORD_SIZE + encodedLength(className);
+		for (final TuOutcomeTO pair : pairs) {
+			length += 1 + encodedLength(pair.getSetterName()) + encodedLength(pair.getGetterName());
+		}
+
+		final int offset = this.reserve(length);
+		final Long previousForClass = this.classHeads.get(className);
+		final Long previousForRun = this.runHeads.get(Long.valueOf(id));
+
+		// Write the record.
+		final ByteBuffer record = this.buffer.duplicate();
+		record.position(offset);
+
+		record.putInt(length);
+		record.putLong(id);
+		record.putLong(null == previousForClass ? NONE : previousForClass.longValue());
+		record.putLong(null == previousForRun ? NONE : previousForRun.longValue());
+		record.putLong(classSeed);
+		record.putLong(elapsedNanos);
+		for (final long count : counts) {
+			record.putLong(count);
+		}
+		record.putInt(pairs.size());
+		putString(record, className);
+
+		for (final TuOutcomeTO pair : pairs) {
+			record.put((byte) pair.getKind().ordinal());
+			putString(record, pair.getSetterName());
+			putString(record, pair.getGetterName());
+		}
+
+		// Publish the record.
+		this.writeEnd(offset + length);
+		this.classHeads.put(className, Long.valueOf(offset));
+		this.runHeads.put(Long.valueOf(id), Long.valueOf(offset));
+	}
+
+	/**
+	 * @param className
+	 * @return List - The results of the class, newest first.
+	 */
+	public synchronized List<TuClassResultTO> findByClassName(final String className) {
+
+		return this.underFileLock(() -> {
+
+			this.appendPending();
+
+			final List<TuClassResultTO> results = new ArrayList<TuClassResultTO>();
+
+			for (long offset = offsetOrNone(this.classHeads.get(className)); NONE != offset; offset = this.buffer
+					.getLong((int) offset + 12)) {
+				results.add(this.read((int) offset));
+			}
+			return results;
+		});
+	}
+
+	/**
+	 * @param id
+	 *            The run id.
+	 * @return List - The results of the run, newest first.
+	 */
+	public synchronized List<TuClassResultTO> findByRunId(final long id) {
+
+		return this.underFileLock(() -> {
+
+			this.appendPending();
+
+			final List<TuClassResultTO> results = new ArrayList<TuClassResultTO>();
+
+			for (long offset = offsetOrNone(this.runHeads.get(Long.valueOf(id))); NONE != offset; offset = this.buffer
+					.getLong((int) offset + 20)) {
+				results.add(this.read((int) offset));
+			}
+			return results;
+		});
+	}
+
+	/**
+	 * Appends the queued records, forces them to the file and closes it.
+	 *
+	 * @throws IOException
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+
+		if (this.channel.isOpen()) {
+
+			this.underFileLock(() -> {
+				this.appendPending();
+				return null;
+			});
+			this.buffer.force();
+			this.channel.close();
+		}
+	}
+
+	/**
+	 * Runs an action while holding the file lock, after indexing the records
+	 * appended by other stores.
+	 *
+	 * @param action
+	 * @return Object
+	 */
+	private <T> T underFileLock(final Supplier<T> action) {
+
+		synchronized (FILE_LOCK_MONITOR) {
+
+			try {
+				final FileLock lock = this.channel.lock();
+
+				try {
+					this.refresh();
+					return action.get();
+
+				} finally {
+					lock.release();
+				}
+
+			} catch (final IOException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	/**
+	 * Initializes the header of a new file or indexes the records appended
+	 * since the last access.
+	 */
+	private void refresh() {
+
+		// Determine if the file is new (or of a former format).
+		if (MAGIC != this.buffer.getInt(0) || FORMAT_VERSION != this.buffer.getInt(4)) {
+
+			this.buffer.putInt(0, MAGIC);
+			this.buffer.putInt(4, FORMAT_VERSION);
+			this.buffer.putLong(RUN_ID_OFFSET, 0L);
+			this.writeEnd(HEADER_SIZE);
+
+			this.classHeads.clear();
+			this.runHeads.clear();
+			return;
+		}
+
+		final long fileEnd = this.buffer.getLong(END_OFFSET);
+
+		if (fileEnd > this.buffer.capacity()) {
+			this.remap(fileEnd);
+		}
+		this.index(fileEnd);
+	}
+
+	/**
+	 * Advances the class and run heads by scanning the record headers.
+	 *
+	 * @param fileEnd
+	 */
+	private void index(final long fileEnd) {
+
+		for (long offset = Math.max(HEADER_SIZE, this.end); offset < fileEnd; offset += this.buffer
+				.getInt((int) offset)) {
+
+			final int position = (int) offset;
+			final Long boxedOffset = Long.valueOf(offset);
+
+			final ByteBuffer name = this.buffer.duplicate();
+			name.position(position + FIXED_RECORD_SIZE);
+
+			this.classHeads.put(getString(name), boxedOffset);
+			this.runHeads.put(Long.valueOf(this.buffer.getLong(position + 4)), boxedOffset);
+		}
+		this.end = fileEnd;
+	}
+
+	/**
+	 * Reads a record.
+	 *
+	 * @param offset
+	 * @return {@link TuClassResultTO}
+	 */
+	private TuClassResultTO read(final int offset) {
+
+		final ByteBuffer record = this.buffer.duplicate();
+		record.position(offset + 4);
+
+		final long id = record.getLong();
+		record.position(offset + 28);
+
+		final long classSeed = record.getLong();
+		final long elapsedNanos = record.getLong();
+
+		final long[] counts = new long[TuOutcomeTO.Kind.values().length];
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = record.getLong();
+		}
+
+		final int pairCount = record.getInt();
+		final String className = getString(record);
+		final List<TuOutcomeTO> pairs = new ArrayList<TuOutcomeTO>(pairCount);
+
+		for (int i = 0; i < pairCount; i++) {
+
+			final TuOutcomeTO.Kind kind = TuOutcomeTO.Kind.values()[record.get()];
+			pairs.add(new TuOutcomeTO(kind, className, getString(record), getString(record), null));
+		}
+		return new TuClassResultTO(id, className, classSeed, elapsedNanos, counts, pairs);
+	}
+
+	/**
+	 * Reserves space for a record, growing the mapping as needed.
+	 *
+	 * @param length
+	 * @return int - The offset of the record.
+	 */
+	private int reserve(final int length) {
+
+		final long required = this.end + length;
+
+		if (required > this.buffer.capacity()) {
+
+			if (required > Integer.MAX_VALUE) {
+				throw new IllegalStateException("The result store is full.");
+			}
+
+			long capacity = this.buffer.capacity();
+			while (capacity < required) {
+				capacity *= 2;
+			}
+			this.remap(capacity);
+		}
+		return (int) this.end;
+	}
+
+	/**
+	 * @param capacity
+	 */
+	private void remap(final long capacity) {
+
+		try {
+			this.buffer.force();
+			this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.min(capacity, Integer.MAX_VALUE));
+
+		} catch (final IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * @param newEnd
+	 */
+	private void writeEnd(final long newEnd) {
+
+		this.end = newEnd;
+		this.buffer.putLong(END_OFFSET, newEnd);
+	}
+
+	/**
+	 * @param offset
+	 * @return long
+	 */
+	private static long offsetOrNone(final Long offset) {
+
+		if (null == offset) {
+			return NONE;
+		}
+		return offset.longValue();
+	}
+
+	/**
+	 * @param value
+	 * @return int - The encoded length (including the length prefix).
+	 */
+	private static int encodedLength(final String value) {
+
+		if (null == value) {
+			return 4;
+		}
+		return 4 + value.getBytes(StandardCharsets.UTF_8).length;
+	}
+
+	/**
+	 * @param record
+	 * @param value
+	 */
+	private static void putString(final ByteBuffer record, final String value) {
+
+		if (null == value) {
+			record.putInt(-1);
+			return;
+		}
+
+		final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		record.putInt(bytes.length);
+		record.put(bytes);
+	}
+
+	/**
+	 * @param record
+	 * @return String
+	 */
+	private static String getString(final ByteBuffer record) {
+
+		final int length = record.getInt();
+
+		if (0 > length) {
+			return null;
+		}
+
+		final byte[] bytes = new byte[length];
+		record.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,257 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.gtcgroup.testutil.po.TuResultsPO;
+
+/**
+ * <p>
+ * This class accumulates the verification counters for a verification run.
+ * The counters are <code>LongAdder</code>s so workers verifying classes in
+ * parallel do not contend with each other; a <code>TuResultsPO</code> snapshot
+ * is taken once the run is complete. A JVM wide registry accumulates the
+ * totals of every run.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+public final class TuResultsRegistry {
+
+	/** The JVM wide registry. */
+	private static final TuResultsRegistry GLOBAL = new TuResultsRegistry(null);
+
+	/**
+	 * @return Returns the JVM wide registry.
+	 */
+	public static TuResultsRegistry getGlobal() {
+		return GLOBAL;
+	}
+
+	/** The registry also updated by this registry or null. */
+	private final TuResultsRegistry parent;
+
+	/** The successful verification count. */
+	private final LongAdder methodVerifications = new LongAdder();
+
+	/** The warning count. */
+	private final LongAdder totalWarnings = new LongAdder();
+
+	/** The glitch count. */
+	private final LongAdder totalGlitches = new LongAdder();
+
+	/** The class caution count. */
+	private final LongAdder classCautions = new LongAdder();
+
+	/** The class skip count. */
+	private final LongAdder classSkips = new LongAdder();
+
+	/** The nanoseconds spent in the static initializer by class name. */
+	private final ConcurrentMap<String, Long> staticInitializationNanos = new ConcurrentHashMap<String, Long>();
+
+	/** The number of slowest static initializations in a snapshot. */
+	static final int SLOWEST_STATIC_INITIALIZATIONS = 5;
+
+	/**
+	 * Constructor - for a run; the JVM wide registry is also updated.
+	 */
+	public TuResultsRegistry() {
+
+		this(GLOBAL);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param parent
+	 */
+	private TuResultsRegistry(final TuResultsRegistry parent) {
+
+		super();
+
+		this.parent = parent;
+	}
+
+	/**
+	 * Adds the counts of a verified class.
+	 *
+	 * @param context
+	 */
+	public void record(final TuVerificationContextBO context) {
+
+		this.addCounts(context.getMethodVerifications(), context.getTotalWarnings(), context.getTotalGlitches());
+	}
+
+	/**
+	 * Adds verification counts.
+	 *
+	 * @param verifications
+	 * @param warnings
+	 * @param glitches
+	 */
+	public void addCounts(final long verifications, final long warnings, final long glitches) {
+
+		this.methodVerifications.add(verifications);
+		this.totalWarnings.add(warnings);
+		this.totalGlitches.add(glitches);
+
+		if (null != this.parent) {
+			this.parent.addCounts(verifications, warnings, glitches);
+		}
+	}
+
+	/**
+	 * Adds a class that could not be instantiated.
+	 */
+	public void addClassCaution() {
+
+		this.classCautions.increment();
+
+		if (null != this.parent) {
+			this.parent.addClassCaution();
+		}
+	}
+
+	/**
+	 * Adds a class that is not verifiable.
+	 */
+	public void addClassSkip() {
+
+		this.classSkips.increment();
+
+		if (null != this.parent) {
+			this.parent.addClassSkip();
+		}
+	}
+
+	/**
+	 * Adds the time spent initializing a class.
+	 *
+	 * @param className
+	 * @param nanos
+	 */
+	public void addStaticInitialization(final String className, final long nanos) {
+
+		this.staticInitializationNanos.merge(className, Long.valueOf(nanos), Long::sum);
+
+		if (null != this.parent) {
+			this.parent.addStaticInitialization(className, nanos);
+		}
+	}
+
+	/**
+	 * @return Returns the nanoseconds spent in the static initializer by class
+	 *         name (a read only view).
+	 */
+	public Map<String, Long> getStaticInitializationNanos() {
+		return Collections.unmodifiableMap(this.staticInitializationNanos);
+	}
+
+	/**
+	 * Returns a snapshot of the counters. Counts added concurrently with the
+	 * snapshot may or may not be included.
+	 *
+	 * @return TuResultsPO
+	 */
+	public TuResultsPO snapshot() {
+
+		return new TuResultsPO(this.methodVerifications.sum(), this.totalWarnings.sum(), this.totalGlitches.sum(),
+				this.classCautions.sum(), this.classSkips.sum(), this.sumStaticInitializationNanos(),
+				this.slowestStaticInitializations());
+	}
+
+	/**
+	 * Returns a snapshot of the counters and resets them to zero.
+	 *
+	 * @return TuResultsPO
+	 */
+	public TuResultsPO snapshotThenReset() {
+
+		final long initializationNanos = this.sumStaticInitializationNanos();
+		final Map<String, Long> slowest = this.slowestStaticInitializations();
+		this.staticInitializationNanos.clear();
+
+		return new TuResultsPO(this.methodVerifications.sumThenReset(), this.totalWarnings.sumThenReset(),
+				this.totalGlitches.sumThenReset(), this.classCautions.sumThenReset(), this.classSkips.sumThenReset(),
+				initializationNanos, slowest);
+	}
+
+	/**
+	 * @return long
+	 */
+	private long sumStaticInitializationNanos() {
+
+		long sum = 0;
+		for (final Long nanos : this.staticInitializationNanos.values()) {
+			sum += nanos.longValue();
+		}
+		return sum;
+	}
+
+	/**
+	 * @return Map - The slowest static initializations, slowest first.
+	 */
+	private Map<String, Long> slowestStaticInitializations() {
+
+		final List<Map.Entry<String, Long>> entries = new ArrayList<Map.Entry<String, Long>>(
+				this.staticInitializationNanos.entrySet());
+		Collections.sort(entries, Map.Entry.<String, Long>comparingByValue().reversed());
+
+		final Map<String, Long> slowest = new LinkedHashMap<String, Long>();
+		for (final Map.Entry<String, Long> entry : entries.subList(0,
+				Math.min(SLOWEST_STATIC_INITIALIZATIONS, entries.size()))) {
+			slowest.put(entry.getKey(), entry.getValue());
+		}
+		return slowest;
+	}
+
+	/**
+	 * Resets the counters to zero.
+	 */
+	public void reset() {
+
+		this.methodVerifications.reset();
+		this.totalWarnings.reset();
+		this.totalGlitches.reset();
+		this.classCautions.reset();
+		this.classSkips.reset();
+		this.staticInitializationNanos.clear();
+	}
+}
@@ -0,0 +1,372 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * This immutable Business Object is a compiled set of rules keyed by class
+ * name patterns. A pattern is one of:
+ * </p>
+ * <ul>
+ * <li>an exact name (<code>com.acme.OrderBO</code>);</li>
+ * <li>a package (<code>com.acme.*</code>) or a package and its subpackages
+ * (<code>com.acme.**</code>), held in a trie of package segments;</li>
+ * <li>a wildcard pattern, where <code>*</code> matches within a name segment,
+ * <code>**</code> matches across segments and <code>?</code> matches a single
+ * character.</li>
+ * </ul>
+ * <p>
+ * A lookup is lock-free: a hash lookup, a walk of the package segments of the
+ * name and then the wildcard patterns (only if any are declared). The most
+ * specific rule wins: exact, then the deepest package, then the first declared
+ * wildcard.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ *
+ * @param <V>
+ *            The rule value.
+ */
+final class TuRuleSetBO<V> {
+
+	/** Attribute. */
+	private static final String PACKAGE_SUFFIX = ".*";
+
+	/** Attribute. */
+	private static final String SUBPACKAGE_SUFFIX = ".**";
+
+	/** Attribute. */
+	private final Map<String, V> exactRules;
+
+	/** Attribute. */
+	private final TuPackageNode<V> packageRoot;
+
+	/** Attribute. */
+	private final List<TuWildcardRule<V>> wildcardRules;
+
+	/** Attribute. */
+	private final boolean empty;
+
+	/**
+	 * Constructor
+	 *
+	 * @param exactRules
+	 * @param packageRoot
+	 * @param wildcardRules
+	 * @param empty
+	 */
+	private TuRuleSetBO(final Map<String, V> exactRules, final TuPackageNode<V> packageRoot,
+			final List<TuWildcardRule<V>> wildcardRules, final boolean empty) {
+
+		super();
+
+		this.exactRules = exactRules;
+		this.packageRoot = packageRoot;
+		this.wildcardRules = wildcardRules;
+		this.empty = empty;
+	}
+
+	/**
+	 * Compiles the declared rules.
+	 *
+	 * @param declarations
+	 *            The rule values by pattern, in order of declaration.
+	 * @return {@link TuRuleSetBO}
+	 */
+	static <V> TuRuleSetBO<V> compile(final Map<String, V> declarations) {
+
+		// Initialize.
+		final Map<String, V> exactRules = new HashMap<String, V>();
+		final TuPackageNode<V> packageRoot = new TuPackageNode<V>();
+		final List<TuWildcardRule<V>> wildcardRules = new ArrayList<TuWildcardRule<V>>();
+
+		for (final Map.Entry<String, V> declaration : declarations.entrySet()) {
+
+			final String pattern = declaration.getKey();
+
+			if (null == pattern || pattern.isEmpty()) {
+				throw new IllegalArgumentException("A rule pattern is required.");
+			}
+
+			if (pattern.endsWith(SUBPACKAGE_SUFFIX) && isLiteral(pattern, SUBPACKAGE_SUFFIX)) {
+
+				packageRoot.descend(pattern.substring(0, pattern.length() - SUBPACKAGE_SUFFIX.length()))
+						.subtreeValue = declaration.getValue();
+
+			} else if (pattern.endsWith(PACKAGE_SUFFIX) && isLiteral(pattern, PACKAGE_SUFFIX)) {
+
+				packageRoot.descend(pattern.substring(0, pattern.length() - PACKAGE_SUFFIX.length()))
+						.packageValue = declaration.getValue();
+
+			} else if (isLiteral(pattern, "")) {
+
+				exactRules.put(pattern, declaration.getValue());
+
+			} else {
+
+				wildcardRules.add(new TuWildcardRule<V>(pattern, declaration.getValue()));
+			}
+		}
+
+		packageRoot.freeze();
+
+		return new TuRuleSetBO<V>(exactRules, packageRoot, Collections.unmodifiableList(wildcardRules),
+				declarations.isEmpty());
+	}
+
+	/**
+	 * @return boolean - Indicates if no rules are declared.
+	 */
+	boolean isEmpty() {
+		return this.empty;
+	}
+
+	/**
+	 * @param name
+	 *            A class name.
+	 * @return V - The value of the most specific matching rule or null.
+	 */
+	V lookup(final String name) {
+
+		if (this.empty) {
+			return null;
+		}
+
+		// Determine if an exact rule applies.
+		final V exactValue = this.exactRules.get(name);
+
+		if (null != exactValue) {
+			return exactValue;
+		}
+
+		// Determine if a package rule applies; the deepest wins.
+		V packageValue = null;
+		TuPackageNode<V> node = this.packageRoot;
+
+		for (int start = 0; null != node;) {
+
+			if (null != node.subtreeValue) {
+				packageValue = node.subtreeValue;
+			}
+
+			final int end = name.indexOf('.', start);
+
+			if (0 > end) {
+
+				if (null != node.packageValue) {
+					packageValue = node.packageValue;
+				}
+				break;
+			}
+
+			node = node.children.get(name.substring(start, end));
+			start = end + 1;
+		}
+
+		if (null != packageValue) {
+			return packageValue;
+		}
+
+		// Determine if a wildcard rule applies.
+		for (final TuWildcardRule<V> rule : this.wildcardRules) {
+
+			if (rule.pattern.matcher(name).matches()) {
+				return rule.value;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @param name
+	 *            A class name.
+	 * @param predicate
+	 * @return boolean - Indicates if the value of any matching rule satisfies
+	 *         the predicate.
+	 */
+	boolean anyMatch(final String name, final Predicate<? super V> predicate) {
+
+		if (this.empty) {
+			return false;
+		}
+
+		final V exactValue = this.exactRules.get(name);
+
+		if (null != exactValue && predicate.test(exactValue)) {
+			return true;
+		}
+
+		TuPackageNode<V> node = this.packageRoot;
+
+		for (int start = 0; null != node;) {
+
+			if (null != node.subtreeValue && predicate.test(node.subtreeValue)) {
+				return true;
+			}
+
+			final int end = name.indexOf('.', start);
+
+			if (0 > end) {
+
+				if (null != node.packageValue && predicate.test(node.packageValue)) {
+					return true;
+				}
+				break;
+			}
+
+			node = node.children.get(name.substring(start, end));
+			start = end + 1;
+		}
+
+		for (final TuWildcardRule<V> rule : this.wildcardRules) {
+
+			if (rule.pattern.matcher(name).matches() && predicate.test(rule.value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param pattern
+	 * @param suffix
+	 * @return boolean - Indicates if the pattern (less the suffix) has no
+	 *         wildcard characters.
+	 */
+	private static boolean isLiteral(final String pattern, final String suffix) {
+
+		final String literal = pattern.substring(0, pattern.length() - suffix.length());
+		return 0 > literal.indexOf('*') && 0 > literal.indexOf('?');
+	}
+
+	/**
+	 * A node of the package trie; mutable only while compiling.
+	 */
+	private static final class TuPackageNode<V> {
+
+		/** The child nodes by package segment. */
+		Map<String, TuPackageNode<V>> children = new HashMap<String, TuPackageNode<V>>();
+
+		/** The rule for classes of the package. */
+		V packageValue;
+
+		/** The rule for classes of the package and its subpackages. */
+		V subtreeValue;
+
+		/**
+		 * @param packageName
+		 *            Empty for the root.
+		 * @return TuPackageNode - The (created) node of the package.
+		 */
+		TuPackageNode<V> descend(final String packageName) {
+
+			TuPackageNode<V> node = this;
+
+			if (packageName.isEmpty()) {
+				return node;
+			}
+
+			for (final String segment : packageName.split("\\.")) {
+
+				TuPackageNode<V> child = node.children.get(segment);
+
+				if (null == child) {
+					child = new TuPackageNode<V>();
+					node.children.put(segment, child);
+				}
+				node = child;
+			}
+			return node;
+		}
+
+		/**
+		 * Makes the (sub)trie read-only.
+		 */
+		void freeze() {
+
+			for (final TuPackageNode<V> child : this.children.values()) {
+				child.freeze();
+			}
+			this.children = Collections.unmodifiableMap(this.children);
+		}
+	}
+
+	/**
+	 * A compiled wildcard pattern.
+	 */
+	private static final class TuWildcardRule<V> {
+
+		/** Attribute. */
+		final Pattern pattern;
+
+		/** Attribute. */
+		final V value;
+
+		/**
+		 * Constructor
+		 *
+		 * @param wildcard
+		 * @param value
+		 */
+		TuWildcardRule(final String wildcard, final V value) {
+
+			final StringBuffer regex = new StringBuffer();
+
+			for (int i = 0; i < wildcard.length(); i++) {
+
+				final char character = wildcard.charAt(i);
+
+				if ('*' == character && i + 1 < wildcard.length() && '*' == wildcard.charAt(i + 1)) {
+					regex.append(".*");
+					i++;
+				} else if ('*' == character) {
+					regex.append("[^.]*");
+				} else if ('?' == character) {
+					regex.append("[^.]");
+				} else {
+					regex.append(Pattern.quote(String.valueOf(character)));
+				}
+			}
+
+			this.pattern = Pattern.compile(regex.toString());
+			this.value = value;
+		}
+	}
+}
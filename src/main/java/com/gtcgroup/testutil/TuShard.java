@@ -0,0 +1,309 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * <p>
+ * This immutable class identifies one of a number of shards verifying the
+ * classes of a package, each in its own JVM (declared with
+ * <code>-Dtestutil.shard=index/count</code>, for instance <code>2/4</code>).
+ * Every shard computes the same partition of the classes, balanced by the
+ * verification time of each class: recorded by the persisted duration history
+ * or, for a class never verified, estimated from its accessors. Each shard
+ * reads the history as persisted (the merge of the shards records their times)
+ * so the partition is unaffected by the order the shards run. Each shard
+ * writes its results
+ * to the shard directory (default <code>build/testutil/shards</code>) from
+ * which {@link TestUtil#summarizeShardResults(String, int, int, int)} merges
+ * them.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+public final class TuShard {
+
+	/** The system property declaring the shard (index/count). */
+	public static final String SYSTEM_PROPERTY = "testutil.shard";
+
+	/** The system property declaring the shard directory. */
+	public static final String DIRECTORY_PROPERTY = "testutil.shard.dir";
+
+	/** Attribute. */
+	private static final String DIRECTORY_NAME = "shards";
+
+	/** Attribute; one based. */
+	private final int index;
+
+	/** Attribute. */
+	private final int count;
+
+	/**
+	 * Constructor
+	 *
+	 * @param index
+	 * @param count
+	 */
+	private TuShard(final int index, final int count) {
+
+		super();
+
+		this.index = index;
+		this.count = count;
+	}
+
+	/**
+	 * @param index
+	 *            One based.
+	 * @param count
+	 * @return {@link TuShard}
+	 */
+	public static TuShard of(final int index, final int count) {
+
+		if (1 > count || 1 > index || index > count) {
+			throw new IllegalArgumentException(
+					"A shard index from 1 to a positive count is required [" + index + "/" + count + "].");
+		}
+		return new TuShard(index, count);
+	}
+
+	/**
+	 * @param declaration
+	 *            The shard as index/count.
+	 * @return {@link TuShard}
+	 */
+	public static TuShard parse(final String declaration) {
+
+		final int separator = null == declaration ? -1 : declaration.indexOf('/');
+
+		if (0 > separator) {
+			throw new IllegalArgumentException("A shard declared as index/count is required [" + declaration + "].");
+		}
+
+		try {
+			return of(Integer.parseInt(declaration.substring(0, separator).trim()),
+					Integer.parseInt(declaration.substring(separator + 1).trim()));
+
+		} catch (final NumberFormatException e) {
+			throw new IllegalArgumentException("A shard declared as index/count is required [" + declaration + "].");
+		}
+	}
+
+	/**
+	 * @return {@link TuShard} - The shard declared by the system property or
+	 *         null if not declared.
+	 */
+	public static TuShard fromSystemProperty() {
+
+		final String declaration = System.getProperty(SYSTEM_PROPERTY);
+
+		if (null == declaration || declaration.trim().isEmpty()) {
+			return null;
+		}
+		return parse(declaration);
+	}
+
+	/**
+	 * @return File - The (declared) directory of the shard results.
+	 */
+	public static File getDirectory() {
+
+		final String declared = System.getProperty(DIRECTORY_PROPERTY);
+
+		if (null == declared || declared.trim().isEmpty()) {
+			return new File(TuClassPathIndex.getIndexFile().getParentFile(), DIRECTORY_NAME);
+		}
+		return new File(declared.trim());
+	}
+
+	/**
+	 * @return Returns the index (one based).
+	 */
+	public int getIndex() {
+		return this.index;
+	}
+
+	/**
+	 * @return Returns the count.
+	 */
+	public int getCount() {
+		return this.count;
+	}
+
+	/**
+	 * @param directory
+	 * @return File - The results file of this shard.
+	 */
+	File getResultFile(final File directory) {
+
+		return new File(directory, TuShardResults.fileName(this.index, this.count));
+	}
+
+	/**
+	 * Selects the classes of this shard.
+	 *
+	 * @param classNames
+	 *            The classes of every shard.
+	 * @param costs
+	 *            The estimated nanoseconds by class name (may be empty).
+	 * @return List - The classes of this shard in the order given.
+	 */
+	List<String> select(final Collection<String> classNames, final Map<String, Long> costs) {
+
+		final Map<String, Integer> partition = partition(classNames, this.count, costs);
+		final List<String> selected = new ArrayList<String>();
+
+		for (final String className : classNames) {
+			if (this.index == partition.get(className).intValue()) {
+				selected.add(className);
+			}
+		}
+		return selected;
+	}
+
+	/**
+	 * Assigns each class to a shard. The assignment depends only on the class
+	 * names and the costs (not their order), so every shard computes the same
+	 * one.
+	 *
+	 * @param classNames
+	 * @param count
+	 * @param costs
+	 *            The estimated nanoseconds by class name; if none of the
+	 *            classes is estimated they are assigned by a hash of the class
+	 *            name.
+	 * @return Map - The shard index (one based) by class name.
+	 */
+	static Map<String, Integer> partition(final Collection<String> classNames, final int count,
+			final Map<String, Long> costs) {
+
+		// Initialize.
+		final List<String> sorted = new ArrayList<String>(new TreeSet<String>(classNames));
+		final Map<String, Integer> partition = new LinkedHashMap<String, Integer>();
+
+		long recordedTotal = 0;
+		int recorded = 0;
+
+		for (final String className : sorted) {
+
+			final Long cost = costs.get(className);
+
+			if (null != cost) {
+				recordedTotal += cost.longValue();
+				recorded++;
+			}
+		}
+
+		// Determine if there is no estimate to balance with.
+		if (0 == recorded) {
+
+			for (final String className : sorted) {
+				partition.put(className, Integer.valueOf(1 + Math.floorMod(spread(className.hashCode()), count)));
+			}
+			return partition;
+		}
+
+		// A class not estimated is estimated at the mean of those estimated.
+		final long estimate = Math.max(1, recordedTotal / recorded);
+		final Map<String, Long> estimates = new LinkedHashMap<String, Long>();
+
+		for (final String className : sorted) {
+
+			final Long cost = costs.get(className);
+			estimates.put(className, null == cost ? Long.valueOf(estimate) : cost);
+		}
+
+		// Assign the most costly first to the least loaded (lowest index upon
+		// a tie).
+		Collections.sort(sorted, Comparator.comparing((final String className) -> estimates.get(className))
+				.reversed().thenComparing(Comparator.naturalOrder()));
+
+		final long[] loads = new long[count];
+
+		for (final String className : sorted) {
+
+			int lightest = 0;
+			for (int i = 1; i < count; i++) {
+				if (loads[i] < loads[lightest]) {
+					lightest = i;
+				}
+			}
+			loads[lightest] += estimates.get(className).longValue();
+			partition.put(className, Integer.valueOf(1 + lightest));
+		}
+		return partition;
+	}
+
+	/**
+	 * @param hash
+	 *            The (specified) <code>String</code> hash of a class name.
+	 * @return int - The hash with its bits mixed.
+	 */
+	private static int spread(final int hash) {
+
+		int mixed = hash;
+		mixed ^= mixed >>> 16;
+		mixed *= 0x85EBCA6B;
+		mixed ^= mixed >>> 13;
+		mixed *= 0xC2B2AE35;
+		mixed ^= mixed >>> 16;
+		return mixed;
+	}
+
+	@Override
+	public boolean equals(final Object other) {
+
+		if (!(other instanceof TuShard)) {
+			return false;
+		}
+		return this.index == ((TuShard) other).index && this.count == ((TuShard) other).count;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * this.index + this.count;
+	}
+
+	@Override
+	public String toString() {
+		return this.index + "/" + this.count;
+	}
+}
@@ -0,0 +1,448 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.gtcgroup.testutil.to.TuClassResultTO;
+import com.gtcgroup.testutil.to.TuOutcomeTO;
+
+import junit.framework.AssertionFailedError;
+
+/**
+ * <p>
+ * This class holds the results of a shard: the elapsed time, static
+ * initialization time and outcome counts of each class verified. It is
+ * persisted as a compact text file in the shard directory.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+final class TuShardResults {
+
+	/** Attribute. */
+	private static final String FORMAT_HEADER = "# TestUtil shard results v1";
+
+	/** Attribute. */
+	private static final Pattern SHARD_FILE_NAME = Pattern.compile("shard-(\\d+)-of-(\\d+)\\.txt");
+
+	/** Attribute; one based or zero if merged. */
+	private final int index;
+
+	/** Attribute. */
+	private final int count;
+
+	/** The number of classes of every shard. */
+	private final int classCount;
+
+	/** Identifies the class names and costs partitioned. */
+	private final String fingerprint;
+
+	/** Attribute. */
+	private final long runSeed;
+
+	/** The records by class name. */
+	private final Map<String, TuShardClassRecord> records = new LinkedHashMap<String, TuShardClassRecord>();
+
+	/**
+	 * Constructor
+	 *
+	 * @param index
+	 * @param count
+	 * @param classCount
+	 * @param fingerprint
+	 * @param runSeed
+	 */
+	TuShardResults(final int index, final int count, final int classCount, final String fingerprint,
+			final long runSeed) {
+
+		super();
+
+		this.index = index;
+		this.count = count;
+		this.classCount = classCount;
+		this.fingerprint = fingerprint;
+		this.runSeed = runSeed;
+	}
+
+	/**
+	 * @param index
+	 * @param count
+	 * @return String - The file name of a shard.
+	 */
+	static String fileName(final int index, final int count) {
+
+		return "shard-" + index + "-of-" + count + ".txt";
+	}
+
+	/**
+	 * Identifies a partition; shards computing theirs from differing class
+	 * names or costs do not match.
+	 *
+	 * @param classNames
+	 * @param costs
+	 * @return String - A hexadecimal (FNV-1a) hash.
+	 */
+	static String fingerprint(final Collection<String> classNames, final Map<String, Long> costs) {
+
+		long hash = 0xCBF29CE484222325L;
+
+		for (final String className : new TreeSet<String>(classNames)) {
+
+			final Long cost = costs.get(className);
+			final String entry = className + "=" + (null == cost ? "" : cost.toString()) + "\n";
+
+			for (int i = 0; i < entry.length(); i++) {
+				hash ^= entry.charAt(i);
+				hash *= 0x100000001B3L;
+			}
+		}
+		return Long.toHexString(hash);
+	}
+
+	/**
+	 * Adds a verified class.
+	 *
+	 * @param result
+	 * @param staticInitializationNanos
+	 *            Or null if not initialized by the verification.
+	 */
+	void add(final TuClassResultTO result, final Long staticInitializationNanos) {
+
+		final long[] counts = new long[TuOutcomeTO.Kind.values().length];
+
+		for (final TuOutcomeTO.Kind kind : TuOutcomeTO.Kind.values()) {
+			counts[kind.ordinal()] = result.getCount(kind);
+		}
+
+		this.records.put(result.getClassName(), new TuShardClassRecord(result.getElapsedNanos(),
+				null == staticInitializationNanos ? 0 : staticInitializationNanos.longValue(), counts));
+	}
+
+	/**
+	 * Adds the counts of every class to a registry.
+	 *
+	 * @param results
+	 */
+	void addTo(final TuResultsRegistry results) {
+
+		for (final Map.Entry<String, TuShardClassRecord> entry : this.records.entrySet()) {
+
+			final long[] counts = entry.getValue().counts;
+
+			results.addCounts(counts[TuOutcomeTO.Kind.VERIFICATION.ordinal()],
+					counts[TuOutcomeTO.Kind.WARNING.ordinal()], counts[TuOutcomeTO.Kind.GLITCH.ordinal()]);
+
+			for (int i = 0; i < counts[TuOutcomeTO.Kind.CLASS_CAUTION.ordinal()]; i++) {
+				results.addClassCaution();
+			}
+			for (int i = 0; i < counts[TuOutcomeTO.Kind.CLASS_SKIP.ordinal()]; i++) {
+				results.addClassSkip();
+			}
+			if (0 < entry.getValue().staticInitializationNanos) {
+				results.addStaticInitialization(entry.getKey(), entry.getValue().staticInitializationNanos);
+			}
+		}
+	}
+
+	/**
+	 * @return Map - The elapsed nanoseconds by class name.
+	 */
+	Map<String, Long> getElapsedNanos() {
+
+		final Map<String, Long> elapsed = new LinkedHashMap<String, Long>();
+
+		for (final Map.Entry<String, TuShardClassRecord> entry : this.records.entrySet()) {
+			elapsed.put(entry.getKey(), Long.valueOf(entry.getValue().elapsedNanos));
+		}
+		return elapsed;
+	}
+
+	/**
+	 * @return Returns the index (one based or zero if merged).
+	 */
+	int getIndex() {
+		return this.index;
+	}
+
+	/**
+	 * @return Returns the count.
+	 */
+	int getCount() {
+		return this.count;
+	}
+
+	/**
+	 * @return Returns the number of classes of every shard.
+	 */
+	int getClassCount() {
+		return this.classCount;
+	}
+
+	/**
+	 * @return Returns the run seed.
+	 */
+	long getRunSeed() {
+		return this.runSeed;
+	}
+
+	/**
+	 * @return Set - The names of the classes verified.
+	 */
+	Set<String> getClassNames() {
+		return Collections.unmodifiableSet(this.records.keySet());
+	}
+
+	/**
+	 * Reads the results of every shard in a directory.
+	 *
+	 * @param directory
+	 * @return List - The shard results by index.
+	 * @throws AssertionFailedError
+	 *             If the results are unreadable or of differing shard counts.
+	 */
+	static List<TuShardResults> readShards(final File directory) throws AssertionFailedError {
+
+		final Map<Integer, File> shardFiles = new TreeMap<Integer, File>();
+		final File[] files = directory.listFiles();
+		int count = 0;
+
+		for (final File file : null == files ? new File[0] : files) {
+
+			final Matcher matcher = SHARD_FILE_NAME.matcher(file.getName());
+
+			if (!matcher.matches()) {
+				continue;
+			}
+
+			final int shardCount = Integer.parseInt(matcher.group(2));
+
+			if (0 != count && count != shardCount) {
+				throw new AssertionFailedError("The shard directory [" + directory.getAbsolutePath()
+						+ "] holds results of differing shard counts [" + count + ", " + shardCount
+						+ "]; it should be cleared before a sharded verification.");
+			}
+			count = shardCount;
+			shardFiles.put(Integer.valueOf(matcher.group(1)), file);
+		}
+
+		final List<TuShardResults> shards = new ArrayList<TuShardResults>();
+
+		for (final File file : shardFiles.values()) {
+			try {
+				shards.add(read(file));
+
+			} catch (final IOException | RuntimeException e) {
+				throw new AssertionFailedError(
+						"The shard results [" + file.getAbsolutePath() + "] could not be read [" + e + "].");
+			}
+		}
+		return shards;
+	}
+
+	/**
+	 * Merges the results of every shard of a partition.
+	 *
+	 * @param shards
+	 * @return {@link TuShardResults} - The merged results (index zero).
+	 * @throws AssertionFailedError
+	 *             If a shard is missing or the shards partitioned differently.
+	 */
+	static TuShardResults merge(final List<TuShardResults> shards) throws AssertionFailedError {
+
+		if (shards.isEmpty()) {
+			throw new AssertionFailedError("No shard results were found to merge.");
+		}
+
+		// Initialize.
+		final TuShardResults first = shards.get(0);
+		final TuShardResults merged = new TuShardResults(0, first.count, first.classCount, first.fingerprint,
+				first.runSeed);
+		final List<String> missing = new ArrayList<String>();
+
+		for (int i = 1; i <= first.count; i++) {
+			missing.add(i + "/" + first.count);
+		}
+
+		for (final TuShardResults shard : shards) {
+
+			// Determine if the shard partitioned the same classes.
+			if (!first.fingerprint.equals(shard.fingerprint) || first.classCount != shard.classCount) {
+				throw new AssertionFailedError("The shards " + first.index + "/" + first.count + " and "
+						+ shard.index + "/" + shard.count
+						+ " partitioned differing classes (or recorded times); every shard should verify the same build.");
+			}
+			missing.remove(shard.index + "/" + shard.count);
+
+			for (final Map.Entry<String, TuShardClassRecord> entry : shard.records.entrySet()) {
+
+				if (null != merged.records.put(entry.getKey(), entry.getValue())) {
+					throw new AssertionFailedError(
+							"The class [" + entry.getKey() + "] was verified by more than one shard.");
+				}
+			}
+		}
+
+		if (!missing.isEmpty()) {
+			throw new AssertionFailedError("The results of shard(s) " + missing + " are missing.");
+		}
+
+		if (merged.records.size() != merged.classCount) {
+			throw new AssertionFailedError("The shards verified [" + merged.records.size() + "] of ["
+					+ merged.classCount + "] classes.");
+		}
+		return merged;
+	}
+
+	/**
+	 * Reads persisted results.
+	 *
+	 * @param file
+	 * @return {@link TuShardResults}
+	 * @throws IOException
+	 */
+	static TuShardResults read(final File file) throws IOException {
+
+		try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+
+			if (!FORMAT_HEADER.equals(reader.readLine())) {
+				throw new IOException("Unrecognized format.");
+			}
+
+			final String[] header = reader.readLine().split("\t");
+			final TuShardResults results = new TuShardResults(Integer.parseInt(header[0]),
+					Integer.parseInt(header[1]), Integer.parseInt(header[2]), header[3], Long.parseLong(header[4]));
+
+			String line;
+			while (null != (line = reader.readLine())) {
+
+				final String[] fields = line.split("\t");
+				final long[] counts = new long[TuOutcomeTO.Kind.values().length];
+
+				for (int i = 0; i < counts.length; i++) {
+					counts[i] = Long.parseLong(fields[3 + i]);
+				}
+				results.records.put(fields[0],
+						new TuShardClassRecord(Long.parseLong(fields[1]), Long.parseLong(fields[2]), counts));
+			}
+			return results;
+		}
+	}
+
+	/**
+	 * Persists the results (replacing the file).
+	 *
+	 * @param file
+	 * @throws IOException
+	 */
+	void write(final File file) throws IOException {
+
+		final Path directory = file.getAbsoluteFile().getParentFile().toPath();
+		Files.createDirectories(directory);
+
+		final Path temporary = Files.createTempFile(directory, file.getName(), ".tmp");
+
+		try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+
+			writer.write(FORMAT_HEADER);
+			writer.newLine();
+			writer.write(this.index + "\t" + this.count + "\t" + this.classCount + "\t" + this.fingerprint + "\t"
+					+ this.runSeed);
+			writer.newLine();
+
+			for (final Map.Entry<String, TuShardClassRecord> entry : this.records.entrySet()) {
+
+				writer.write(entry.getKey() + "\t" + entry.getValue().elapsedNanos + "\t"
+						+ entry.getValue().staticInitializationNanos);
+
+				for (final long kindCount : entry.getValue().counts) {
+					writer.write("\t" + kindCount);
+				}
+				writer.newLine();
+			}
+		}
+
+		try {
+			Files.move(temporary, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+		} catch (final AtomicMoveNotSupportedException e) {
+			Files.move(temporary, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * The recorded results of a class.
+	 */
+	private static final class TuShardClassRecord {
+
+		/** Attribute. */
+		final long elapsedNanos;
+
+		/** Attribute. */
+		final long staticInitializationNanos;
+
+		/** Attribute; indexed by <code>TuOutcomeTO.Kind</code> ordinal. */
+		final long[] counts;
+
+		/**
+		 * Constructor
+		 *
+		 * @param elapsedNanos
+		 * @param staticInitializationNanos
+		 * @param counts
+		 */
+		TuShardClassRecord(final long elapsedNanos, final long staticInitializationNanos, final long[] counts) {
+			this.elapsedNanos = elapsedNanos;
+			this.staticInitializationNanos = staticInitializationNanos;
+			this.counts = counts;
+		}
+	}
+}
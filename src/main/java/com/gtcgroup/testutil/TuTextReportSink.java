@@ -0,0 +1,215 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+import com.gtcgroup.testutil.to.TuClassResultTO;
+import com.gtcgroup.testutil.to.TuOutcomeTO;
+
+/**
+ * <p>
+ * This sink writes the familiar text report: the name of each verified class
+ * followed by its warnings and glitches. The console sink writes to the
+ * current <code>System.out</code> and reports nothing in the summary-only mode
+ * (see {@link TestUtil#setSummaryOnly(boolean)}); the file sink reports every
+ * class.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+public final class TuTextReportSink extends TuChannelReportSink {
+
+	/** Attribute. */
+	private static final String LINE_SEPARATOR = System.lineSeparator();
+
+	/** Indicates the sink writes to <code>System.out</code>. */
+	private final boolean console;
+
+	/** The stream of the console channel or null. */
+	private PrintStream stream;
+
+	/** Attribute. */
+	private WritableByteChannel channel;
+
+	/**
+	 * Constructor
+	 *
+	 * @param channel
+	 *            The channel or null for the console.
+	 */
+	private TuTextReportSink(final WritableByteChannel channel) {
+
+		super();
+
+		this.console = null == channel;
+		this.channel = channel;
+	}
+
+	/**
+	 * @return {@link TuTextReportSink} - The sink writing to
+	 *         <code>System.out</code>.
+	 */
+	public static TuTextReportSink console() {
+		return new TuTextReportSink(null);
+	}
+
+	/**
+	 * @param file
+	 *            Created or truncated.
+	 * @return {@link TuTextReportSink} - The sink writing to a file.
+	 * @throws IOException
+	 */
+	public static TuTextReportSink file(final File file) throws IOException {
+		return new TuTextReportSink(openFile(file));
+	}
+
+	/**
+	 * @see com.gtcgroup.testutil.TuReportSink#report(com.gtcgroup.testutil.to.TuClassResultTO)
+	 */
+	@Override
+	public void report(final TuClassResultTO result) throws IOException {
+
+		// Determine if only the summary is reported.
+		if (this.console && TestUtil.isSummaryOnly()) {
+			return;
+		}
+
+		final StringBuilder text = new StringBuilder();
+		boolean firstWarning = true;
+		boolean firstGlitch = true;
+
+		text.append(result.getClassName());
+		text.append(LINE_SEPARATOR);
+
+		for (final TuOutcomeTO outcome : result.getPairOutcomes()) {
+
+			if (TuOutcomeTO.Kind.WARNING == outcome.getKind()) {
+
+				// Sub-header for warnings.
+				if (firstWarning) {
+					text.append("\n\t+ Verification Warning(s) - ");
+					text.append(result.getClassName());
+					text.append(" +");
+					text.append(LINE_SEPARATOR);
+					firstWarning = false;
+				}
+				text.append("\n\tWarning [# ]");
+
+				if (null != outcome.getGetterName() && null != outcome.getSetterName()) {
+					appendPair(text, outcome);
+				}
+				text.append("\n\t");
+				text.append(outcome.getMessage());
+				text.append(LINE_SEPARATOR);
+
+			} else if (TuOutcomeTO.Kind.GLITCH == outcome.getKind()) {
+
+				// Sub-header for glitches (with the seed reproducing them).
+				if (firstGlitch) {
+					text.append("\n\t++ Glitch Class: ");
+					text.append(result.getClassName());
+					text.append(" [class seed: ");
+					text.append(result.getClassSeed());
+					text.append("] ++");
+					text.append(LINE_SEPARATOR);
+					firstGlitch = false;
+				}
+				text.append("\n\tGlitch [# ]");
+				appendPair(text, outcome);
+				text.append("\n\t");
+				text.append(outcome.getMessage());
+				text.append(LINE_SEPARATOR);
+			}
+		}
+		this.write(text);
+	}
+
+	/**
+	 * @see com.gtcgroup.testutil.TuChannelReportSink#flush()
+	 */
+	@Override
+	public void flush() throws IOException {
+
+		super.flush();
+
+		if (this.console && null != this.stream) {
+			this.stream.flush();
+		}
+	}
+
+	/**
+	 * Flushes the console (never closed) or closes the file.
+	 *
+	 * @see com.gtcgroup.testutil.TuChannelReportSink#close()
+	 */
+	@Override
+	public void close() throws IOException {
+
+		if (this.console) {
+			this.flush();
+		} else {
+			super.close();
+		}
+	}
+
+	/**
+	 * @see com.gtcgroup.testutil.TuChannelReportSink#getChannel()
+	 */
+	@Override
+	protected WritableByteChannel getChannel() {
+
+		// Follow a replaced System.out.
+		if (this.console && System.out != this.stream) {
+			this.stream = System.out;
+			this.channel = Channels.newChannel(this.stream);
+		}
+		return this.channel;
+	}
+
+	/**
+	 * @param text
+	 * @param outcome
+	 */
+	private static void appendPair(final StringBuilder text, final TuOutcomeTO outcome) {
+
+		text.append(":  Setter = [");
+		text.append(outcome.getSetterName());
+		text.append("()];  Getter = [");
+		text.append(outcome.getGetterName());
+		text.append("()]");
+	}
+}
@@ -26,21 +26,19 @@
 
 package com.gtcgroup.testutil;
 
-import java.lang.reflect.Array;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.HashMap;
-import java.util.Random;
 
-import com.gtcgroup.justify.core.helper.internal.ReflectionUtilHelper;
 import com.gtcgroup.testutil.exception.TestUtilWarningException;
-import com.gtcgroup.testutil.helper.TuClassCautionUtilHelper;
 import com.gtcgroup.testutil.helper.TuMethodGlitchUtilHelper;
 import com.gtcgroup.testutil.helper.TuWarningUtilHelper;
-import com.gtcgroup.testutil.mock.EnumMock;
 import com.gtcgroup.testutil.po.TuMethodPO;
-import com.gtcgroup.testutil.po.TuMethodSetPO;
 
 /**
  * <p>
@@ -57,33 +55,94 @@ import com.gtcgroup.testutil.po.TuMethodSetPO;
 
 class TuUtil {
 
-	// Primitives
-	/** Attribute. */
-	private static Random random = new Random();
+	/** The type of a bound accessor without parameters: (target) returns result. */
+	private static final MethodType GETTER_ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
 
-	/** Attribute. */
-	private static final String BOOLEAN = "boolean";
+	/** The type of a bound accessor with one parameter: (target, argument) returns result. */
+	private static final MethodType SETTER_ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class,
+			Object.class);
 
-	/** Attribute. */
-	private static final String BYTE = "byte";
+	/** The type of any other bound accessor: (target, arguments) returns result. */
+	private static final MethodType SPREAD_ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class,
+			Object[].class);
 
-	/** Attribute. */
-	private static final String CHAR = "char";
+	/** Placeholder for an accessor that can not be bound. */
+	static final MethodHandle UNBOUND_ACCESSOR = MethodHandles.constant(Object.class, null);
 
-	/** Attribute. */
-	private static final String DOUBLE = "double";
+	/**
+	 * Binds an accessor to a <code>MethodHandle</code> of the type
+	 * <code>(Object)Object</code> (no parameters),
+	 * <code>(Object, Object)Object</code> (one parameter) or otherwise
+	 * <code>(Object, Object[])Object</code>; only the latter spreads its
+	 * arguments. Only accessors that reflection could invoke without suppressing
+	 * access checks are bound.
+	 *
+	 * @param method
+	 * @return MethodHandle - The bound accessor or <code>UNBOUND_ACCESSOR</code>.
+	 */
+	static MethodHandle bindAccessor(final Method method) {
+
+		try {
+			final int parameterCount = method.getParameterCount();
+			MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+
+			// Determine if a static accessor ignores the target.
+			if (Modifier.isStatic(method.getModifiers())) {
+				handle = MethodHandles.dropArguments(handle, 0, Object.class);
+			}
+
+			switch (parameterCount) {
+
+			case 0:
+				return handle.asType(GETTER_ACCESSOR_TYPE);
+
+			case 1:
+				return handle.asType(SETTER_ACCESSOR_TYPE);
+
+			default:
+				return handle.asSpreader(Object[].class, parameterCount).asType(SPREAD_ACCESSOR_TYPE);
+			}
+
+		} catch (final IllegalAccessException e) {
+			return UNBOUND_ACCESSOR;
+		} catch (final RuntimeException e) {
+			return UNBOUND_ACCESSOR;
+		}
+	}
+
+	/**
+	 * Indicates the arguments are accepted by a bound accessor exactly as
+	 * <code>Method.invoke()</code> would accept them. Anything else (e.g. a null
+	 * for a primitive) is left to reflection so the resulting glitch is the same.
+	 *
+	 * @param parameterTypes
+	 * @param argumentTypes
+	 *            The parameter types with primitives wrapped.
+	 * @param arguments
+	 * @return boolean
+	 */
+	private static boolean isBindable(final Class<?>[] parameterTypes, final Class<?>[] argumentTypes,
+			final Object[] arguments) {
 
-	/** Attribute. */
-	private static final String FLOAT = "float";
+		if (null == arguments || parameterTypes.length != arguments.length
+				|| argumentTypes.length != arguments.length) {
+			return false;
+		}
 
-	/** Attribute. */
-	private static final String INT = "int";
+		for (int i = 0; i < parameterTypes.length; i++) {
 
-	/** Attribute. */
-	private static final String LONG = "long";
+			if (parameterTypes[i].isPrimitive()) {
 
-	/** Attribute. */
-	private static final String SHORT = "short";
+				if (null == arguments[i] || argumentTypes[i] != arguments[i].getClass()) {
+					return false;
+				}
+
+			} else if (null != arguments[i] && !parameterTypes[i].isInstance(arguments[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
 
 	/**
 	 * Attempts to return an instantiatable <code>Class</code>. (The optional
@@ -111,24 +170,21 @@ class TuUtil {
 		// Initialize.
 		Class<?> substituteClass = parameterType;
 
-		// try {
-		// // Initialization
-		// substituteClass = TuUtil.substituteSetterType(substituteClass);
-		//
-		// } catch (final ClassNotFoundException e) {
-		//
-		// // That didn't work so well.
-		// TuWarningUtilHelper.throwSubstitutionWarningForClassNotFound(parameterType.getName(),
-		// method,
-		// constructor, e.getMessage());
-		// } catch (final Error e) {
-		//
-		// // Note: Error - perhaps NoClassDefFoundError?
-		// TuWarningUtilHelper.throwSubstitutionWarningForClassNotFound(parameterType.getName(),
-		// method,
-		// constructor, "This class excluded because of an error [" +
-		// e.getClass().getName() + "].");
-		// }
+		try {
+			// Initialization
+			substituteClass = TuUtil.substituteSetterType(substituteClass);
+
+		} catch (final ClassNotFoundException e) {
+
+			// That didn't work so well.
+			TuWarningUtilHelper.throwSubstitutionWarningForClassNotFound(parameterType.getName(), method,
+					constructor, e.getMessage());
+		} catch (final Error e) {
+
+			// Note: Error - perhaps NoClassDefFoundError?
+			TuWarningUtilHelper.throwSubstitutionWarningForClassNotFound(parameterType.getName(), method,
+					constructor, "This class excluded because of an error [" + e.getClass().getName() + "].");
+		}
 
 		// Determine if parameter type (or substitute) is an interface.
 		if (null != returnType) {
@@ -235,182 +291,83 @@ class TuUtil {
 	}
 
 	/**
-	 * This method references the applicable TO containing the optional descriptor
-	 * document(s) declaration specified exclusion from verification. A return of
-	 * <code>null</code> indicates an exclusion is not warranted.
+	 * This method references the declared rules for an exclusion from
+	 * verification. A return of <code>null</code> indicates an exclusion is not
+	 * warranted.
 	 *
-	 * @param theClass
+	 * @param className
 	 *            Class being considered for exclusion.
 	 * @return String - Identifies the exlusion reporting category or null.
 	 * @since v. 2.0
 	 */
-	static final String excludeClassFromVerification(final Class<?> theClass) {
+	static final String excludeClassFromVerification(final String className) {
 
-		// Initialize.
-		final String exclusion = null;
-
-		// // Determine if substitute type declared.
-		// if
-		// (TuCacher.getInstance().getExcludeClassFromVerification().containsElement(theClass.getName(),
-		// null)) {
-		//
-		// // Obtain the descriptor element.
-		// final TuElementTO tuElementTO =
-		// TuCacher.getInstance().getExcludeClassFromVerification()
-		// .getElementTO(theClass.getName());
-
-		// // Substitute the parameter type.
-		// exclusion = tuElementTO.getAttributeTwo();
-
-		// }
-		return exclusion;
+		return TuVerificationRules.lookupClassExclusion(className);
 	}
 
 	/**
-	 * Examines optional descriptor document for exclusions.
+	 * Examines the declared rules for exclusions.
 	 *
-	 * @param tuMethodSetBO
-	 * @param tuMethodGetBO
+	 * @param setter
+	 * @param getter
 	 * @throws TestUtilWarningException
 	 */
-	static final void excludeMethodPairsByType(final TuMethodSetPO tuMethodSetBO, final TuMethodGetBO tuMethodGetBO)
+	static final void excludeMethodPairsByType(final Method setter, final Method getter)
 			throws TestUtilWarningException {
 
-		// // Check the getter.
-		// if (TuCacher.getInstance().getExcludeMethodPairsByType()
-		// .containsElementGetter(tuMethodGetBO.getReturnType().getName())) {
-		//
-		// // Throw a warning.
-		// TuWarningUtilHelper.throwExcludedWarningForReturnType(tuMethodGetBO.getReturnType().getName());
-		// }
-
-		// Iterate through the setter array.
-		// for (int i = 0; i < tuMethodSetBO.getOriginalParameterTypes().length;
-		// i++) {
-		//
-		// // Determine if a data type was excluded.
-		// if (TuCacher.getInstance().getExcludeMethodPairsByType()
-		// .containsElementSetter(tuMethodSetBO.getOriginalParameterTypes()[i].getName()))
-		// {
-		//
-		// // Throw a warning.
-		// TuWarningUtilHelper
-		// .throwExcludedWarningForParameter(tuMethodSetBO.getOriginalParameterTypes()[i].getName());
-		// }
-		// }
+		// Check the getter.
+		if (TuVerificationRules.isTypeExcluded(getter.getReturnType().getName())) {
+
+			// Throw a warning.
+			TuWarningUtilHelper.throwExcludedWarningForReturnType(getter.getReturnType().getName());
+		}
+
+		// Iterate through the setter parameter types.
+		for (final Class<?> parameterType : setter.getParameterTypes()) {
+
+			// Determine if a data type was excluded.
+			if (TuVerificationRules.isTypeExcluded(parameterType.getName())) {
+
+				// Throw a warning.
+				TuWarningUtilHelper.throwExcludedWarningForParameter(parameterType.getName());
+			}
+		}
 		return;
 	}
 
 	/**
-	 * Returns an initialized parameter object used for verification.
+	 * Examines the declared rules for exclusions.
 	 *
-	 * @param parameterType
-	 *            A method's parameter data type <code>Class</code>.
-	 * @return Object - An initialized parameter object used for verification.
+	 * @param mutableObject
+	 * @param setterName
+	 * @throws TestUtilWarningException
 	 */
-	private static final Object initializePrimitive(final Class<?> parameterType) {
-
-		// Declare/Initialize
-		Object objPrimitive = null;
-
-		// Initialize boolean.
-		if (BOOLEAN.equals(parameterType.getName())) {
-
-			// Default assignment.
-			objPrimitive = Boolean.TRUE;
-
-		} else if (BYTE.equals(parameterType.getName())) {
-
-			// Random selection.
-			final byte[] byteArray = new byte[1];
-			random.nextBytes(byteArray);
-			objPrimitive = new Byte(byteArray[0]);
-
-		} else if (CHAR.equals(parameterType.getName())) {
-
-			// Random selection.
-			objPrimitive = new Character((char) random.nextInt(65536));
-
-		} else if (DOUBLE.equals(parameterType.getName())) {
-
-			// Random selection.
-			objPrimitive = new Double(random.nextDouble());
-
-		} else if (FLOAT.equals(parameterType.getName())) {
-
-			// Random selection.
-			objPrimitive = new Float(random.nextFloat());
-
-		} else if (INT.equals(parameterType.getName())) {
-
-			// Random selection.
-			objPrimitive = new Integer(random.nextInt());
-
-		} else if (LONG.equals(parameterType.getName())) {
-
-			// Random selection.
-			objPrimitive = new Long(random.nextLong());
+	static final void excludeMethodPairBySetter(final Object mutableObject, final String setterName)
+			throws TestUtilWarningException {
 
-		} else if (SHORT.equals(parameterType.getName())) {
+		// Determine if this setter is declared to be excluded.
+		if (TuVerificationRules.isSetterExcluded(mutableObject.getClass().getName(), setterName)) {
 
-			// Random selection.
-			objPrimitive = new Short((short) random.nextInt(32767));
+			// Issue warning for exclusion.
+			TuWarningUtilHelper.throwExcludedWarningForSetter(setterName);
 		}
 
-		return objPrimitive;
+		return;
 	}
 
-	// /**
-	// * Examines optional descriptor document for exclusions.
-	// *
-	// * @param mutableObject
-	// * @param sbSetterName
-	// */
-	// static final void excludeMethodPairBySetter(final Object mutableObject,
-	// final StringBuffer sbSetterName) {
-	//
-	// // Determine if this setter is declared to be excluded.
-	// if
-	// (TuCacher.getInstance().getExcludeMethodPairBySetter().containsElement(mutableObject.getClass().getName(),
-	// sbSetterName.toString())) {
-	//
-	// // Issue warning for exclusion.
-	// TuWarningUtilHelper.throwExcludedWarningForSetter();
-	// }
-	//
-	// return;
-	// }
-
 	/**
 	 * This method provides a control function to determine the strategy for
 	 * instantiating a parameter (data) type.
 	 *
-	 * @param theClass
-	 *            The class for which values are being initialized.
 	 * @param paramTypes
 	 *            Collection of parameter types.
 	 * @param method
 	 *            - The <code>Method</code> for which a verification object is
-	 *            initialized or null.
-	 * @param constructor
-	 *            - The <code>Constructor</code> for which an instantiated object is
-	 *            required or null.
-	 * @param loopCounter
-	 *            - Used to guard against an endless loop.
+	 *            initialized.
 	 * @return Object[] - An array of initialized parameter objects for
 	 *         verification.
 	 */
-	static final Object[] initializeValues(final Class<?> theClass, final Class<?>[] paramTypes, final Method method,
-			final Constructor<?> constructor, int loopCounter) {
-
-		// Increment
-		loopCounter++;
-
-		// Determine if endless loop.
-		if (15 < loopCounter) {
-
-			TuWarningUtilHelper.throwEndlessLoopWarning(loopCounter, theClass);
-		}
+	static final Object[] initializeValues(final Class<?>[] paramTypes, final Method method) {
 
 		// Initialize.
 		final Object[] parameterValues = new Object[paramTypes.length];
@@ -418,48 +375,20 @@ class TuUtil {
 		// Iterate through the parameter types.
 		for (int i = 0; i < paramTypes.length; i++) {
 
-			// final int modifiers = paramTypes[i].getModifiers();
-			// System.out.println(modifiers);
-			// System.out.println(paramTypes[i].getSuperclass());
-
-			if (null == paramTypes[i] || paramTypes[i].isInterface()) {
+			if (null == paramTypes[i]) {
 
 				// Initialize the parameter.
 				parameterValues[i] = TuDynamicProxy.newInstance(paramTypes[i]);
 
-			} else if (paramTypes[i].isPrimitive()) {
-
-				// Initialize the parameter.
-				parameterValues[i] = TuUtil.initializePrimitive(paramTypes[i]);
-
-			} else if (paramTypes[i].isArray()) {
-
-				// Initialize the parameter.
-				parameterValues[i] = Array.newInstance(paramTypes[i].getComponentType(), 0);
-
-			} else if (paramTypes[i] == java.lang.Enum.class) {
-
-				// Retrieve elements of the enum class or null.
-				final Object[] enumConstants = paramTypes[i].getEnumConstants();
-
-				// Determine if a valid enum was retrieved.
-				if (null == enumConstants || 0 == enumConstants.length) {
-
-					// A mock enum will be used.
-					parameterValues[i] = instantiateObjectFromClass(paramTypes[i]);
-				} else {
-					parameterValues[i] = enumConstants[0];
-				}
-
-			} else if (Modifier.isAbstract(paramTypes[i].getModifiers())) {
+			} else if (TuObjectGraphPlanBO.isAbstractClass(paramTypes[i])) {
 
 				// Issue warning for exclusion.
-				TuWarningUtilHelper.throwAbstractClassWarning(paramTypes[i], method, constructor);
+				TuWarningUtilHelper.throwAbstractClassWarning(paramTypes[i], method, null);
 
 			} else {
 
-				// Initialize the parameter.
-				parameterValues[i] = instantiateObjectFromClass(paramTypes[i]);
+				// Initialize the parameter from the (cached) object graph plan.
+				parameterValues[i] = TuObjectGraphPlanBO.forType(paramTypes[i]).newInstance();
 			}
 		}
 		return parameterValues;
@@ -490,55 +419,39 @@ class TuUtil {
 
 	public static final Object instantiateObjectFromClass(final Class<?> theClass) {
 
-		// Determine if object is a String.
-		if (TuConstants.STRING_CLASS_NAME.equals(theClass.getName())) {
-
-			// Fast return with random string.
-			final Integer intForString = new Integer(random.nextInt());
-			return new String("S" + intForString.toString());
-		}
+		// Determine if a generator builds the value.
+		final TuValueGenerator generator = TuValueGenerators.forType(theClass);
 
-		// Determine if Enum.
-		if (TuConstants.ENUM_CLASS_NAME.equals(theClass.getName())) {
+		if (null != generator) {
 
-			return EnumMock.RANDOM;
+			return generator.generate(theClass, TuValueSource.current());
 		}
 
-		// Initialization.
-		Object objInstantiated = null;
-
-		if (null == objInstantiated) {
-
-			objInstantiated = ReflectionUtilHelper.instantiatePublicConstructorNoArgument(theClass, true);
-
-			if (null == objInstantiated) {
-
-				Constructor<?> constructor = ReflectionUtilHelper.retrievePublicConstructorNoArgument(theClass);
-				objInstantiated = ReflectionUtilHelper.instantiatePublicConstructorNoArgument(constructor, true);
-
-				if (null == objInstantiated) {
-
-					constructor = ReflectionUtilHelper.retrieveNonPublicConstructorNoArgument(theClass);
-					objInstantiated = ReflectionUtilHelper.instantiatePublicConstructorNoArgument(constructor, true);
-
-					if (null == objInstantiated) {
+		// Instantiate using the memoized strategy.
+		return TuInstantiatorBO.instantiate(theClass);
+	}
 
-						final Object[] constructorParameterValues = { new String() };
-						objInstantiated = ReflectionUtilHelper
-								.instantiatePublicConstructorWithArgument(constructorParameterValues, theClass);
+	public static Object invokeMethod(final TuMethodPO tuMethodPO, final boolean booleanVerification) {
 
-						if (null == objInstantiated) {
-							TuClassCautionUtilHelper.throwClassInstantiationCaution(
-									"The class [" + theClass + "] could not be instantiated.");
-						}
-					}
-				}
-			}
-		}
-		return objInstantiated;
+		return invokeMethod(tuMethodPO, null, null, booleanVerification);
 	}
 
-	public static Object invokeMethod(final TuMethodPO tuMethodPO, final boolean booleanVerification) {
+	/**
+	 * Invokes a method with the bound accessor if provided and otherwise with
+	 * reflection.
+	 *
+	 * @param tuMethodPO
+	 * @param methodHandle
+	 *            The bound accessor or null.
+	 * @param argumentTypes
+	 *            The parameter types of the bound accessor with primitives
+	 *            wrapped (or null).
+	 * @param booleanVerification
+	 * @return Object - The object returned or null.
+	 * @since v. 6.1
+	 */
+	static Object invokeMethod(final TuMethodPO tuMethodPO, final MethodHandle methodHandle,
+			final Class<?>[] argumentTypes, final boolean booleanVerification) {
 
 		// Initialization.
 		Object objReturned = null;
@@ -550,21 +463,45 @@ class TuUtil {
 			parameterTypeName = "n/a";
 		}
 
-		try {
+		// Determine if a boolean verification.
+		final Object[] parameterValues = booleanVerification ? tuMethodPO.getParameterValuesForBoolean()
+				: tuMethodPO.getParameterValues();
 
-			// Determine if a boolean verification.
-			if (booleanVerification) {
+		// Determine if the bound accessor applies.
+		if (null != methodHandle
+				&& isBindable(tuMethodPO.getOriginalParameterTypes(), argumentTypes, parameterValues)) {
 
-				// Invoke the method.
-				objReturned = tuMethodPO.getMethod().invoke(tuMethodPO.getMutableObject(),
-						tuMethodPO.getParameterValuesForBoolean());
+			try {
 
-			} else {
+				// Invoke the method (by the type it was bound to).
+				switch (parameterValues.length) {
 
-				// Invoke the method.
-				objReturned = tuMethodPO.getMethod().invoke(tuMethodPO.getMutableObject(),
-						tuMethodPO.getParameterValues());
+				case 0:
+					objReturned = (Object) methodHandle.invokeExact(tuMethodPO.getMutableObject());
+					break;
+
+				case 1:
+					objReturned = (Object) methodHandle.invokeExact(tuMethodPO.getMutableObject(),
+							parameterValues[0]);
+					break;
+
+				default:
+					objReturned = (Object) methodHandle.invokeExact(tuMethodPO.getMutableObject(), parameterValues);
+				}
+
+			} catch (final Throwable t) {
+
+				// Report as reflection would.
+				TuMethodGlitchUtilHelper.throwMethodInvocationGlitch(tuMethodPO, parameterTypeName,
+						new InvocationTargetException(t));
 			}
+			return objReturned;
+		}
+
+		try {
+
+			// Invoke the method.
+			objReturned = tuMethodPO.getMethod().invoke(tuMethodPO.getMutableObject(), parameterValues);
 
 		} catch (final Exception e) {
 
@@ -608,8 +545,7 @@ class TuUtil {
 	}
 
 	/**
-	 * This method references the applicable TO containing the optional descriptor
-	 * document(s) declaration of substitution.
+	 * This method references the declared rules for a substitution.
 	 *
 	 * @param theClass
 	 * @return Class - Attempts to return an instantiatable <code>Class</code>.
@@ -617,24 +553,15 @@ class TuUtil {
 	 */
 	private static final Class<?> substituteSetterType(final Class<?> theClass) throws ClassNotFoundException {
 
-		// Initialize.
-		final Class<?> substituteClass = theClass;
-
-		// // Determine if substitute type declared.
-		// if
-		// (TuCacher.getInstance().getSubstituteSetterType().containsElement(theClass.getName(),
-		// null)) {
-		//
-		// // Obtain the descriptor element.
-		// final TuElementTO elementTO =
-		// TuCacher.getInstance().getSubstituteSetterType()
-		// .getElementTO(theClass.getName());
-		//
-		// // Substitute the parameter type.
-		// substituteClass = Class.forName(elementTO.getAttributeTwo());
-
-		// }
-		return substituteClass;
+		// Determine if substitute type declared.
+		final String substituteClassName = TuVerificationRules.lookupSubstitution(theClass.getName());
+
+		if (null == substituteClassName) {
+			return theClass;
+		}
+
+		// Substitute the parameter type.
+		return Class.forName(substituteClassName, true, TestUtil.getClassLoader());
 	}
 
 	/**
@@ -0,0 +1,71 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.util.Random;
+
+/**
+ * <p>
+ * This interface is the service provider interface of the parameter value
+ * generators. A generator is either discovered with
+ * <code>java.util.ServiceLoader</code> (a
+ * <code>META-INF/services/com.gtcgroup.testutil.TuValueGenerator</code>
+ * entry) or registered with {@link TuValueGenerators}; it takes precedence
+ * over the built-in generators and the reflective instantiation of the
+ * types it supports.
+ * </p>
+ * <p>
+ * The generator of a type is resolved once per <code>Class</code>. A
+ * generator is invoked concurrently and should return a new value upon each
+ * invocation, drawing any randomness from the <code>Random</code> provided
+ * so that verifications are reproducible from the run seed.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+public interface TuValueGenerator {
+
+	/**
+	 * @param type
+	 * @return boolean - Indicates the generator produces values of the type.
+	 */
+	boolean supports(Class<?> type);
+
+	/**
+	 * @param type
+	 *            A supported type.
+	 * @param random
+	 *            The source of randomness of the verification.
+	 * @return Object - A value assignable to the type.
+	 */
+	Object generate(Class<?> type, Random random);
+}
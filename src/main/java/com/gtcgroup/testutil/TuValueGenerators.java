@@ -0,0 +1,319 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * This enum holds the parameter value generators: those registered (in order
+ * of registration), then those discovered with
+ * <code>java.util.ServiceLoader</code> (from the class loader of
+ * {@link TestUtil#getClassLoader()}) and then the built-in generators. The
+ * generator of a type is the first supporting it; it is resolved once per
+ * <code>Class</code> with a <code>ClassValue</code> of the current snapshot,
+ * which each registration replaces.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+public enum TuValueGenerators {
+
+	INSTANCE;
+
+	/** Guards the registrations; lookups never take it. */
+	private static final Object REGISTRATION_LOCK = new Object();
+
+	/** The registered generators. */
+	private static final List<TuValueGenerator> registered = new ArrayList<TuValueGenerator>();
+
+	/** The discovered generators or null if not yet discovered. */
+	private static List<TuValueGenerator> discovered;
+
+	/** The class loader of the discovered generators. */
+	private static ClassLoader discoveredLoader;
+
+	/** The published snapshot or null if not yet built. */
+	private static volatile TuGeneratorSnapshot snapshot;
+
+	/**
+	 * Registers a generator; it takes precedence over those discovered and
+	 * built-in.
+	 *
+	 * @param generator
+	 */
+	public static void register(final TuValueGenerator generator) {
+
+		if (null == generator) {
+			throw new IllegalArgumentException("A generator is required.");
+		}
+
+		synchronized (REGISTRATION_LOCK) {
+			registered.add(generator);
+			snapshot = buildSnapshot();
+		}
+	}
+
+	/**
+	 * Registers a generator of exactly one type.
+	 *
+	 * @param type
+	 * @param factory
+	 *            Returns a new value from the source of randomness.
+	 */
+	public static <T> void register(final Class<T> type, final Function<Random, ? extends T> factory) {
+
+		if (null == type || null == factory) {
+			throw new IllegalArgumentException("A type and factory are required.");
+		}
+		register(new TuTypeGenerator(type, factory));
+	}
+
+	/**
+	 * Removes the registered generators (the discovered and built-in remain).
+	 */
+	public static void clearRegistered() {
+
+		synchronized (REGISTRATION_LOCK) {
+			registered.clear();
+			snapshot = buildSnapshot();
+		}
+	}
+
+	/**
+	 * @param type
+	 * @return TuValueGenerator - The generator of the type or null if the type
+	 *         is instantiated reflectively.
+	 */
+	static TuValueGenerator forType(final Class<?> type) {
+
+		return getSnapshot().dispatch.get(type).generator;
+	}
+
+	/**
+	 * @return String - Identifies the registered and discovered generators
+	 *         (and so the values they generate) across runs.
+	 */
+	static String getSignature() {
+
+		return getSnapshot().signature;
+	}
+
+	/**
+	 * @return TuGeneratorSnapshot - Identifies the current generators; replaced
+	 *         upon each registration.
+	 */
+	static TuGeneratorSnapshot getSnapshot() {
+
+		TuGeneratorSnapshot current = snapshot;
+
+		// Determine if (re)discovery is required.
+		if (null == current || current.loader != TestUtil.getClassLoader()) {
+
+			synchronized (REGISTRATION_LOCK) {
+
+				if (null == snapshot || snapshot.loader != TestUtil.getClassLoader()) {
+					snapshot = buildSnapshot();
+				}
+				current = snapshot;
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * Builds a snapshot; invoked holding the registration lock.
+	 *
+	 * @return TuGeneratorSnapshot
+	 */
+	private static TuGeneratorSnapshot buildSnapshot() {
+
+		final ClassLoader loader = TestUtil.getClassLoader();
+
+		// Discover upon first use of a class loader.
+		if (null == discovered || discoveredLoader != loader) {
+			discovered = discover(loader);
+			discoveredLoader = loader;
+		}
+
+		final List<TuValueGenerator> generators = new ArrayList<TuValueGenerator>(registered);
+
+		generators.addAll(discovered);
+		Collections.addAll(generators, TuBuiltInValueGenerator.values());
+
+		return new TuGeneratorSnapshot(generators, loader);
+	}
+
+	/**
+	 * @param loader
+	 * @return List - The generators of the service providers; a provider that
+	 *         can not be loaded ends discovery.
+	 */
+	private static List<TuValueGenerator> discover(final ClassLoader loader) {
+
+		final List<TuValueGenerator> providers = new ArrayList<TuValueGenerator>();
+
+		try {
+			final Iterator<TuValueGenerator> iterator = ServiceLoader
+					.load(TuValueGenerator.class, loader).iterator();
+
+			while (iterator.hasNext()) {
+				providers.add(iterator.next());
+			}
+
+		} catch (final ServiceConfigurationError e) {
+			// Verify with the generators loaded.
+		}
+		return providers;
+	}
+
+	/**
+	 * An immutable snapshot of the generators with its dispatch.
+	 */
+	static final class TuGeneratorSnapshot {
+
+		/** Attribute. */
+		private final List<TuValueGenerator> generators;
+
+		/** The class loader of the discovered generators. */
+		final ClassLoader loader;
+
+		/** Attribute. */
+		final String signature;
+
+		/** The generator per type (resolved once). */
+		private final ClassValue<TuGeneratorEntry> dispatch = new ClassValue<TuGeneratorEntry>() {
+
+			@Override
+			protected TuGeneratorEntry computeValue(final Class<?> type) {
+
+				for (final TuValueGenerator generator : TuGeneratorSnapshot.this.generators) {
+
+					if (generator.supports(type)) {
+						return new TuGeneratorEntry(generator);
+					}
+				}
+				return TuGeneratorEntry.NONE;
+			}
+		};
+
+		/**
+		 * Constructor
+		 *
+		 * @param generators
+		 * @param loader
+		 */
+		TuGeneratorSnapshot(final List<TuValueGenerator> generators, final ClassLoader loader) {
+			this.generators = generators;
+			this.loader = loader;
+
+			final StringBuilder builder = new StringBuilder();
+
+			for (final TuValueGenerator generator : generators) {
+
+				if (generator instanceof TuTypeGenerator) {
+					builder.append(generator).append(';');
+
+				} else if (!(generator instanceof TuBuiltInValueGenerator)) {
+					builder.append(generator.getClass().getName()).append(';');
+				}
+			}
+			this.signature = builder.toString();
+		}
+	}
+
+	/**
+	 * The generator of exactly one type.
+	 */
+	private static final class TuTypeGenerator implements TuValueGenerator {
+
+		/** Attribute. */
+		private final Class<?> type;
+
+		/** Attribute. */
+		private final Function<Random, ?> factory;
+
+		/**
+		 * Constructor
+		 *
+		 * @param type
+		 * @param factory
+		 */
+		TuTypeGenerator(final Class<?> type, final Function<Random, ?> factory) {
+			this.type = type;
+			this.factory = factory;
+		}
+
+		@Override
+		public boolean supports(final Class<?> candidate) {
+			return this.type == candidate;
+		}
+
+		@Override
+		public Object generate(final Class<?> candidate, final Random random) {
+			return this.factory.apply(random);
+		}
+
+		@Override
+		public String toString() {
+			return "TuTypeGenerator[" + this.type.getName() + "]";
+		}
+	}
+
+	/**
+	 * The generator resolved for a type (possibly none).
+	 */
+	private static final class TuGeneratorEntry {
+
+		/** Attribute. */
+		static final TuGeneratorEntry NONE = new TuGeneratorEntry(null);
+
+		/** Attribute. */
+		final TuValueGenerator generator;
+
+		/**
+		 * Constructor
+		 *
+		 * @param generator
+		 */
+		TuGeneratorEntry(final TuValueGenerator generator) {
+			this.generator = generator;
+		}
+	}
+}
@@ -0,0 +1,239 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * This enum provides the seed controlled source of verification values. A run
+ * seed is declared with the system property <code>testutil.seed</code> (or set
+ * programmatically) and otherwise chosen at random; it is displayed in the
+ * summary. Each class is verified with a <code>Random</code> whose seed is
+ * derived from the run seed and the class name, so a class is verified with
+ * identical values whether it is verified alone or as part of a package (see
+ * {@link TestUtil#verifyClass(String, long)}).
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+public enum TuValueSource {
+
+	/** Singleton. */
+	INSTANCE;
+
+	/** The system property declaring the run seed. */
+	public static final String SYSTEM_PROPERTY = "testutil.seed";
+
+	/** The (fixed) seed of the values of a trial build. */
+	private static final long TRIAL_SEED = 0x5452494C;
+
+	/** The run seed. */
+	private static volatile long runSeed = initialRunSeed();
+
+	/** The run seed of a re-verification on this thread. */
+	private static final ThreadLocal<Long> THREAD_RUN_SEED = new ThreadLocal<Long>();
+
+	/** The source bound to the class being verified on this thread. */
+	private static final ThreadLocal<TuSeededRandom> BOUND = new ThreadLocal<TuSeededRandom>();
+
+	/**
+	 * @return long - The declared seed or a random one.
+	 */
+	private static long initialRunSeed() {
+
+		final String declaredSeed = System.getProperty(SYSTEM_PROPERTY);
+
+		if (null == declaredSeed || declaredSeed.trim().isEmpty()) {
+			return ThreadLocalRandom.current().nextLong();
+		}
+		return Long.decode(declaredSeed.trim()).longValue();
+	}
+
+	/**
+	 * @return Returns the run seed (of a re-verification on this thread, if
+	 *         any).
+	 */
+	public static long getRunSeed() {
+
+		final Long seed = THREAD_RUN_SEED.get();
+
+		if (null == seed) {
+			return runSeed;
+		}
+		return seed.longValue();
+	}
+
+	/**
+	 * @param seed
+	 *            The run seed for subsequent verifications.
+	 */
+	public static void setRunSeed(final long seed) {
+		runSeed = seed;
+	}
+
+	/**
+	 * Derives the seed of a class from the run seed.
+	 *
+	 * @param className
+	 * @return long - The class seed.
+	 */
+	public static long deriveClassSeed(final String className) {
+
+		// Spread the class name, then mix (as SplittableRandom does).
+		long seed = getRunSeed() ^ className.hashCode() * 0x9E3779B97F4A7C15L;
+		seed = (seed ^ seed >>> 30) * 0xBF58476D1CE4E5B9L;
+		seed = (seed ^ seed >>> 27) * 0x94D049BB133111EBL;
+		return seed ^ seed >>> 31;
+	}
+
+	/**
+	 * Binds the seeded source of a class to the current thread.
+	 *
+	 * @param className
+	 */
+	static void bindClass(final String className) {
+
+		BOUND.set(new TuSeededRandom(deriveClassSeed(className)));
+	}
+
+	/**
+	 * Releases the source bound to the current thread.
+	 */
+	static void unbindClass() {
+
+		BOUND.remove();
+	}
+
+	/**
+	 * Performs a call on the current thread with the given run seed; the run
+	 * seed of other verifications is unaffected.
+	 *
+	 * @param seed
+	 * @param call
+	 * @return T - The result of the call.
+	 */
+	static <T> T callWithRunSeed(final long seed, final Supplier<T> call) {
+
+		final Long previous = THREAD_RUN_SEED.get();
+
+		THREAD_RUN_SEED.set(Long.valueOf(seed));
+		try {
+			return call.get();
+
+		} finally {
+			if (null == previous) {
+				THREAD_RUN_SEED.remove();
+			} else {
+				THREAD_RUN_SEED.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * Performs a trial build with values from a fixed seed rather than the
+	 * source bound to the current thread; the values of the class being
+	 * verified are therefore the same whether or not a trial build occurs.
+	 *
+	 * @param build
+	 * @return T - The result of the build.
+	 */
+	static <T> T callWithTrialSource(final Supplier<T> build) {
+
+		final TuSeededRandom bound = BOUND.get();
+
+		BOUND.set(new TuSeededRandom(TRIAL_SEED));
+		try {
+			return build.get();
+
+		} finally {
+			if (null == bound) {
+				BOUND.remove();
+			} else {
+				BOUND.set(bound);
+			}
+		}
+	}
+
+	/**
+	 * @return Long - The seed of the class bound to the current thread or null.
+	 */
+	static Long getBoundClassSeed() {
+
+		final TuSeededRandom random = BOUND.get();
+
+		if (null == random) {
+			return null;
+		}
+		return Long.valueOf(random.classSeed);
+	}
+
+	/**
+	 * Returns the source of verification values. Outside of a bound class
+	 * verification (e.g. direct helper invocation) values are not reproducible.
+	 *
+	 * @return Random
+	 */
+	static Random current() {
+
+		final Random random = BOUND.get();
+
+		if (null == random) {
+			return ThreadLocalRandom.current();
+		}
+		return random;
+	}
+
+	/**
+	 * A <code>Random</code> retaining its seed for display.
+	 */
+	private static final class TuSeededRandom extends Random {
+
+		/** Attribute. */
+		private static final long serialVersionUID = 1L;
+
+		/** The class seed. */
+		final long classSeed;
+
+		/**
+		 * Constructor
+		 *
+		 * @param classSeed
+		 */
+		TuSeededRandom(final long classSeed) {
+			super(classSeed);
+			this.classSeed = classSeed;
+		}
+	}
+}
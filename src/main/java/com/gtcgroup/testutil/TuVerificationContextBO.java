@@ -0,0 +1,155 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.gtcgroup.testutil.to.TuOutcomeTO;
+
+/**
+ * <p>
+ * This Business Object holds the state of verifying a single mutable object.
+ * It owns the prepared <code>TuMethodPairBO</code>s along with the warning,
+ * glitch and verification counters for that one class, so a verification is
+ * proportional to its own accessors. An instance is confined to the thread
+ * verifying the class.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+public final class TuVerificationContextBO {
+
+	/** Mutable object whose methods are subject to verification. */
+	private final Object mutableObject;
+
+	/**
+	 * A collection of the <code>TuMethodPairBO</code>s for which test objects
+	 * were successfully instantiated.
+	 */
+	private final List<TuMethodPairBO> tuMethodPairBOsList = new ArrayList<TuMethodPairBO>();
+
+	/** The outcomes in order of occurrence. */
+	private final List<TuOutcomeTO> outcomes = new ArrayList<TuOutcomeTO>();
+
+	/** The successful verification count. */
+	private int methodVerifications = 0;
+
+	/** The warning count. */
+	private int totalWarnings = 0;
+
+	/** The glitch count. */
+	private int totalGlitches = 0;
+
+	/**
+	 * Constructor
+	 *
+	 * @param mutableObject
+	 *            Mutable object whose methods are subject to verification.
+	 */
+	public TuVerificationContextBO(final Object mutableObject) {
+
+		super();
+
+		this.mutableObject = mutableObject;
+	}
+
+	/**
+	 * @return Returns the mutable object.
+	 */
+	public Object getMutableObject() {
+		return this.mutableObject;
+	}
+
+	/**
+	 * @return Returns the name of the class being verified.
+	 */
+	public String getClassName() {
+		return this.mutableObject.getClass().getName();
+	}
+
+	/**
+	 * @return Returns the successful verification count.
+	 */
+	public int getMethodVerifications() {
+		return this.methodVerifications;
+	}
+
+	/**
+	 * @return Returns the warning count.
+	 */
+	public int getTotalWarnings() {
+		return this.totalWarnings;
+	}
+
+	/**
+	 * @return Returns the glitch count.
+	 */
+	public int getTotalGlitches() {
+		return this.totalGlitches;
+	}
+
+	/**
+	 * @return Returns the outcomes (unmodifiable) in order of occurrence.
+	 * @since v. 6.1
+	 */
+	public List<TuOutcomeTO> getOutcomes() {
+		return Collections.unmodifiableList(this.outcomes);
+	}
+
+	/**
+	 * @return Returns the list of <code>TuMethodPairBO</code>s.
+	 */
+	List<TuMethodPairBO> getTuMethodPairBOsList() {
+		return this.tuMethodPairBOsList;
+	}
+
+	void addMethodVerification(final String setterName, final String getterName) {
+		this.methodVerifications++;
+		this.outcomes.add(new TuOutcomeTO(TuOutcomeTO.Kind.VERIFICATION, this.getClassName(), setterName,
+				getterName, null));
+	}
+
+	void addWarning(final String setterName, final String getterName, final Supplier<String> messageSupplier) {
+		this.totalWarnings++;
+		this.outcomes.add(new TuOutcomeTO(TuOutcomeTO.Kind.WARNING, this.getClassName(), setterName, getterName,
+				messageSupplier));
+	}
+
+	void addGlitch(final String setterName, final String getterName, final Supplier<String> messageSupplier) {
+		this.totalGlitches++;
+		this.outcomes.add(new TuOutcomeTO(TuOutcomeTO.Kind.GLITCH, this.getClassName(), setterName, getterName,
+				messageSupplier));
+	}
+}
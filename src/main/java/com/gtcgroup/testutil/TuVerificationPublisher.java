@@ -0,0 +1,427 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import com.gtcgroup.testutil.po.TuResultsPO;
+import com.gtcgroup.testutil.to.TuClassResultTO;
+
+/**
+ * <p>
+ * This immutable class verifies a stream of classes (or class names) and
+ * publishes the result of each class as it completes to a
+ * {@link TuVerificationSubscriber}. The source is consumed lazily: a class is
+ * only started once requested by the subscriber, with at most the maximum in
+ * flight at a time, so a subscriber applies backpressure through its demand
+ * and may cancel (for instance upon the first glitches) without the remaining
+ * classes being verified.
+ * </p>
+ * <p>
+ * By default the classes are verified one at a time on the thread requesting
+ * them; {@link #executor(Executor, int)} verifies them concurrently. Classes
+ * are resolved by name with {@link TestUtil#getClassLoader()} and reported as
+ * by the other verifications.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+public final class TuVerificationPublisher {
+
+	/** Attribute. */
+	private final Iterable<String> classNames;
+
+	/** The stream of the class names (closed once terminated) or null. */
+	private final Stream<String> stream;
+
+	/** Attribute. */
+	private final Executor executor;
+
+	/** Attribute. */
+	private final int maximumInFlight;
+
+	/**
+	 * Constructor
+	 *
+	 * @param classNames
+	 * @param executor
+	 * @param maximumInFlight
+	 */
+	private TuVerificationPublisher(final Iterable<String> classNames, final Stream<String> stream,
+			final Executor executor, final int maximumInFlight) {
+
+		super();
+
+		this.classNames = classNames;
+		this.stream = stream;
+		this.executor = executor;
+		this.maximumInFlight = maximumInFlight;
+	}
+
+	/**
+	 * @param classNames
+	 * @return {@link TuVerificationPublisher}
+	 */
+	public static TuVerificationPublisher ofClassNames(final Iterable<String> classNames) {
+
+		if (null == classNames) {
+			throw new IllegalArgumentException("The class names are required.");
+		}
+		return new TuVerificationPublisher(classNames, null, Runnable::run, 1);
+	}
+
+	/**
+	 * @param classNames
+	 *            Consumed by the (single) subscription.
+	 * @return {@link TuVerificationPublisher}
+	 */
+	public static TuVerificationPublisher ofClassNames(final Stream<String> classNames) {
+
+		if (null == classNames) {
+			throw new IllegalArgumentException("The class names are required.");
+		}
+		return new TuVerificationPublisher(classNames::iterator, classNames, Runnable::run, 1);
+	}
+
+	/**
+	 * @param classes
+	 * @return {@link TuVerificationPublisher}
+	 */
+	public static TuVerificationPublisher ofClasses(final Iterable<? extends Class<?>> classes) {
+
+		if (null == classes) {
+			throw new IllegalArgumentException("The classes are required.");
+		}
+
+		return ofClassNames(() -> {
+
+			final Iterator<? extends Class<?>> iterator = classes.iterator();
+
+			return new Iterator<String>() {
+
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public String next() {
+					return iterator.next().getName();
+				}
+			};
+		});
+	}
+
+	/**
+	 * @param classes
+	 *            Consumed by the (single) subscription.
+	 * @return {@link TuVerificationPublisher}
+	 */
+	public static TuVerificationPublisher ofClasses(final Stream<? extends Class<?>> classes) {
+
+		if (null == classes) {
+			throw new IllegalArgumentException("The classes are required.");
+		}
+		return ofClassNames(classes.map(Class::getName));
+	}
+
+	/**
+	 * @param verificationExecutor
+	 *            Executes the verification of each class.
+	 * @param inFlight
+	 *            The maximum number of classes verified at a time.
+	 * @return {@link TuVerificationPublisher} - A publisher of the same classes
+	 *         verified with the executor.
+	 */
+	public TuVerificationPublisher executor(final Executor verificationExecutor, final int inFlight) {
+
+		if (null == verificationExecutor || 1 > inFlight) {
+			throw new IllegalArgumentException("An executor and a positive maximum in flight are required.");
+		}
+		return new TuVerificationPublisher(this.classNames, this.stream, verificationExecutor, inFlight);
+	}
+
+	/**
+	 * Subscribes a subscriber; no class is verified until it requests results.
+	 *
+	 * @param subscriber
+	 */
+	public void subscribe(final TuVerificationSubscriber subscriber) {
+
+		if (null == subscriber) {
+			throw new IllegalArgumentException("A subscriber is required.");
+		}
+
+		final TuStreamingSubscription subscription = new TuStreamingSubscription(subscriber);
+
+		subscriber.onSubscribe(subscription);
+	}
+
+	/**
+	 * The subscription; its state is only changed by the (serialized) drain
+	 * loop, entered by the thread requesting or completing a class.
+	 */
+	private final class TuStreamingSubscription implements TuVerificationSubscription {
+
+		/** Attribute. */
+		private final TuVerificationSubscriber subscriber;
+
+		/** The counters of the classes verified. */
+		private final TuResultsRegistry results = new TuResultsRegistry();
+
+		/** The classes verified and not yet received. */
+		private final ConcurrentLinkedQueue<TuClassResultTO> completed = new ConcurrentLinkedQueue<TuClassResultTO>();
+
+		/** The number of results requested (saturated at Long.MAX_VALUE). */
+		private final AtomicLong requested = new AtomicLong();
+
+		/** The number of drain requests pending (the drain is entered at 0). */
+		private final AtomicInteger pending = new AtomicInteger();
+
+		/** Attribute. */
+		private volatile boolean cancelled;
+
+		/** A request violating the contract or null. */
+		private volatile IllegalArgumentException invalidRequest;
+
+		/** The first failure verifying a class or null. */
+		private final AtomicReference<RuntimeException> failure = new AtomicReference<RuntimeException>();
+
+		/** The source or null if not yet opened. */
+		private Iterator<String> iterator;
+
+		/** The number of results received. */
+		private long emitted;
+
+		/** The number of classes started and not yet received. */
+		private int inFlight;
+
+		/** Indicates the source is exhausted. */
+		private boolean exhausted;
+
+		/** Indicates the subscriber was completed or failed. */
+		private boolean terminated;
+
+		/**
+		 * Constructor
+		 *
+		 * @param subscriber
+		 */
+		TuStreamingSubscription(final TuVerificationSubscriber subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		/**
+		 * @see com.gtcgroup.testutil.TuVerificationSubscription#request(long)
+		 */
+		@Override
+		public void request(final long count) {
+
+			if (0 >= count) {
+				this.invalidRequest = new IllegalArgumentException("A positive request is required [" + count + "].");
+
+			} else {
+
+				// Add saturating at Long.MAX_VALUE.
+				this.requested.accumulateAndGet(count,
+						(current, added) -> Long.MAX_VALUE - current <= added ? Long.MAX_VALUE : current + added);
+			}
+			this.drain();
+		}
+
+		/**
+		 * @see com.gtcgroup.testutil.TuVerificationSubscription#cancel()
+		 */
+		@Override
+		public void cancel() {
+
+			this.cancelled = true;
+			this.drain();
+		}
+
+		/**
+		 * @see com.gtcgroup.testutil.TuVerificationSubscription#getResults()
+		 */
+		@Override
+		public TuResultsPO getResults() {
+			return this.results.snapshot();
+		}
+
+		/**
+		 * Delivers the completed classes and starts those requested; a thread
+		 * entering while another drains leaves the work to it.
+		 */
+		private void drain() {
+
+			if (0 != this.pending.getAndIncrement()) {
+				return;
+			}
+
+			int missed = 1;
+
+			do {
+				if (!this.terminated) {
+					this.deliverAndStart();
+				}
+				missed = this.pending.addAndGet(-missed);
+
+			} while (0 != missed);
+		}
+
+		/**
+		 * Invoked by the drain loop only.
+		 */
+		private void deliverAndStart() {
+
+			// Determine if cancelled (a class in flight is discarded).
+			if (this.cancelled) {
+				this.terminate();
+				return;
+			}
+
+			if (null != this.invalidRequest) {
+				this.fail(this.invalidRequest);
+				return;
+			}
+
+			if (null != this.failure.get()) {
+				this.fail(this.failure.get());
+				return;
+			}
+
+			// Deliver the completed classes requested.
+			while (this.emitted < this.requested.get()) {
+
+				final TuClassResultTO result = this.completed.poll();
+
+				if (null == result) {
+					break;
+				}
+
+				this.emitted++;
+				this.inFlight--;
+
+				try {
+					this.subscriber.onNext(result);
+
+				} catch (final RuntimeException e) {
+
+					// A failing subscriber is cancelled.
+					this.cancelled = true;
+					this.fail(e);
+					return;
+				}
+
+				if (this.cancelled) {
+					this.terminate();
+					return;
+				}
+			}
+
+			// Start the classes requested (bounded by the maximum in flight).
+			try {
+				if (null == this.iterator) {
+					this.iterator = TuVerificationPublisher.this.classNames.iterator();
+				}
+
+				// The source is probed without demand so completion is not deferred.
+				while (!this.exhausted && !this.cancelled
+						&& this.inFlight < TuVerificationPublisher.this.maximumInFlight) {
+
+					if (!this.iterator.hasNext()) {
+						this.exhausted = true;
+						break;
+					}
+					if (this.emitted + this.inFlight >= this.requested.get()) {
+						break;
+					}
+
+					final String className = this.iterator.next();
+
+					this.inFlight++;
+					TuVerificationPublisher.this.executor.execute(() -> {
+						try {
+							this.completed.offer(TestUtil.verifyClassResult(className, this.results));
+
+						} catch (final RuntimeException e) {
+
+							// Signalled by the drain loop.
+							this.failure.compareAndSet(null, e);
+
+						} finally {
+							this.drain();
+						}
+					});
+				}
+
+			} catch (final RuntimeException e) {
+				this.fail(e);
+				return;
+			}
+
+			// Determine if every class was received.
+			if (this.exhausted && 0 == this.inFlight) {
+				this.terminate();
+				this.subscriber.onComplete();
+			}
+		}
+
+		/**
+		 * @param throwable
+		 */
+		private void fail(final Throwable throwable) {
+
+			this.terminate();
+			this.subscriber.onError(throwable);
+		}
+
+		/**
+		 * Releases the source and the classes not received.
+		 */
+		private void terminate() {
+
+			this.terminated = true;
+			this.iterator = null;
+			this.completed.clear();
+
+			if (null != TuVerificationPublisher.this.stream) {
+				TuVerificationPublisher.this.stream.close();
+			}
+		}
+	}
+}
@@ -0,0 +1,309 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * This enum holds the declared exclusion and substitution rules (formerly read
+ * from the descriptor document). Each declaration recompiles an immutable
+ * {@link TuRuleSetBO} snapshot which is then published; verifications read
+ * the current snapshot without locking.
+ * </p>
+ * <p>
+ * A pattern is an exact class name, a package (<code>com.acme.*</code>), a
+ * package and its subpackages (<code>com.acme.**</code>) or a wildcard
+ * pattern (<code>com.acme.*DTO</code>).
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+public enum TuVerificationRules {
+
+	INSTANCE;
+
+	/** The reporting category of an exclusion declared without one. */
+	public static final String DEFAULT_EXCLUSION_CATEGORY = "EXCLUDED";
+
+	/** Guards the declarations; lookups never take it. */
+	private static final Object DECLARATION_LOCK = new Object();
+
+	/** The exclusion categories by class pattern. */
+	private static final Map<String, String> classExclusions = new LinkedHashMap<String, String>();
+
+	/** The excluded setter names by class pattern. */
+	private static final Map<String, Set<String>> setterExclusions = new LinkedHashMap<String, Set<String>>();
+
+	/** The excluded setter parameter and getter return types. */
+	private static final Map<String, Boolean> typeExclusions = new LinkedHashMap<String, Boolean>();
+
+	/** The substitute class names by setter parameter type pattern. */
+	private static final Map<String, String> substitutions = new LinkedHashMap<String, String>();
+
+	/** The published snapshot. */
+	private static volatile TuCompiledRules compiledRules = compile();
+
+	/**
+	 * Excludes the matching classes from verification; they are counted as
+	 * skips.
+	 *
+	 * @param classPattern
+	 * @param category
+	 *            Identifies the exclusion reporting category or null.
+	 */
+	public static void excludeClassFromVerification(final String classPattern, final String category) {
+
+		requirePattern(classPattern);
+
+		synchronized (DECLARATION_LOCK) {
+			classExclusions.put(classPattern, null == category ? DEFAULT_EXCLUSION_CATEGORY : category);
+			compiledRules = compile();
+		}
+	}
+
+	/**
+	 * Excludes a setter (and its getter) of the matching classes from
+	 * verification; the pair is reported as a warning.
+	 *
+	 * @param classPattern
+	 * @param setterName
+	 */
+	public static void excludeMethodPairBySetter(final String classPattern, final String setterName) {
+
+		requirePattern(classPattern);
+
+		synchronized (DECLARATION_LOCK) {
+
+			Set<String> setterNames = setterExclusions.get(classPattern);
+
+			if (null == setterNames) {
+				setterNames = new LinkedHashSet<String>();
+				setterExclusions.put(classPattern, setterNames);
+			}
+			setterNames.add(setterName);
+			compiledRules = compile();
+		}
+	}
+
+	/**
+	 * Excludes the method pairs of which a setter parameter type or the getter
+	 * return type matches; the pair is reported as a warning.
+	 *
+	 * @param typePattern
+	 */
+	public static void excludeMethodPairsByType(final String typePattern) {
+
+		requirePattern(typePattern);
+
+		synchronized (DECLARATION_LOCK) {
+			typeExclusions.put(typePattern, Boolean.TRUE);
+			compiledRules = compile();
+		}
+	}
+
+	/**
+	 * Substitutes the (instantiable) class for matching setter parameter types
+	 * when initializing verification values.
+	 *
+	 * @param typePattern
+	 * @param substituteClassName
+	 */
+	public static void substituteSetterType(final String typePattern, final String substituteClassName) {
+
+		requirePattern(typePattern);
+
+		synchronized (DECLARATION_LOCK) {
+			substitutions.put(typePattern, substituteClassName);
+			compiledRules = compile();
+		}
+	}
+
+	/**
+	 * Removes all declared rules.
+	 */
+	public static void clear() {
+
+		synchronized (DECLARATION_LOCK) {
+			classExclusions.clear();
+			setterExclusions.clear();
+			typeExclusions.clear();
+			substitutions.clear();
+			compiledRules = compile();
+		}
+	}
+
+	/**
+	 * @param className
+	 * @return String - The exclusion reporting category or null.
+	 */
+	static String lookupClassExclusion(final String className) {
+
+		return compiledRules.classExclusions.lookup(className);
+	}
+
+	/**
+	 * @param className
+	 * @param setterName
+	 * @return boolean - Indicates if the setter of the class is excluded.
+	 */
+	static boolean isSetterExcluded(final String className, final String setterName) {
+
+		return compiledRules.setterExclusions.anyMatch(className, setterNames -> setterNames.contains(setterName));
+	}
+
+	/**
+	 * @param typeName
+	 * @return boolean - Indicates if method pairs of the type are excluded.
+	 */
+	static boolean isTypeExcluded(final String typeName) {
+
+		return null != compiledRules.typeExclusions.lookup(typeName);
+	}
+
+	/**
+	 * @param typeName
+	 * @return String - The substitute class name or null.
+	 */
+	static String lookupSubstitution(final String typeName) {
+
+		return compiledRules.substitutions.lookup(typeName);
+	}
+
+	/**
+	 * @return Object - Identifies the current rules; replaced upon each
+	 *         declaration.
+	 */
+	static Object getSnapshot() {
+
+		return compiledRules;
+	}
+
+	/**
+	 * @return boolean - Indicates if a substitution is declared.
+	 */
+	static boolean hasSubstitutions() {
+
+		return !compiledRules.substitutions.isEmpty();
+	}
+
+	/**
+	 * @return String - Identifies the declared rules; part of the incremental
+	 *         verification digest.
+	 */
+	static String getSignature() {
+
+		return compiledRules.signature;
+	}
+
+	/**
+	 * @param pattern
+	 * @throws IllegalArgumentException
+	 *             If the pattern is null or empty.
+	 */
+	private static void requirePattern(final String pattern) {
+
+		if (null == pattern || pattern.isEmpty()) {
+			throw new IllegalArgumentException("A rule pattern is required.");
+		}
+	}
+
+	/**
+	 * Compiles the declarations; invoked holding the declaration lock.
+	 *
+	 * @return {@link TuCompiledRules}
+	 */
+	private static TuCompiledRules compile() {
+
+		final Map<String, Set<String>> setterNames = new LinkedHashMap<String, Set<String>>();
+
+		for (final Map.Entry<String, Set<String>> entry : setterExclusions.entrySet()) {
+			setterNames.put(entry.getKey(), Collections.unmodifiableSet(new HashSet<String>(entry.getValue())));
+		}
+
+		final StringBuffer signature = new StringBuffer();
+
+		signature.append(classExclusions);
+		signature.append(setterExclusions);
+		signature.append(typeExclusions.keySet());
+		signature.append(substitutions);
+
+		return new TuCompiledRules(TuRuleSetBO.compile(classExclusions), TuRuleSetBO.compile(setterNames),
+				TuRuleSetBO.compile(typeExclusions), TuRuleSetBO.compile(substitutions), signature.toString());
+	}
+
+	/**
+	 * An immutable snapshot of the compiled rules.
+	 */
+	private static final class TuCompiledRules {
+
+		/** Attribute. */
+		final TuRuleSetBO<String> classExclusions;
+
+		/** Attribute. */
+		final TuRuleSetBO<Set<String>> setterExclusions;
+
+		/** Attribute. */
+		final TuRuleSetBO<Boolean> typeExclusions;
+
+		/** Attribute. */
+		final TuRuleSetBO<String> substitutions;
+
+		/** Attribute. */
+		final String signature;
+
+		/**
+		 * Constructor
+		 *
+		 * @param classExclusions
+		 * @param setterExclusions
+		 * @param typeExclusions
+		 * @param substitutions
+		 * @param signature
+		 */
+		TuCompiledRules(final TuRuleSetBO<String> classExclusions, final TuRuleSetBO<Set<String>> setterExclusions,
+				final TuRuleSetBO<Boolean> typeExclusions, final TuRuleSetBO<String> substitutions,
+				final String signature) {
+
+			this.classExclusions = classExclusions;
+			this.setterExclusions = setterExclusions;
+			this.typeExclusions = typeExclusions;
+			this.substitutions = substitutions;
+			this.signature = signature;
+		}
+	}
+}
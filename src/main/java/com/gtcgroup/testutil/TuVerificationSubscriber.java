@@ -0,0 +1,72 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import com.gtcgroup.testutil.to.TuClassResultTO;
+
+/**
+ * <p>
+ * This interface receives the results of a {@link TuVerificationPublisher}
+ * following the contract of <code>java.util.concurrent.Flow.Subscriber</code>:
+ * <code>onSubscribe()</code> first, then no more <code>onNext()</code>
+ * invocations than requested (never concurrently), and finally
+ * <code>onComplete()</code> or <code>onError()</code> unless the subscription
+ * was cancelled.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+public interface TuVerificationSubscriber {
+
+	/**
+	 * @param subscription
+	 *            Requests (and cancels) the verification of classes.
+	 */
+	void onSubscribe(TuVerificationSubscription subscription);
+
+	/**
+	 * @param result
+	 *            The result of a verified class (in order of completion).
+	 */
+	void onNext(TuClassResultTO result);
+
+	/**
+	 * @param throwable
+	 *            The failure of the source or of the executor.
+	 */
+	void onError(Throwable throwable);
+
+	/**
+	 * Every class of the source is verified and received.
+	 */
+	void onComplete();
+}
@@ -0,0 +1,65 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import com.gtcgroup.testutil.po.TuResultsPO;
+
+/**
+ * <p>
+ * This interface links a {@link TuVerificationSubscriber} to its
+ * {@link TuVerificationPublisher}, following the contract of
+ * <code>java.util.concurrent.Flow.Subscription</code>. A class is only
+ * verified once requested, so the demand bounds the work started.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+public interface TuVerificationSubscription {
+
+	/**
+	 * @param count
+	 *            The number of additional results the subscriber can receive;
+	 *            <code>Long.MAX_VALUE</code> is unbounded.
+	 */
+	void request(long count);
+
+	/**
+	 * Stops the verification: no class is started and no result is received
+	 * thereafter (a class being verified completes).
+	 */
+	void cancel();
+
+	/**
+	 * @return {@link TuResultsPO} - The counts of the classes verified so far.
+	 */
+	TuResultsPO getResults();
+}
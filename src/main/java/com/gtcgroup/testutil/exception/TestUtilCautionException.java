@@ -26,6 +26,8 @@
 
 package com.gtcgroup.testutil.exception;
 
+import java.util.function.Supplier;
+
 /**
  * This exception ultimately results in a caution condition. A caution is used
  * to indicate a class could not be instantiated for subsequent verification by
@@ -51,7 +53,17 @@ public class TestUtilCautionException extends TestUtilRuntimeException {
 	 */
 	public TestUtilCautionException(final String message) {
 		super(message);
-		TestUtilRuntimeException.addClassCaution();
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param messageSupplier
+	 *            Renders the message if requested.
+	 * @since v. 6.1
+	 */
+	public TestUtilCautionException(final Supplier<String> messageSupplier) {
+		super(messageSupplier);
 	}
 
 }
\ No newline at end of file
@@ -26,6 +26,8 @@
 
 package com.gtcgroup.testutil.exception;
 
+import java.util.function.Supplier;
+
 /**
  * This exception ultimately results in a glitch. A glitch is used to indicate a
  * test method failed upon invocation by TestUtil.
@@ -51,4 +53,15 @@ public class TestUtilGlitchException extends TestUtilRuntimeException {
 	public TestUtilGlitchException(final String message) {
 		super(message);
 	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param messageSupplier
+	 *            Renders the message if requested.
+	 * @since v. 6.1
+	 */
+	public TestUtilGlitchException(final Supplier<String> messageSupplier) {
+		super(messageSupplier);
+	}
 }
\ No newline at end of file
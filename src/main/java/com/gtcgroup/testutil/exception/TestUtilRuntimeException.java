@@ -26,6 +26,10 @@
 
 package com.gtcgroup.testutil.exception;
 
+import java.util.function.Supplier;
+
+import com.gtcgroup.testutil.TuResultsRegistry;
+
 /**
  * This class serves as the base (abstract) class for all TestUtil exceptions.
  *
@@ -43,59 +47,95 @@ public abstract class TestUtilRuntimeException extends RuntimeException {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * Attribute maintaining the warning count for a verified object.
-	 */
-	private static int methodVerifications = 0;
-
-	/**
-	 * Attribute maintaining the warning count for a verified object.
-	 */
-	private static int totalWarnings = 0;
-
-	/**
-	 * Attribute maintaining the glitch count for a verified object.
-	 */
-	private static int totalGlitches = 0;
-
-	/**
-	 * Attribute maintaining the glitch count for a verified object.
+	 * @deprecated The counters are maintained per run by a
+	 *             <code>TuResultsRegistry</code>.
 	 */
-	private static int classCautions = 0;
-
-	/**
-	 * Attribute maintaining the glitch count for a verified object.
-	 */
-	private static int totalMethodSkips = 0;
-
+	@Deprecated
 	public static void addClassCaution() {
-		classCautions++;
+		TuResultsRegistry.getGlobal().addClassCaution();
 	}
 
+	/**
+	 * @deprecated The counters are maintained per run by a
+	 *             <code>TuResultsRegistry</code>.
+	 */
+	@Deprecated
 	public static void addMethodVerification() {
-		methodVerifications++;
+		TuResultsRegistry.getGlobal().addCounts(1, 0, 0);
 	}
 
+	/**
+	 * @return Returns the JVM wide successful verification count.
+	 */
 	public static int getMethodVerifications() {
-		return methodVerifications;
+		return (int) TuResultsRegistry.getGlobal().snapshot().getMethodVerifications();
 	}
 
+	/**
+	 * @return Returns the JVM wide class caution count.
+	 */
 	public static int getTotalClassCautions() {
-		return classCautions;
+		return (int) TuResultsRegistry.getGlobal().snapshot().getClassCautions();
 	}
 
 	/** Attribute. */
 	private final Exception exception = null;
 
+	/** Renders the message upon first request; null once rendered. */
+	private transient volatile Supplier<String> messageSupplier;
+
+	/** The rendered message or null. */
+	private String renderedMessage;
+
 	/**
-	 * Constructor
+	 * Constructor. TestUtil exceptions signal ordinary verification outcomes
+	 * so neither a stack trace nor suppressed exceptions are recorded.
 	 *
 	 * @param message
 	 */
 	public TestUtilRuntimeException(final String message) {
-		super(message);
+		super(message, null, false, false);
+		return;
+	}
+
+	/**
+	 * Constructor. The message is rendered only if requested (typically by a
+	 * report) so summarized runs never format it.
+	 *
+	 * @param messageSupplier
+	 * @since v. 6.1
+	 */
+	public TestUtilRuntimeException(final Supplier<String> messageSupplier) {
+		super(null, null, false, false);
+		this.messageSupplier = messageSupplier;
 		return;
 	}
 
+	/**
+	 * @return String - The message; a deferred message is rendered once.
+	 */
+	@Override
+	public String getMessage() {
+
+		final Supplier<String> supplier = this.messageSupplier;
+
+		if (null != supplier) {
+
+			String message;
+			try {
+				message = supplier.get();
+
+			} catch (final RuntimeException e) {
+				message = "The message could not be rendered [" + e + "].";
+			}
+
+			// The supplier is released after the message is published.
+			this.renderedMessage = message;
+			this.messageSupplier = null;
+		}
+		return null == this.renderedMessage ? super.getMessage() : this.renderedMessage;
+	}
+
 	public final Exception getException() {
 		return this.exception;
 	}
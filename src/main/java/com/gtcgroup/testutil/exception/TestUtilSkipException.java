@@ -26,6 +26,8 @@
 
 package com.gtcgroup.testutil.exception;
 
+import java.util.function.Supplier;
+
 /**
  * This exception ultimately results in a skip condition. A skip is used to
  * indicate a non-Java, or Interface, or Abstract class could not be
@@ -52,4 +54,15 @@ public class TestUtilSkipException extends TestUtilRuntimeException {
 	public TestUtilSkipException(final String message) {
 		super(message);
 	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param messageSupplier
+	 *            Renders the message if requested.
+	 * @since v. 6.1
+	 */
+	public TestUtilSkipException(final Supplier<String> messageSupplier) {
+		super(messageSupplier);
+	}
 }
\ No newline at end of file
@@ -26,6 +26,8 @@
 
 package com.gtcgroup.testutil.exception;
 
+import java.util.function.Supplier;
+
 /**
  * This exception ultimately results in a warning condition. A warning is used
  * to indicate a accessor method could not be invoked by TestUtil.
@@ -51,4 +53,15 @@ public class TestUtilWarningException extends TestUtilRuntimeException {
 	public TestUtilWarningException(final String message) {
 		super(message);
 	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param messageSupplier
+	 *            Renders the message if requested.
+	 * @since v. 6.1
+	 */
+	public TestUtilWarningException(final Supplier<String> messageSupplier) {
+		super(messageSupplier);
+	}
 }
\ No newline at end of file
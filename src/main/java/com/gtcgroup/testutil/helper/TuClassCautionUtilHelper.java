@@ -21,17 +21,32 @@ public enum TuClassCautionUtilHelper {
 
 	INSTANCE;
 
-	public synchronized static final void throwCaution(final Exception e) {
+	public static final void throwCaution(final Exception e) {
 
-		throw new TestUtilCautionException(e.toString());
+		throw new TestUtilCautionException(() -> e.toString());
 	}
 
-	public synchronized static final void throwClassInstantiationCaution(final String message) {
+	public static final void throwClassInstantiationCaution(final String message) {
 
 		throw new TestUtilCautionException(message);
 	}
 
-	public synchronized final void processCaution(final String fileName) {
+	public static final void throwClassInstantiationCaution(final Class<?> theClass) {
+
+		throw new TestUtilCautionException(() -> "The class [" + theClass + "] could not be instantiated.");
+	}
+
+	public static final void throwClassInitializationCaution(final Class<?> theClass, final Throwable e) {
+
+		throw new TestUtilCautionException(() -> "The class [" + theClass + "] could not be initialized [" + e + "].");
+	}
+
+	/**
+	 * @deprecated Cautions are reported with their class by the
+	 *             {@link com.gtcgroup.testutil.TuReporter}.
+	 */
+	@Deprecated
+	public final void processCaution(final String fileName) {
 
 		// Process caution.
 		final StringBuffer message = new StringBuffer();
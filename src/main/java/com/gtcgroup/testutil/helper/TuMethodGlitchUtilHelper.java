@@ -1,5 +1,7 @@
 package com.gtcgroup.testutil.helper;
 
+import java.lang.reflect.Method;
+
 import com.gtcgroup.testutil.TuMethodGetBO;
 import com.gtcgroup.testutil.exception.TestUtilGlitchException;
 import com.gtcgroup.testutil.po.TuMethodPO;
@@ -23,7 +25,12 @@ public enum TuMethodGlitchUtilHelper {
 
 	INSTANCE;
 
-	public synchronized static final void processGlitch(final TuMethodSetPO tuMethodSetBO,
+	/**
+	 * @deprecated Glitches are reported with their class by the
+	 *             {@link com.gtcgroup.testutil.TuReporter}.
+	 */
+	@Deprecated
+	public static final void processGlitch(final TuMethodSetPO tuMethodSetBO,
 			final TuMethodGetBO tuMethodGetBO, final TestUtilGlitchException exception) {
 
 		// Process glitch.
@@ -41,45 +48,56 @@ public enum TuMethodGlitchUtilHelper {
 		System.out.println(message.toString());
 	}
 
-	public synchronized static final void throwMethodInvocationGlitch(final TuMethodPO tuMethodBO,
+	public static final void throwMethodInvocationGlitch(final TuMethodPO tuMethodBO,
 			final String parameterTypeName, final Exception exception) {
 
-		final StringBuffer message = new StringBuffer();
-
-		message.append("The method [");
-		message.append(tuMethodBO.getMethod().getName());
-		message.append("] could not be invoked [");
-		try {
-			if (null == exception.getCause()) {
+		// Retain the method rather than the instance.
+		final Method method = tuMethodBO.getMethod();
+
+		throw new TestUtilGlitchException(() -> {
+			final StringBuffer message = new StringBuffer();
+
+			message.append("The method [");
+			message.append(method.getName());
+			message.append("] could not be invoked [");
+			try {
+				if (null == exception.getCause()) {
+					message.append(exception.getClass().getName());
+				} else {
+					message.append(exception.getCause());
+				}
+			} catch (final Throwable e1) {
 				message.append(exception.getClass().getName());
-			} else {
-				message.append(exception.getCause());
 			}
-		} catch (final Throwable e1) {
-			message.append(exception.getClass().getName());
-		}
-		message.append("] with [");
-		message.append(parameterTypeName);
-		message.append("] parameter type.");
-
-		throw new TestUtilGlitchException(message.toString());
+			message.append("] with [");
+			message.append(parameterTypeName);
+			message.append("] parameter type.");
+			return message.toString();
+		});
 	}
 
-	public synchronized static final void throwNotEqualGlitch(final String objThatWasSet,
-			final String objReturnedFromGet) {
-
-		throw new TestUtilGlitchException("Randomly set [" + objThatWasSet + "] value does not match returned ["
-				+ objReturnedFromGet + "] value.");
+	/**
+	 * The values are rendered (with <code>toString()</code>) only if the glitch
+	 * is reported.
+	 *
+	 * @param objThatWasSet
+	 * @param objReturnedFromGet
+	 */
+	public static final void throwNotEqualGlitch(final Object objThatWasSet, final Object objReturnedFromGet) {
+
+		throw new TestUtilGlitchException(() -> "Randomly set [" + objThatWasSet
+				+ "] value does not match returned [" + objReturnedFromGet + "] value.");
 	}
 
-	public synchronized static final void throwNotSameGlitch(final String objSet) {
+	public static final void throwNotSameGlitch(final Object objSet) {
 
-		throw new TestUtilGlitchException("Randomly set value [" + objSet + "] does not match returned [null] value.");
+		throw new TestUtilGlitchException(
+				() -> "Randomly set value [" + objSet + "] does not match returned [null] value.");
 	}
 
-	public synchronized static final void throwProxyGlitch(final String objSet, final String objReturned) {
+	public static final void throwProxyGlitch(final Object objSet, final Object objReturned) {
 
-		throw new TestUtilGlitchException("The proxy object [" + objSet + "] set does not match the proxy object ["
-				+ objReturned + "] returned.");
+		throw new TestUtilGlitchException(() -> "The proxy object [" + objSet
+				+ "] set does not match the proxy object [" + objReturned + "] returned.");
 	}
 }
@@ -2,8 +2,11 @@ package com.gtcgroup.testutil.helper;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
-import com.gtcgroup.testutil.TuMethodPairBO;
 import com.gtcgroup.testutil.exception.TestUtilWarningException;
 
 /**
@@ -24,8 +27,12 @@ public enum TuWarningUtilHelper {
 
 	INSTANCE;
 
-	public synchronized static final void processWarning(final StringBuffer sbSetterName,
-			final StringBuffer sbGetterName, final TuMethodPairBO tuMethodPairBO,
+	/**
+	 * @deprecated Warnings are reported with their class by the
+	 *             {@link com.gtcgroup.testutil.TuReporter}.
+	 */
+	@Deprecated
+	public static final void processWarning(final String setterName, final String getterName,
 			final TestUtilWarningException warning) {
 
 		// Process warning.
@@ -35,16 +42,11 @@ public enum TuWarningUtilHelper {
 		// message.append(tuCountersBO.getTotalWarnings());
 		message.append("]");
 
-		if (null != sbGetterName && null != sbSetterName) {
+		if (null != getterName && null != setterName) {
 			message.append(":  Setter = [");
-			message.append(sbSetterName.toString());
+			message.append(setterName);
 			message.append("()];  Getter = [");
-			message.append(sbGetterName.toString());
-
-			// if (null != tuMethodPairBO) {
-			// message.append(" " +
-			// tuMethodPairBO.getTuMethodGetBO().getMethod().getName());
-			// }
+			message.append(getterName);
 			message.append("()]");
 		}
 		message.append("\n\t");
@@ -53,88 +55,147 @@ public enum TuWarningUtilHelper {
 		System.out.println(message.toString());
 	}
 
-	public synchronized static final void throwAbstractClassWarning(final Class<?> clazz, final Method method,
+	public static final void throwAbstractClassWarning(final Class<?> clazz, final Method method,
 			final Constructor<?> constructor) {
 
-		// Initialization.
-		final StringBuffer message = new StringBuffer();
+		throw new TestUtilWarningException(() -> {
+			final StringBuffer message = new StringBuffer();
 
-		message.append("Unable to reflectively process a ");
+			message.append("Unable to reflectively process a ");
 
-		// If the method is not null.
-		if (null != method) {
-			message.append("method [" + method.getName());
-		}
-		// If the constructor is not null.
-		if (null != constructor) {
-			message.append("constructor [" + constructor.getName());
-		}
+			// If the method is not null.
+			if (null != method) {
+				message.append("method [" + method.getName());
+			}
+			// If the constructor is not null.
+			if (null != constructor) {
+				message.append("constructor [" + constructor.getName());
+			}
+
+			message.append("()] signature specifying an abstract class [");
+			message.append(clazz.getName());
+			message.append("].");
+			return message.toString();
+		});
+	}
+
+	public static final void throwObjectGraphBudgetWarning(final Class<?> theClass, final int required,
+			final int budget, final String budgetName) {
+
+		throw new TestUtilWarningException(() -> "Instantiating [" + theClass.getName() + "] requires a "
+				+ budgetName + " of [" + required + "] exceeding the object graph budget [" + budget + "].");
+	}
+
+	public static final void throwObjectGraphCycleWarning(final Collection<Class<?>> path, final Class<?> theClass) {
+
+		// The path is most recent first (and changes once resolved).
+		final List<Class<?>> cycle = new ArrayList<Class<?>>(path);
+		Collections.reverse(cycle);
+
+		throw new TestUtilWarningException(() -> {
+			final StringBuffer message = new StringBuffer();
+			message.append("A constructor argument cycle [");
+
+			for (final Class<?> type : cycle.subList(cycle.indexOf(theClass), cycle.size())) {
+				message.append(type.getName());
+				message.append(" -> ");
+			}
+			message.append(theClass.getName());
+			message.append("] precludes instantiation.");
+			return message.toString();
+		});
+	}
 
-		message.append("()] signature specifying an abstract class [");
-		message.append(clazz.getName());
-		message.append("].");
+	public static final void throwExcludedWarningForParameter(final String parameterType) {
 
-		throw new TestUtilWarningException(message.toString());
+		throw new TestUtilWarningException(
+				() -> "The setter parameter type [" + parameterType + "] is declared excluded from verification.");
 	}
 
-	public synchronized static final void throwEndlessLoopWarning(final int loopCounter, final Class<?> theClass) {
+	public static final void throwExcludedWarningForReturnType(final String returnType) {
+
+		throw new TestUtilWarningException(
+				() -> "The getter return type [" + returnType + "] is declared excluded from verification.");
+	}
 
-		// Decrement.
-		int loopTemp = loopCounter;
-		loopTemp--;
+	public static final void throwExcludedWarningForSetter(final String setterName) {
 
 		throw new TestUtilWarningException(
-				"An endless loop [" + theClass + "] attempting instantiation [" + loopTemp + "] times.");
+				() -> "The setter [" + setterName + "] is declared excluded from verification.");
 	}
 
-	public synchronized static final void throwInstantiationWarning(final Class<?> theClass, final Exception e,
+	public static final void throwInstantiationWarning(final Class<?> theClass, final Exception e,
 			final Constructor<?>[] constructors) {
 
-		final StringBuffer message = new StringBuffer();
-		message.append("The class [");
-		message.append(theClass.getName());
-		message.append("] ");
-
-		if (null != constructors) {
-			message.append("with [");
-			message.append(constructors.length);
-			message.append("] constructor(s) ");
-		}
-		message.append("could not be instantiated [");
-		try {
-			if (null == e.getCause()) {
+		throw new TestUtilWarningException(() -> {
+			final StringBuffer message = new StringBuffer();
+			message.append("The class [");
+			message.append(theClass.getName());
+			message.append("] ");
+
+			if (null != constructors) {
+				message.append("with [");
+				message.append(constructors.length);
+				message.append("] constructor(s) ");
+			}
+			message.append("could not be instantiated [");
+			try {
+				if (null == e.getCause()) {
+					message.append(e.getClass().getName());
+				} else {
+					message.append(e.getCause());
+				}
+			} catch (final Throwable throwable) {
 				message.append(e.getClass().getName());
-			} else {
-				message.append(e.getCause());
 			}
-		} catch (final Throwable throwable) {
-			message.append(e.getClass().getName());
-		}
-		message.append("].");
-		// message.append("\n\tConsider declaring a substitute type [");
-		// message.append(TuConstants.DESCRIPTOR_DOCUMENT_NAME);
-		// message.append("] for verification.");
-
-		throw new TestUtilWarningException(message.toString());
+			message.append("].");
+			// message.append("\n\tConsider declaring a substitute type [");
+			// message.append(TuConstants.DESCRIPTOR_DOCUMENT_NAME);
+			// message.append("] for verification.");
+			return message.toString();
+		});
 	}
 
-	public synchronized static final void throwMultiplesWarningForGetter(final String sbGetterName) {
+	public static final void throwMultiplesWarningForGetter(final String sbGetterName) {
 
 		throw new TestUtilWarningException(
-				"Multiple occurrences of getter [" + sbGetterName + "] precludes verification.");
+				() -> "Multiple occurrences of getter [" + sbGetterName + "] precludes verification.");
 	}
 
-	public synchronized static final void throwMultiplesWarningForSetter(final String sbSetterName) {
+	public static final void throwMultiplesWarningForSetter(final String sbSetterName) {
 
 		throw new TestUtilWarningException(
-				"Multiple occurrences of setter [" + sbSetterName + "] precludes verification.");
+				() -> "Multiple occurrences of setter [" + sbSetterName + "] precludes verification.");
 	}
 
-	public synchronized static final void throwNotVerifiableWarning(final String parameterType,
+	public static final void throwNotVerifiableWarning(final String parameterType,
 			final String returnType) {
 
-		throw new TestUtilWarningException("Setter first parameter [" + parameterType + "] and getter return type ["
-				+ returnType + "] are not TestUtil verifiable.");
+		throw new TestUtilWarningException(() -> "Setter first parameter [" + parameterType
+				+ "] and getter return type [" + returnType + "] are not TestUtil verifiable.");
+	}
+
+	public static final void throwSubstitutionWarningForClassNotFound(final String parameterType, final Method method,
+			final Constructor<?> constructor, final String reason) {
+
+		throw new TestUtilWarningException(() -> {
+			final StringBuffer message = new StringBuffer();
+			message.append("The substitute declared for [");
+			message.append(parameterType);
+			message.append("] of ");
+
+			if (null != method) {
+				message.append("method [" + method.getName());
+			}
+			if (null != constructor) {
+				message.append("constructor [" + constructor.getName());
+			}
+
+			message.append("()] could not be loaded [");
+			message.append(reason);
+			message.append("].");
+			return message.toString();
+		});
 	}
 
 	/**
@@ -142,7 +203,7 @@ public enum TuWarningUtilHelper {
 	 *
 	 * @throws TestUtilSetterSignatureWarning
 	 */
-	public synchronized static final void throwSetterSignatureWarning() {
+	public static final void throwSetterSignatureWarning() {
 
 		throw new TestUtilWarningException("The setter signature has no parameter and can not be TestUtil verified.");
 	}
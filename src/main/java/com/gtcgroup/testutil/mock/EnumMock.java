@@ -26,7 +26,7 @@
 
 package com.gtcgroup.testutil.mock;
 
-import java.util.Random;
+import com.gtcgroup.testutil.TuValueSource;
 
 /**
  * <p>
@@ -44,8 +44,8 @@ import java.util.Random;
 
 public enum EnumMock {
 
-	/** Attribute. */
-	RANDOM(new Integer(new Random().nextInt()).intValue());
+	/** Attribute (derived from the run seed when the enum is initialized). */
+	RANDOM((int) TuValueSource.deriveClassSeed(EnumMock.class.getName()));
 
 	/** Attribute. */
 	int randomInt;
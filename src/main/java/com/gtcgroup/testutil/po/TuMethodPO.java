@@ -159,22 +159,45 @@ public abstract class TuMethodPO extends JstBasePO {
 	 */
 	public void initialize() throws TestUtilWarningException {
 
-		// Initialize the testable parameter type array.
-		this.verifiableParameterTypes = new Class[this.getOriginalParameterTypes().length];
+		this.initialize(null);
+	}
+
+	/**
+	 * This method initializes attributes not set in the constructor. The
+	 * verifiable parameter types are resolved unless previously resolved types
+	 * are provided.
+	 *
+	 * @param resolvedParameterTypes
+	 *            The previously resolved verifiable parameter types or null.
+	 * @throws TestUtilWarningException
+	 * @since v. 6.1
+	 */
+	public void initialize(final Class<?>[] resolvedParameterTypes) throws TestUtilWarningException {
+
+		// Determine if the parameter types were previously resolved.
+		if (null != resolvedParameterTypes) {
+
+			this.verifiableParameterTypes = resolvedParameterTypes;
+
+		} else {
+
+			// Initialize the testable parameter type array.
+			this.verifiableParameterTypes = new Class[this.getOriginalParameterTypes().length];
 
-		// Iterate through the paramter types for possible substitution.
-		for (int i = 0; i < this.getOriginalParameterTypes().length; i++) {
+			// Iterate through the paramter types for possible substitution.
+			for (int i = 0; i < this.getOriginalParameterTypes().length; i++) {
 
-			// Retrieve a candidate substitution if needed.
-			final Class<?> originalOrSubstituteClass = TuUtil.checkForSubstituteSetterType(
-					this.getOriginalParameterTypes()[i], this.getterReturnType, this.method, null);
+				// Retrieve a candidate substitution if needed.
+				final Class<?> originalOrSubstituteClass = TuUtil.checkForSubstituteSetterType(
+						this.getOriginalParameterTypes()[i], this.getterReturnType, this.method, null);
 
-			// Set the original or candidate substitution type.
-			this.getVerifiableParameterTypes()[i] = originalOrSubstituteClass;
+				// Set the original or candidate substitution type.
+				this.getVerifiableParameterTypes()[i] = originalOrSubstituteClass;
+			}
 		}
 
 		// Iterate through the parameter types.
-		this.parameterValues = TuUtil.initializeValues(null, this.verifiableParameterTypes, this.method, null, 0);
+		this.parameterValues = TuUtil.initializeValues(this.verifiableParameterTypes, this.method);
 
 		// Determine if a boolean is involved.
 		if (0 < this.getVerifiableParameterTypes().length
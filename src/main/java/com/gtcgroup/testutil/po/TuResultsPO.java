@@ -0,0 +1,190 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil.po;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * <p>
+ * This immutable Parameter Object is a snapshot of the verification counters
+ * for a verification run.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+public final class TuResultsPO {
+
+	/** The successful verification count. */
+	private final long methodVerifications;
+
+	/** The warning count. */
+	private final long totalWarnings;
+
+	/** The glitch count. */
+	private final long totalGlitches;
+
+	/** The class caution count. */
+	private final long classCautions;
+
+	/** The class skip count. */
+	private final long classSkips;
+
+	/** The nanoseconds spent in static initializers. */
+	private final long staticInitializationNanos;
+
+	/** The slowest static initializations (nanoseconds) by class name. */
+	private final Map<String, Long> slowestStaticInitializations;
+
+	/**
+	 * Constructor
+	 *
+	 * @param methodVerifications
+	 * @param totalWarnings
+	 * @param totalGlitches
+	 * @param classCautions
+	 * @param classSkips
+	 */
+	public TuResultsPO(final long methodVerifications, final long totalWarnings, final long totalGlitches,
+			final long classCautions, final long classSkips) {
+
+		this(methodVerifications, totalWarnings, totalGlitches, classCautions, classSkips, 0,
+				Collections.<String, Long>emptyMap());
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param methodVerifications
+	 * @param totalWarnings
+	 * @param totalGlitches
+	 * @param classCautions
+	 * @param classSkips
+	 * @param staticInitializationNanos
+	 * @param slowestStaticInitializations
+	 *            Ordered slowest first; retained as is.
+	 */
+	public TuResultsPO(final long methodVerifications, final long totalWarnings, final long totalGlitches,
+			final long classCautions, final long classSkips, final long staticInitializationNanos,
+			final Map<String, Long> slowestStaticInitializations) {
+
+		super();
+
+		this.methodVerifications = methodVerifications;
+		this.totalWarnings = totalWarnings;
+		this.totalGlitches = totalGlitches;
+		this.classCautions = classCautions;
+		this.classSkips = classSkips;
+		this.staticInitializationNanos = staticInitializationNanos;
+		this.slowestStaticInitializations = Collections.unmodifiableMap(slowestStaticInitializations);
+	}
+
+	/**
+	 * @return Returns the successful verification count.
+	 */
+	public long getMethodVerifications() {
+		return this.methodVerifications;
+	}
+
+	/**
+	 * @return Returns the warning count.
+	 */
+	public long getTotalWarnings() {
+		return this.totalWarnings;
+	}
+
+	/**
+	 * @return Returns the glitch count.
+	 */
+	public long getTotalGlitches() {
+		return this.totalGlitches;
+	}
+
+	/**
+	 * @return Returns the class caution count.
+	 */
+	public long getClassCautions() {
+		return this.classCautions;
+	}
+
+	/**
+	 * @return Returns the class skip count.
+	 */
+	public long getClassSkips() {
+		return this.classSkips;
+	}
+
+	/**
+	 * @return Returns the nanoseconds spent in static initializers.
+	 */
+	public long getStaticInitializationNanos() {
+		return this.staticInitializationNanos;
+	}
+
+	/**
+	 * @return Returns the slowest static initializations (nanoseconds) by
+	 *         class name, slowest first.
+	 */
+	public Map<String, Long> getSlowestStaticInitializations() {
+		return this.slowestStaticInitializations;
+	}
+
+	/**
+	 * Returns the successful verifications anticipated when the stated number
+	 * of accessor pairs result in a warning or glitch.
+	 *
+	 * @param anticipatedWarnings
+	 * @param anticipatedGlitches
+	 * @return long - Zero or more anticipated successful verifications.
+	 */
+	public long getAnticipatedVerifications(final int anticipatedWarnings, final int anticipatedGlitches) {
+
+		// Every accessor pair results in a verification, warning or glitch.
+		final long totalAccessorPairs = this.methodVerifications + this.totalWarnings + this.totalGlitches;
+
+		return Math.max(0, totalAccessorPairs - (anticipatedWarnings + anticipatedGlitches));
+	}
+
+	/**
+	 * @param anticipatedWarnings
+	 * @param anticipatedGlitches
+	 * @param anticipatedCautions
+	 * @return boolean - Indicating if the results match the anticipated
+	 *         "warnings", "glitches" and "cautions".
+	 */
+	public boolean isAnticipated(final int anticipatedWarnings, final int anticipatedGlitches,
+			final int anticipatedCautions) {
+
+		return this.totalWarnings == anticipatedWarnings && this.totalGlitches == anticipatedGlitches
+				&& this.classCautions == anticipatedCautions;
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil.to;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ * This immutable Transfer Object is the stored result of verifying a class in
+ * a run: the class seed, elapsed time, outcome counts and its outcomes.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+public final class TuClassResultTO extends TuBaseTO {
+
+	/** Attribute. */
+	private final long runId;
+
+	/** Attribute. */
+	private final String className;
+
+	/** Attribute. */
+	private final long classSeed;
+
+	/** Attribute. */
+	private final long elapsedNanos;
+
+	/** Attribute; indexed by <code>TuOutcomeTO.Kind</code> ordinal. */
+	private final long[] counts;
+
+	/** Attribute. */
+	private final List<TuOutcomeTO> pairOutcomes;
+
+	/**
+	 * Constructor
+	 *
+	 * @param runId
+	 * @param className
+	 * @param classSeed
+	 * @param elapsedNanos
+	 * @param counts
+	 *            Indexed by <code>TuOutcomeTO.Kind</code> ordinal.
+	 * @param pairOutcomes
+	 *            The outcomes of the setter/getter pairs and of the class.
+	 */
+	public TuClassResultTO(final long runId, final String className, final long classSeed, final long elapsedNanos,
+			final long[] counts, final List<TuOutcomeTO> pairOutcomes) {
+
+		super();
+
+		this.runId = runId;
+		this.className = className;
+		this.classSeed = classSeed;
+		this.elapsedNanos = elapsedNanos;
+		this.counts = counts.clone();
+		this.pairOutcomes = Collections.unmodifiableList(pairOutcomes);
+	}
+
+	/**
+	 * @return Returns the run id.
+	 */
+	public long getRunId() {
+		return this.runId;
+	}
+
+	/**
+	 * @return Returns the class name.
+	 */
+	public String getClassName() {
+		return this.className;
+	}
+
+	/**
+	 * @return Returns the class seed.
+	 */
+	public long getClassSeed() {
+		return this.classSeed;
+	}
+
+	/**
+	 * @return Returns the elapsed nanoseconds.
+	 */
+	public long getElapsedNanos() {
+		return this.elapsedNanos;
+	}
+
+	/**
+	 * @param kind
+	 * @return long - The count of the outcome kind.
+	 */
+	public long getCount(final TuOutcomeTO.Kind kind) {
+		return this.counts[kind.ordinal()];
+	}
+
+	/**
+	 * @return Returns the outcomes of the setter/getter pairs and, when just
+	 *         verified, those of the class (skips and cautions, with their
+	 *         messages). The outcomes read from a
+	 *         {@link com.gtcgroup.testutil.TuResultStore} are those of the pairs
+	 *         only, without messages.
+	 */
+	public List<TuOutcomeTO> getPairOutcomes() {
+		return this.pairOutcomes;
+	}
+
+	/**
+	 * @return String
+	 */
+	@Override
+	public String toString() {
+
+		final StringBuffer buffer = new StringBuffer();
+
+		buffer.append("Run ");
+		buffer.append(this.runId);
+		buffer.append(" [");
+		buffer.append(this.className);
+		buffer.append("]");
+
+		for (final TuOutcomeTO.Kind kind : TuOutcomeTO.Kind.values()) {
+			buffer.append(" ");
+			buffer.append(kind);
+			buffer.append("=");
+			buffer.append(this.counts[kind.ordinal()]);
+		}
+		return buffer.toString();
+	}
+}
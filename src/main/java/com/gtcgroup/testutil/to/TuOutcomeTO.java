@@ -0,0 +1,189 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil.to;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * This immutable Transfer Object records a single verification outcome: a
+ * successful verification, warning or glitch of a setter/getter pair, or a
+ * caution or skip of a class. The message is only built if requested.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+public final class TuOutcomeTO extends TuBaseTO {
+
+	/**
+	 * The kind of outcome.
+	 */
+	public enum Kind {
+
+		/** A setter/getter pair was successfully verified. */
+		VERIFICATION,
+
+		/** A setter/getter pair was not verifiable. */
+		WARNING,
+
+		/** A setter/getter pair failed verification. */
+		GLITCH,
+
+		/** A class could not be instantiated. */
+		CLASS_CAUTION,
+
+		/** A class was not attempted. */
+		CLASS_SKIP
+	}
+
+	/** Attribute. */
+	private final Kind kind;
+
+	/** Attribute. */
+	private final String className;
+
+	/** Attribute; null for class outcomes. */
+	private final String setterName;
+
+	/** Attribute; null for class outcomes. */
+	private final String getterName;
+
+	/** Attribute; null if there is no message. */
+	private final Supplier<String> messageSupplier;
+
+	/**
+	 * Constructor
+	 *
+	 * @param kind
+	 * @param className
+	 * @param setterName
+	 * @param getterName
+	 * @param messageSupplier
+	 */
+	public TuOutcomeTO(final Kind kind, final String className, final String setterName, final String getterName,
+			final Supplier<String> messageSupplier) {
+
+		super();
+
+		this.kind = kind;
+		this.className = className;
+		this.setterName = setterName;
+		this.getterName = getterName;
+		this.messageSupplier = messageSupplier;
+	}
+
+	/**
+	 * Counts outcomes by kind.
+	 *
+	 * @param outcomes
+	 * @return long[] - The counts indexed by <code>Kind</code> ordinal.
+	 */
+	public static long[] countByKind(final List<TuOutcomeTO> outcomes) {
+
+		final long[] counts = new long[Kind.values().length];
+
+		for (final TuOutcomeTO outcome : outcomes) {
+			counts[outcome.getKind().ordinal()]++;
+		}
+		return counts;
+	}
+
+	/**
+	 * @return Returns the kind.
+	 */
+	public Kind getKind() {
+		return this.kind;
+	}
+
+	/**
+	 * @return Returns the class name.
+	 */
+	public String getClassName() {
+		return this.className;
+	}
+
+	/**
+	 * @return Returns the setter name or null.
+	 */
+	public String getSetterName() {
+		return this.setterName;
+	}
+
+	/**
+	 * @return Returns the getter name or null.
+	 */
+	public String getGetterName() {
+		return this.getterName;
+	}
+
+	/**
+	 * @return Returns the message supplier or null.
+	 */
+	public Supplier<String> getMessageSupplier() {
+		return this.messageSupplier;
+	}
+
+	/**
+	 * @return String - The (built) message or null.
+	 */
+	public String getMessage() {
+
+		if (null == this.messageSupplier) {
+			return null;
+		}
+		return this.messageSupplier.get();
+	}
+
+	/**
+	 * @return String
+	 */
+	@Override
+	public String toString() {
+
+		final StringBuffer buffer = new StringBuffer();
+
+		buffer.append(this.kind);
+		buffer.append(" [");
+		buffer.append(this.className);
+
+		if (null != this.setterName) {
+			buffer.append(" ");
+			buffer.append(this.setterName);
+			buffer.append("/");
+			buffer.append(this.getterName);
+		}
+		buffer.append("]");
+
+		return buffer.toString();
+	}
+}
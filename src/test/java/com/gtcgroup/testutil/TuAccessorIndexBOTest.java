@@ -0,0 +1,101 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gtcgroup.testutil.to.dependency.ChildBO;
+import com.gtcgroup.testutil.to.dependency.GrandChildBO;
+import com.gtcgroup.testutil.to.dependency.MultipleSettersBO;
+import com.gtcgroup.testutil.to.dependency.PrimitiveValidBO;
+import com.gtcgroup.testutil.to.dependency.SetterWithNoParameterBO;
+
+/**
+ * <p>
+ * Test class.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+
+public class TuAccessorIndexBOTest {
+
+	@Test
+	public void testIndexIsComputedOnce() {
+
+		Assert.assertSame(TuAccessorIndexBO.forClass(PrimitiveValidBO.class),
+				TuAccessorIndexBO.forClass(PrimitiveValidBO.class));
+	}
+
+	@Test
+	public void testSubclassSharesSuperclassIndex() {
+
+		Assert.assertSame(TuAccessorIndexBO.forClass(ChildBO.class), TuAccessorIndexBO.forClass(GrandChildBO.class));
+	}
+
+	@Test
+	public void testDuplicateSetter() {
+
+		boolean duplicateSetter = false;
+
+		for (final TuAccessorBO tuAccessorBO : TuAccessorIndexBO.forClass(MultipleSettersBO.class)
+				.getTuAccessorBOs()) {
+
+			if (tuAccessorBO.isDuplicateSetter()) {
+
+				Assert.assertEquals("setLongPK", tuAccessorBO.getSetterName());
+				duplicateSetter = true;
+			}
+		}
+		Assert.assertTrue(duplicateSetter);
+	}
+
+	@Test
+	public void testSignatureCompatibility() {
+
+		Assert.assertTrue(findAccessor(PrimitiveValidBO.class, "setInt1").isTypeCompatible());
+		Assert.assertFalse(findAccessor(PrimitiveValidBO.class, "setInt3").isTypeCompatible());
+		Assert.assertFalse(findAccessor(SetterWithNoParameterBO.class, "setLongPK").hasSetterParameter());
+	}
+
+	private static TuAccessorBO findAccessor(final Class<?> theClass, final String setterName) {
+
+		for (final TuAccessorBO tuAccessorBO : TuAccessorIndexBO.forClass(theClass).getTuAccessorBOs()) {
+
+			if (setterName.equals(tuAccessorBO.getSetterName())) {
+				return tuAccessorBO;
+			}
+		}
+		throw new AssertionError(setterName);
+	}
+}
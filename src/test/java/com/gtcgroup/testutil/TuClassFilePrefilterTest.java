@@ -0,0 +1,102 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gtcgroup.testutil.to.dependency.BaseAbstractBO;
+import com.gtcgroup.testutil.to.dependency.ConcreteBO;
+import com.gtcgroup.testutil.to.dependency.InterfaceReadOnly;
+import com.gtcgroup.testutil.to.dependency.ObjectTestValidBO;
+
+/**
+ * <p>
+ * Test class.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+
+public class TuClassFilePrefilterTest {
+
+	static boolean memberInitialized = false;
+
+	public static class MemberBO {
+
+		static {
+			memberInitialized = true;
+		}
+
+		public void setValue(final String value) {
+			// Setter.
+		}
+	}
+
+	private static String rejectionReason(final String className) {
+
+		return TuClassFilePrefilter.rejectionReason(className, TuClassFilePrefilterTest.class.getClassLoader());
+	}
+
+	@Test
+	public void testVerifiableClass() {
+
+		Assert.assertNull(rejectionReason(ObjectTestValidBO.class.getName()));
+	}
+
+	@Test
+	public void testRejections() {
+
+		class LocalBO {
+			// Local.
+		}
+
+		Assert.assertEquals("INTERFACE", rejectionReason(InterfaceReadOnly.class.getName()));
+		Assert.assertEquals("ABSTRACT", rejectionReason(BaseAbstractBO.class.getName()));
+		Assert.assertEquals("NO SETTERS", rejectionReason(ConcreteBO.class.getName()));
+		Assert.assertEquals("LOCAL", rejectionReason(LocalBO.class.getName()));
+	}
+
+	@Test
+	public void testMemberClassNotInitialized() {
+
+		Assert.assertEquals("MEMBER",
+				rejectionReason(TuClassFilePrefilterTest.class.getName() + "$MemberBO"));
+		Assert.assertFalse(memberInitialized);
+	}
+
+	@Test
+	public void testUnavailableClassFile() {
+
+		Assert.assertNull(rejectionReason("com.gtcgroup.testutil.DoesNotExist"));
+	}
+}
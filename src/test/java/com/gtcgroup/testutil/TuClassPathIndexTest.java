@@ -0,0 +1,169 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * <p>
+ * Test class.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+
+public class TuClassPathIndexTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Before
+	public void declareIndexDirectory() throws IOException {
+
+		System.setProperty(TuClassPathIndex.DIRECTORY_PROPERTY, this.temporaryFolder.newFolder("index").getPath());
+	}
+
+	@After
+	public void restoreIndexDirectory() {
+
+		System.clearProperty(TuClassPathIndex.DIRECTORY_PROPERTY);
+	}
+
+	private static void writeJar(final File jar, final String... entryNames) throws IOException {
+
+		try (JarOutputStream output = new JarOutputStream(new FileOutputStream(jar))) {
+
+			for (final String entryName : entryNames) {
+				output.putNextEntry(new JarEntry(entryName));
+				output.closeEntry();
+			}
+		}
+	}
+
+	@Test
+	public void testJarIndexedAndPersisted() throws IOException {
+
+		final File jar = this.temporaryFolder.newFile("model.jar");
+		writeJar(jar, "com/x/A.class", "com/x/A$Inner.class", "com/x/y/C.class", "com/x/package-info.class",
+				"other/D.class");
+
+		try (URLClassLoader loader = new URLClassLoader(new URL[] { jar.toURI().toURL() }, null)) {
+
+			Assert.assertEquals(Arrays.asList("com.x.A", "com.x.y.C"),
+					TuClassPathIndex.collectTopLevelClassNames("com.x", loader));
+		}
+
+		final String index = new String(Files.readAllBytes(TuClassPathIndex.getIndexFile().toPath()),
+				StandardCharsets.UTF_8);
+
+		Assert.assertTrue(index.contains(jar.getAbsolutePath()));
+		Assert.assertTrue(index.contains("cls\tother.D"));
+	}
+
+	@Test
+	public void testChangedJarIndexedAgain() throws IOException {
+
+		final File jar = this.temporaryFolder.newFile("changing.jar");
+		writeJar(jar, "com/z/A.class");
+
+		try (URLClassLoader loader = new URLClassLoader(new URL[] { jar.toURI().toURL() }, null)) {
+
+			Assert.assertEquals(Arrays.asList("com.z.A"), TuClassPathIndex.collectTopLevelClassNames("com.z", loader));
+
+			writeJar(jar, "com/z/A.class", "com/z/B.class");
+			Assert.assertTrue(jar.setLastModified(jar.lastModified() + 2000L));
+
+			Assert.assertEquals(Arrays.asList("com.z.A", "com.z.B"),
+					TuClassPathIndex.collectTopLevelClassNames("com.z", loader));
+		}
+	}
+
+	@Test
+	public void testDirectoryPackageListed() throws IOException {
+
+		final File directory = this.temporaryFolder.newFolder("classes");
+		final File packageDirectory = new File(directory, "com/d/e");
+		Assert.assertTrue(packageDirectory.mkdirs());
+		Assert.assertTrue(new File(directory, "com/d/B.class").createNewFile());
+		Assert.assertTrue(new File(directory, "com/d/B$1.class").createNewFile());
+		Assert.assertTrue(new File(packageDirectory, "C.class").createNewFile());
+
+		try (URLClassLoader loader = new URLClassLoader(new URL[] { directory.toURI().toURL() }, null)) {
+
+			Assert.assertEquals(Arrays.asList("com.d.B", "com.d.e.C"),
+					TuClassPathIndex.collectTopLevelClassNames("com.d", loader));
+		}
+	}
+
+	@Test
+	public void testRemovedJarEvicted() throws IOException {
+
+		final File retained = this.temporaryFolder.newFile("retained.jar");
+		final File removed = this.temporaryFolder.newFile("removed.jar");
+		writeJar(retained, "com/r/A.class");
+		writeJar(removed, "com/r/B.class");
+
+		try (URLClassLoader loader = new URLClassLoader(
+				new URL[] { retained.toURI().toURL(), removed.toURI().toURL() }, null)) {
+
+			Assert.assertEquals(Arrays.asList("com.r.A", "com.r.B"),
+					TuClassPathIndex.collectTopLevelClassNames("com.r", loader));
+		}
+
+		try (URLClassLoader loader = new URLClassLoader(new URL[] { retained.toURI().toURL() }, null)) {
+
+			Assert.assertEquals(Arrays.asList("com.r.A"), TuClassPathIndex.collectTopLevelClassNames("com.r", loader));
+		}
+
+		final String index = new String(Files.readAllBytes(TuClassPathIndex.getIndexFile().toPath()),
+				StandardCharsets.UTF_8);
+
+		Assert.assertTrue(index.contains(retained.getAbsolutePath()));
+		Assert.assertFalse(index.contains(removed.getAbsolutePath()));
+	}
+}
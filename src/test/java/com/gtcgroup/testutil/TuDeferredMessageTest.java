@@ -0,0 +1,110 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gtcgroup.testutil.exception.TestUtilGlitchException;
+import com.gtcgroup.testutil.helper.TuMethodGlitchUtilHelper;
+import com.gtcgroup.testutil.to.TuOutcomeTO;
+import com.gtcgroup.testutil.to.dependency.ObjectTestInvalidBO;
+
+/**
+ * <p>
+ * Test class.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+
+public class TuDeferredMessageTest {
+
+	@After
+	public void tearDown() {
+		TestUtil.setSummaryOnly(false);
+	}
+
+	@Test
+	public void testGlitchValuesRenderedOnce() {
+
+		final AtomicInteger renderings = new AtomicInteger();
+		final Object counted = new Object() {
+
+			@Override
+			public String toString() {
+				return "counted" + renderings.incrementAndGet();
+			}
+		};
+
+		try {
+			TuMethodGlitchUtilHelper.throwNotEqualGlitch(counted, "returned");
+			Assert.fail();
+
+		} catch (final TestUtilGlitchException e) {
+
+			Assert.assertEquals(0, renderings.get());
+			Assert.assertTrue(e.getMessage().contains("counted1"));
+			Assert.assertSame(e.getMessage(), e.getMessage());
+			Assert.assertEquals(1, renderings.get());
+		}
+	}
+
+	@Test
+	public void testSummaryOnlyPrintsNothing() {
+
+		TestUtil.setSummaryOnly(true);
+
+		final PrintStream console = System.out;
+		final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+		final List<TuOutcomeTO> outcomes;
+
+		System.setOut(new PrintStream(captured));
+		try {
+			outcomes = TestUtil.collectOutcomes(ObjectTestInvalidBO.class.getName());
+			TestUtil.getReporter().flush();
+
+		} finally {
+			System.setOut(console);
+		}
+
+		Assert.assertEquals(0, captured.size());
+		Assert.assertEquals(TuOutcomeTO.Kind.GLITCH, outcomes.get(0).getKind());
+		Assert.assertNotNull(outcomes.get(0).getMessage());
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.gtcgroup.testutil.po.TuResultsPO;
+import com.gtcgroup.testutil.to.dependency.ArrayTestValidBO;
+import com.gtcgroup.testutil.to.dependency.BaseAbstractBO;
+import com.gtcgroup.testutil.to.dependency.GrandChildBO;
+import com.gtcgroup.testutil.to.dependency.IObjectTestValidBO;
+import com.gtcgroup.testutil.to.dependency.ObjectTestInvalidBO;
+import com.gtcgroup.testutil.to.dependency.PrimitiveValidBO;
+
+/**
+ * <p>
+ * Test class.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+
+public class TuDurationHistoryTest {
+
+	private static final ClassLoader LOADER = TuDurationHistoryTest.class.getClassLoader();
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void testRecordedDurationsPersisted() {
+
+		final File historyFile = new File(this.temporaryFolder.getRoot(), "durations.txt");
+		final TuDurationHistory history = new TuDurationHistory(historyFile);
+
+		history.record("a.Alpha", 400);
+		history.record("a.Alpha", 800);
+		history.record("a.Beta", 100);
+		history.save();
+
+		final TuDurationHistory reloaded = new TuDurationHistory(historyFile);
+
+		// A new time is averaged in at a quarter.
+		Assert.assertEquals(Long.valueOf(500), reloaded.lookup("a.Alpha"));
+		Assert.assertEquals(Long.valueOf(100), reloaded.lookup("a.Beta"));
+		Assert.assertNull(reloaded.lookup("a.Gamma"));
+	}
+
+	@Test
+	public void testColdStartEstimatedFromClassFiles() {
+
+		Assert.assertEquals(1, TuDurationHistory.estimateUnits(IObjectTestValidBO.class.getName(), LOADER));
+		Assert.assertEquals(1, TuDurationHistory.estimateUnits(BaseAbstractBO.class.getName(), LOADER));
+		Assert.assertEquals(1, TuDurationHistory.estimateUnits("com.gtcgroup.testutil.DoesNotExist", LOADER));
+		Assert.assertTrue(1 < TuDurationHistory.estimateUnits(PrimitiveValidBO.class.getName(), LOADER));
+	}
+
+	@Test
+	public void testEstimatesWithoutLoading() {
+
+		final List<String> loaded = new ArrayList<String>();
+
+		// Provides the class files only.
+		final ClassLoader resources = new ClassLoader(null) {
+
+			@Override
+			public InputStream getResourceAsStream(final String name) {
+				return LOADER.getResourceAsStream(name);
+			}
+
+			@Override
+			protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+				loaded.add(name);
+				throw new ClassNotFoundException(name);
+			}
+		};
+
+		final Map<String, Long> estimates = new TuDurationHistory(
+				new File(this.temporaryFolder.getRoot(), "none.txt")).estimate(Arrays.asList(
+						PrimitiveValidBO.class.getName(), BaseAbstractBO.class.getName(), GrandChildBO.class.getName()),
+						resources);
+
+		Assert.assertTrue(loaded.isEmpty());
+		Assert.assertEquals(Long.valueOf(1), estimates.get(BaseAbstractBO.class.getName()));
+		Assert.assertTrue(1 < estimates.get(PrimitiveValidBO.class.getName()).longValue());
+	}
+
+	@Test
+	public void testEstimatesScaledToRecordedDurations() {
+
+		final TuDurationHistory history = new TuDurationHistory(new File(this.temporaryFolder.getRoot(), "none.txt"));
+		final String recorded = PrimitiveValidBO.class.getName();
+		final String first = ObjectTestInvalidBO.class.getName();
+		final String second = GrandChildBO.class.getName();
+		final List<String> classNames = Arrays.asList(recorded, first, second);
+
+		final Map<String, Long> cold = history.estimate(classNames, LOADER);
+
+		history.record(recorded, 1_000_000L);
+		final Map<String, Long> scaled = history.estimate(classNames, LOADER);
+
+		// An average class not recorded takes the average recorded time.
+		Assert.assertEquals(Long.valueOf(1_000_000L), scaled.get(recorded));
+		Assert.assertEquals(2_000_000L, scaled.get(first).longValue() + scaled.get(second).longValue(), 1);
+		Assert.assertEquals((double) cold.get(first).longValue() / cold.get(second).longValue(),
+				(double) scaled.get(first).longValue() / scaled.get(second).longValue(), 0.001);
+	}
+
+	@Test
+	public void testParallelVerificationLongestFirst() throws IOException {
+
+		final List<String> classNames = Arrays.asList(ArrayTestValidBO.class.getName(),
+				ObjectTestInvalidBO.class.getName(), GrandChildBO.class.getName());
+		final Map<String, Long> estimates = new HashMap<String, Long>();
+		estimates.put(ArrayTestValidBO.class.getName(), Long.valueOf(10));
+		estimates.put(ObjectTestInvalidBO.class.getName(), Long.valueOf(30));
+		estimates.put(GrandChildBO.class.getName(), Long.valueOf(20));
+
+		final TuReporterTest.CollectingSink sink = new TuReporterTest.CollectingSink();
+		final TuReporter previous = TestUtil.getReporter();
+		final TuResultsRegistry results = new TuResultsRegistry();
+		final ForkJoinPool forkJoinPool = new ForkJoinPool(1);
+
+		try (TuReporter reporter = new TuReporter(sink)) {
+
+			TestUtil.setReporter(reporter);
+			forkJoinPool.invoke(new TuParallelVerificationTask(classNames, estimates, 1, results));
+			reporter.flush();
+
+		} finally {
+			TestUtil.setReporter(previous);
+			forkJoinPool.shutdown();
+		}
+
+		Assert.assertEquals(Arrays.asList(ObjectTestInvalidBO.class.getName(), GrandChildBO.class.getName(),
+				ArrayTestValidBO.class.getName()), new ArrayList<String>(sink.classNames));
+
+		// Every class is verified once across the workers.
+		final TuResultsRegistry parallel = new TuResultsRegistry();
+		final ForkJoinPool fourWorkers = new ForkJoinPool(4);
+
+		try {
+			fourWorkers.invoke(new TuParallelVerificationTask(classNames, estimates, 4, parallel));
+		} finally {
+			fourWorkers.shutdown();
+		}
+
+		final TuResultsPO expected = results.snapshot();
+		final TuResultsPO actual = parallel.snapshot();
+
+		Assert.assertEquals(expected.getMethodVerifications(), actual.getMethodVerifications());
+		Assert.assertEquals(expected.getTotalWarnings(), actual.getTotalWarnings());
+		Assert.assertEquals(expected.getTotalGlitches(), actual.getTotalGlitches());
+		Assert.assertEquals(expected.getClassSkips(), actual.getClassSkips());
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.gtcgroup.testutil.to.TuOutcomeTO;
+import com.gtcgroup.testutil.to.dependency.ChildBO;
+import com.gtcgroup.testutil.to.dependency.ChildRO;
+import com.gtcgroup.testutil.to.dependency.GrandChildBO;
+import com.gtcgroup.testutil.to.dependency.ObjectTestInvalidBO;
+
+/**
+ * <p>
+ * Test class.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+
+public class TuIncrementalStoreTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void testDigestCoversHierarchy() {
+
+		final ClassLoader loader = TuIncrementalStoreTest.class.getClassLoader();
+		final String digest = TuIncrementalStore.digest(GrandChildBO.class.getName(), loader);
+
+		Assert.assertNotNull(digest);
+		Assert.assertEquals(digest, TuIncrementalStore.digest(GrandChildBO.class.getName(), loader));
+		Assert.assertNotEquals(digest, TuIncrementalStore.digest(ChildBO.class.getName(), loader));
+		Assert.assertNull(TuIncrementalStore.digest("com.gtcgroup.testutil.DoesNotExist", loader));
+	}
+
+	@Test
+	public void testRecordedOutcomesPersisted() {
+
+		final File storeFile = new File(this.temporaryFolder.getRoot(), "incremental-results.txt");
+		final String className = ObjectTestInvalidBO.class.getName();
+		final List<TuOutcomeTO> outcomes = TestUtil.collectOutcomes(className);
+
+		final TuIncrementalStore store = new TuIncrementalStore(storeFile);
+		final long[] counts = store.record(className, "digest", outcomes);
+		store.save();
+
+		final TuIncrementalStore reread = new TuIncrementalStore(storeFile);
+
+		Assert.assertArrayEquals(counts, reread.lookup(className, "digest"));
+		Assert.assertNull(reread.lookup(className, "changed"));
+		Assert.assertEquals(outcomes.size(), counts[0] + counts[1] + counts[2] + counts[3] + counts[4]);
+	}
+
+	@Test
+	public void testDigestCoversInterfaces() {
+
+		final ClassLoader loader = TuIncrementalStoreTest.class.getClassLoader();
+		final String interfaceFile = ChildRO.class.getName().replace('.', '/') + ".class";
+
+		// Hide the class file of the interface.
+		final ClassLoader hidingLoader = new ClassLoader(loader) {
+
+			@Override
+			public InputStream getResourceAsStream(final String name) {
+				return interfaceFile.equals(name) ? null : super.getResourceAsStream(name);
+			}
+		};
+
+		Assert.assertNotNull(TuIncrementalStore.digest(ChildBO.class.getName(), loader));
+		Assert.assertNull(TuIncrementalStore.digest(ChildBO.class.getName(), hidingLoader));
+	}
+
+	@Test
+	public void testUnseenRecordsPruned() {
+
+		final File storeFile = new File(this.temporaryFolder.getRoot(), "incremental-results.txt");
+		final List<TuOutcomeTO> outcomes = Collections.emptyList();
+
+		final TuIncrementalStore store = new TuIncrementalStore(storeFile);
+		store.record("a.b.Present", "digest", outcomes);
+		store.record("a.b.c.Removed", "digest", outcomes);
+		store.record("x.y.Other", "digest", outcomes);
+		store.save();
+
+		// A later run of package a.b sees only the present class.
+		final TuIncrementalStore rerun = new TuIncrementalStore(storeFile);
+		Assert.assertNotNull(rerun.lookup("a.b.Present", "digest"));
+		rerun.pruneUnseen("a.b");
+		rerun.save();
+
+		final TuIncrementalStore reread = new TuIncrementalStore(storeFile);
+
+		Assert.assertNotNull(reread.lookup("a.b.Present", "digest"));
+		Assert.assertNull(reread.lookup("a.b.c.Removed", "digest"));
+		Assert.assertNotNull(reread.lookup("x.y.Other", "digest"));
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gtcgroup.testutil.exception.TestUtilCautionException;
+import com.gtcgroup.testutil.to.dependency.ConstructorCastBO;
+import com.gtcgroup.testutil.to.dependency.ObjectTestValidBO;
+
+/**
+ * <p>
+ * Test class.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+
+public class TuInstantiatorBOTest {
+
+	public static class CountedBO {
+
+		static int count;
+
+		public CountedBO() {
+			super();
+			count++;
+		}
+	}
+
+	@Test
+	public void testResolvedInstanceDiscarded() {
+
+		Assert.assertSame(TuInstantiatorBO.Strategy.PUBLIC_NO_ARGUMENT,
+				TuInstantiatorBO.resolveStrategy(CountedBO.class));
+		Assert.assertEquals(1, CountedBO.count);
+
+		TuInstantiatorBO.instantiate(CountedBO.class);
+		Assert.assertEquals(2, CountedBO.count);
+	}
+
+	@Test
+	public void testMemoizedClassUnloaded() throws Exception {
+
+		final URL location = ObjectTestValidBO.class.getProtectionDomain().getCodeSource().getLocation();
+		URLClassLoader loader = new URLClassLoader(new URL[] { location }, null);
+		final WeakReference<ClassLoader> reference = new WeakReference<ClassLoader>(loader);
+
+		Class<?> theClass = loader.loadClass(ObjectTestValidBO.class.getName());
+		Assert.assertNotNull(TuInstantiatorBO.instantiate(theClass));
+		Assert.assertNotNull(TuInstantiatorBO.getMemoizedStrategy(theClass));
+
+		loader.close();
+		loader = null;
+		theClass = null;
+
+		for (int i = 0; i < 50 && null != reference.get(); i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		Assert.assertNull(reference.get());
+	}
+
+	@Test
+	public void testSuccessfulStrategyMemoized() {
+
+		final Object first = TuInstantiatorBO.instantiate(ObjectTestValidBO.class);
+		final Object second = TuInstantiatorBO.instantiate(ObjectTestValidBO.class);
+
+		Assert.assertTrue(first instanceof ObjectTestValidBO);
+		Assert.assertNotSame(first, second);
+		Assert.assertNotNull(TuInstantiatorBO.getMemoizedStrategy(ObjectTestValidBO.class));
+		Assert.assertNotSame(TuInstantiatorBO.Strategy.NOT_INSTANTIABLE,
+				TuInstantiatorBO.getMemoizedStrategy(ObjectTestValidBO.class));
+	}
+
+	@Test
+	public void testFailureMemoized() {
+
+		for (int i = 0; i < 2; i++) {
+
+			try {
+				TuInstantiatorBO.instantiate(ConstructorCastBO.class);
+				Assert.fail();
+
+			} catch (final TestUtilCautionException e) {
+
+				Assert.assertSame(TuInstantiatorBO.Strategy.NOT_INSTANTIABLE,
+						TuInstantiatorBO.getMemoizedStrategy(ConstructorCastBO.class));
+			}
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gtcgroup.testutil.to.dependency.ExcludeClassWithMethodsBO;
+import com.gtcgroup.testutil.to.dependency.ObjectTestInvalidBO;
+
+/**
+ * <p>
+ * Test class.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+
+public class TuInvocationBackendTest {
+
+	/** Records whether its accessors were invoked by reflection. */
+	public static class TracedBO {
+
+		static boolean reflectedSetter;
+
+		static boolean reflectedGetter;
+
+		private String value;
+
+		public String getValue() {
+			reflectedGetter |= reflected();
+			return this.value;
+		}
+
+		public void setValue(final String value) {
+			reflectedSetter |= reflected();
+			this.value = value;
+		}
+
+		private static boolean reflected() {
+
+			// A handle is invoked directly by TuUtil (its frames are hidden).
+			return !TuUtil.class.getName().equals(new Throwable().getStackTrace()[2].getClassName());
+		}
+	}
+
+	private static TuVerificationContextBO verify(final Object mutableObject, final TuInvocationBackend backend) {
+
+		TuInvocationBackend.setActive(backend);
+
+		final TuVerificationContextBO context = new TuVerificationContextBO(mutableObject);
+
+		TuCollectingParameterCacheHelper.prepareTestInstance(context);
+		TuCollectingParameterCacheHelper.invokeSettersAndGetters(context);
+
+		return context;
+	}
+
+	@After
+	public void restoreBackend() {
+
+		TuInvocationBackend.setActive(TuInvocationBackend.METHOD_HANDLE);
+	}
+
+	@Test
+	public void testBackendsAgree() {
+
+		final TuVerificationContextBO[] reflection = { verify(new ObjectTestInvalidBO(), TuInvocationBackend.REFLECTION),
+				verify(new ExcludeClassWithMethodsBO(), TuInvocationBackend.REFLECTION) };
+
+		final TuVerificationContextBO[] methodHandle = {
+				verify(new ObjectTestInvalidBO(), TuInvocationBackend.METHOD_HANDLE),
+				verify(new ExcludeClassWithMethodsBO(), TuInvocationBackend.METHOD_HANDLE) };
+
+		for (int i = 0; i < reflection.length; i++) {
+
+			Assert.assertTrue(0 < reflection[i].getTotalGlitches());
+			Assert.assertEquals(reflection[i].getMethodVerifications(), methodHandle[i].getMethodVerifications());
+			Assert.assertEquals(reflection[i].getTotalGlitches(), methodHandle[i].getTotalGlitches());
+		}
+	}
+
+	@Test
+	public void testMethodHandlesInvoked() {
+
+		TracedBO.reflectedSetter = false;
+		TracedBO.reflectedGetter = false;
+
+		Assert.assertEquals(1, verify(new TracedBO(), TuInvocationBackend.METHOD_HANDLE).getMethodVerifications());
+		Assert.assertFalse(TracedBO.reflectedSetter);
+		Assert.assertFalse(TracedBO.reflectedGetter);
+
+		verify(new TracedBO(), TuInvocationBackend.REFLECTION);
+		Assert.assertTrue(TracedBO.reflectedSetter);
+		Assert.assertTrue(TracedBO.reflectedGetter);
+	}
+
+	@Test
+	public void testDeclarationParsed() {
+
+		Assert.assertSame(TuInvocationBackend.REFLECTION, TuInvocationBackend.parse(" reflection "));
+		Assert.assertSame(TuInvocationBackend.METHOD_HANDLE, TuInvocationBackend.parse("method_handle"));
+
+		try {
+			TuInvocationBackend.parse("handles");
+			Assert.fail();
+
+		} catch (final IllegalArgumentException e) {
+			Assert.assertTrue(e.getMessage().contains(TuInvocationBackend.SYSTEM_PROPERTY));
+		}
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gtcgroup.testutil.exception.TestUtilWarningException;
+import com.gtcgroup.testutil.to.TuOutcomeTO;
+import com.gtcgroup.testutil.to.dependency.BaseAbstractEndlessLoopBO;
+import com.gtcgroup.testutil.to.dependency.ConcreteEndlessLoopBO;
+import com.gtcgroup.testutil.to.dependency.ConstructorValidBO;
+import com.gtcgroup.testutil.to.dependency.SubstituteClassEndlessLoopBO;
+
+/**
+ * <p>
+ * Test class.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+
+public class TuObjectGraphPlanBOTest {
+
+	@After
+	public void tearDown() {
+		TuVerificationRules.clear();
+		TestUtil.setObjectGraphBudgets(8, 64);
+	}
+
+	@Test
+	public void testPlanCachedWithFreshInstances() {
+
+		final TuObjectGraphPlanBO plan = TuObjectGraphPlanBO.forType(ConstructorValidBO.class);
+
+		Assert.assertSame(plan, TuObjectGraphPlanBO.forType(ConstructorValidBO.class));
+		Assert.assertEquals(TuObjectGraphPlanBO.Kind.CONSTRUCTOR, plan.getKind());
+		Assert.assertNotSame(plan.newInstance(), plan.newInstance());
+	}
+
+	@Test
+	public void testTrialBuildLeavesBoundValues() {
+
+		final String className = ConstructorValidBO.class.getName();
+		final Random expected = new Random(TuValueSource.deriveClassSeed(className));
+
+		// Resolve the plan (building a template) while the class is bound.
+		TestUtil.setObjectGraphBudgets(8, 64);
+		TuValueSource.bindClass(className);
+
+		try {
+			Assert.assertEquals(TuObjectGraphPlanBO.Kind.CONSTRUCTOR,
+					TuObjectGraphPlanBO.forType(ConstructorValidBO.class).getKind());
+			Assert.assertEquals(expected.nextLong(), TuValueSource.current().nextLong());
+
+		} finally {
+			TuValueSource.unbindClass();
+		}
+	}
+
+	@Test
+	public void testCycleDetected() {
+
+		TuVerificationRules.substituteSetterType(BaseAbstractEndlessLoopBO.class.getName(),
+				ConcreteEndlessLoopBO.class.getName());
+
+		final TuOutcomeTO outcome = TestUtil.collectOutcomes(SubstituteClassEndlessLoopBO.class.getName()).get(0);
+
+		Assert.assertEquals(TuOutcomeTO.Kind.WARNING, outcome.getKind());
+		Assert.assertTrue(outcome.getMessage().contains("cycle"));
+	}
+
+	@Test
+	public void testBreadthBudget() {
+
+		TestUtil.setObjectGraphBudgets(8, 2);
+
+		try {
+			TuObjectGraphPlanBO.forType(ConstructorValidBO.class).newInstance();
+			Assert.fail();
+
+		} catch (final TestUtilWarningException e) {
+			Assert.assertTrue(e.getMessage().contains("breadth"));
+		}
+	}
+
+	@Test
+	public void testFailedPlanThrowsFreshException() {
+
+		TestUtil.setObjectGraphBudgets(8, 2);
+
+		final TuObjectGraphPlanBO plan = TuObjectGraphPlanBO.forType(ConstructorValidBO.class);
+		Assert.assertEquals(TuObjectGraphPlanBO.Kind.FAILED, plan.getKind());
+
+		final TestUtilWarningException first = newInstanceFailure(plan);
+		final TestUtilWarningException second = newInstanceFailure(plan);
+
+		Assert.assertNotSame(first, second);
+		Assert.assertEquals(first.getMessage(), second.getMessage());
+	}
+
+	private static TestUtilWarningException newInstanceFailure(final TuObjectGraphPlanBO plan) {
+
+		try {
+			plan.newInstance();
+
+		} catch (final TestUtilWarningException e) {
+			return e;
+		}
+		throw new AssertionError("No exception thrown.");
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gtcgroup.testutil.exception.TestUtilSkipException;
+import com.gtcgroup.testutil.to.TuOutcomeTO;
+import com.gtcgroup.testutil.to.dependency.InterfaceReadOnly;
+import com.gtcgroup.testutil.to.dependency.ObjectTestInvalidBO;
+
+/**
+ * <p>
+ * Test class.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+
+public class TuOutcomeTOTest {
+
+	@Test
+	public void testOutcomesMatchCounters() {
+
+		final TuVerificationContextBO context = new TuVerificationContextBO(new ObjectTestInvalidBO());
+		TuCollectingParameterCacheHelper.prepareTestInstance(context);
+		TuCollectingParameterCacheHelper.invokeSettersAndGetters(context);
+
+		int verifications = 0;
+		int warnings = 0;
+		int glitches = 0;
+
+		for (final TuOutcomeTO outcome : context.getOutcomes()) {
+
+			Assert.assertEquals(ObjectTestInvalidBO.class.getName(), outcome.getClassName());
+
+			switch (outcome.getKind()) {
+			case VERIFICATION:
+				verifications++;
+				break;
+			case WARNING:
+				warnings++;
+				Assert.assertNotNull(outcome.getMessage());
+				break;
+			case GLITCH:
+				glitches++;
+				Assert.assertNotNull(outcome.getSetterName());
+				Assert.assertNotNull(outcome.getMessage());
+				break;
+			default:
+				Assert.fail(outcome.toString());
+			}
+		}
+
+		Assert.assertEquals(context.getMethodVerifications(), verifications);
+		Assert.assertEquals(context.getTotalWarnings(), warnings);
+		Assert.assertEquals(context.getTotalGlitches(), glitches);
+	}
+
+	@Test
+	public void testSkipOutcome() {
+
+		final List<TuOutcomeTO> outcomes = TestUtil.collectOutcomes(InterfaceReadOnly.class.getName());
+
+		Assert.assertEquals(1, outcomes.size());
+		Assert.assertSame(TuOutcomeTO.Kind.CLASS_SKIP, outcomes.get(0).getKind());
+	}
+
+	@Test
+	public void testStacklessException() {
+
+		Assert.assertEquals(0, new TestUtilSkipException("skip").getStackTrace().length);
+	}
+}
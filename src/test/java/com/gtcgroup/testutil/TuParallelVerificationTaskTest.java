@@ -0,0 +1,95 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.gtcgroup.testutil;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gtcgroup.testutil.po.TuResultsPO;
+
+import junit.framework.AssertionFailedError;
+
+/**
+ * <p>
+ * Test class.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+
+public class TuParallelVerificationTaskTest {
+
+	private static final String PACKAGE_NAME = "com.gtcgroup.testutil.to.dependency";
+
+	/**
+	 * @param sweep
+	 * @return long[] - The verifications, warnings, glitches, cautions and
+	 *         skips counted by the sweep.
+	 */
+	private static long[] countSweep(final Runnable sweep) {
+
+		final TuResultsPO before = TuResultsRegistry.getGlobal().snapshot();
+
+		try {
+			sweep.run();
+
+		} catch (final AssertionFailedError e) {
+			// The package holds invalid classes; the counts are compared.
+		}
+
+		final TuResultsPO after = TuResultsRegistry.getGlobal().snapshot();
+
+		return new long[] { after.getMethodVerifications() - before.getMethodVerifications(),
+				after.getTotalWarnings() - before.getTotalWarnings(),
+				after.getTotalGlitches() - before.getTotalGlitches(),
+				after.getClassCautions() - before.getClassCautions(),
+				after.getClassSkips() - before.getClassSkips() };
+	}
+
+	@Test
+	public void testParallelSweepMatchesSerialSweep() {
+
+		final long[] serial = countSweep(() -> TestUtil.verifyUsingPackageName(PACKAGE_NAME));
+		final ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+
+		try {
+			final long[] parallel = countSweep(() -> TestUtil.verifyUsingPackageName(PACKAGE_NAME, forkJoinPool));
+
+			Assert.assertTrue(0 < serial[0]);
+			Assert.assertArrayEquals(serial, parallel);
+
+		} finally {
+			forkJoinPool.shutdown();
+		}
+	}
+}
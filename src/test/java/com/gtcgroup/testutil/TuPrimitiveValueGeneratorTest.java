@@ -0,0 +1,77 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * <p>
+ * Test class.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+
+public class TuPrimitiveValueGeneratorTest {
+
+	@Test
+	public void testBoxedTypePerPrimitive() {
+
+		final Random random = new Random(42L);
+
+		Assert.assertSame(Boolean.TRUE, TuPrimitiveValueGenerator.generate(boolean.class, random));
+		Assert.assertTrue(TuPrimitiveValueGenerator.generate(byte.class, random) instanceof Byte);
+		Assert.assertTrue(TuPrimitiveValueGenerator.generate(char.class, random) instanceof Character);
+		Assert.assertTrue(TuPrimitiveValueGenerator.generate(double.class, random) instanceof Double);
+		Assert.assertTrue(TuPrimitiveValueGenerator.generate(float.class, random) instanceof Float);
+		Assert.assertTrue(TuPrimitiveValueGenerator.generate(int.class, random) instanceof Integer);
+		Assert.assertTrue(TuPrimitiveValueGenerator.generate(long.class, random) instanceof Long);
+		Assert.assertTrue(TuPrimitiveValueGenerator.generate(short.class, random) instanceof Short);
+	}
+
+	@Test
+	public void testNonPrimitiveType() {
+
+		Assert.assertNull(TuPrimitiveValueGenerator.generate(void.class, new Random()));
+		Assert.assertNull(TuPrimitiveValueGenerator.generate(Integer.class, new Random()));
+	}
+
+	@Test
+	public void testSameSeedSameValues() {
+
+		Assert.assertEquals(TuPrimitiveValueGenerator.generate(long.class, new Random(7L)),
+				TuPrimitiveValueGenerator.generate(long.class, new Random(7L)));
+	}
+}
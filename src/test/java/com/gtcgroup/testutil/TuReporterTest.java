@@ -0,0 +1,259 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.w3c.dom.Document;
+
+import com.gtcgroup.testutil.to.TuClassResultTO;
+import com.gtcgroup.testutil.to.TuOutcomeTO;
+import com.gtcgroup.testutil.to.dependency.GrandChildBO;
+import com.gtcgroup.testutil.to.dependency.ObjectTestInvalidBO;
+
+/**
+ * <p>
+ * Test class.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+
+public class TuReporterTest {
+
+	/** Collects the class names reported. */
+	static final class CollectingSink implements TuReportSink {
+
+		final List<String> classNames = Collections.synchronizedList(new ArrayList<String>());
+
+		boolean closed;
+
+		@Override
+		public void report(final TuClassResultTO result) {
+			this.classNames.add(result.getClassName());
+		}
+
+		@Override
+		public void flush() {
+			// Nothing buffered.
+		}
+
+		@Override
+		public void close() {
+			this.closed = true;
+		}
+	}
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void testConcurrentReportsOrderedPerProducer() throws Exception {
+
+		final CollectingSink sink = new CollectingSink();
+		final int producers = 4;
+		final int reports = 500;
+		final CountDownLatch start = new CountDownLatch(1);
+		final List<Thread> threads = new ArrayList<Thread>();
+
+		try (TuReporter reporter = new TuReporter(sink)) {
+
+			for (int p = 0; p < producers; p++) {
+
+				final int producer = p;
+				final Thread thread = new Thread(() -> {
+					try {
+						start.await();
+					} catch (final InterruptedException e) {
+						return;
+					}
+					for (int i = 0; i < reports; i++) {
+						reporter.report(newResult(producer + ":" + i));
+					}
+				});
+				thread.start();
+				threads.add(thread);
+			}
+			start.countDown();
+
+			for (final Thread thread : threads) {
+				thread.join();
+			}
+			reporter.flush();
+
+			Assert.assertEquals(producers * reports, sink.classNames.size());
+
+			final int[] next = new int[producers];
+
+			for (final String className : sink.classNames) {
+
+				final String[] parts = className.split(":");
+				Assert.assertEquals(next[Integer.parseInt(parts[0])]++, Integer.parseInt(parts[1]));
+			}
+		}
+		Assert.assertTrue(sink.closed);
+	}
+
+	@Test
+	public void testFileSinks() throws Exception {
+
+		final File textFile = new File(this.temporaryFolder.getRoot(), "report.txt");
+		final File xmlFile = new File(this.temporaryFolder.getRoot(), "junit/TEST-TestUtil.xml");
+		final File jsonFile = new File(this.temporaryFolder.getRoot(), "report.json");
+
+		final TuReporter previous = TestUtil.getReporter();
+
+		try (TuReporter reporter = new TuReporter(TuTextReportSink.file(textFile), new TuJUnitXmlReportSink(xmlFile),
+				new TuJsonReportSink(jsonFile))) {
+
+			TestUtil.setReporter(reporter);
+			TestUtil.collectOutcomes(ObjectTestInvalidBO.class.getName());
+			TestUtil.collectOutcomes(GrandChildBO.class.getName());
+
+		} finally {
+			TestUtil.setReporter(previous);
+		}
+
+		final String text = new String(Files.readAllBytes(textFile.toPath()), StandardCharsets.UTF_8);
+
+		Assert.assertTrue(text.startsWith(ObjectTestInvalidBO.class.getName()));
+		Assert.assertTrue(text.contains("++ Glitch Class: " + ObjectTestInvalidBO.class.getName() + " [class seed: "));
+		Assert.assertTrue(text.contains("Glitch [# ]:  Setter = [setStrTest1()];  Getter = [getStrTest1()]"));
+
+		final Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(xmlFile);
+
+		Assert.assertEquals(2, document.getElementsByTagName("testsuite").getLength());
+		Assert.assertEquals("2", document.getDocumentElement().getElementsByTagName("testsuite").item(0)
+				.getAttributes().getNamedItem("failures").getNodeValue());
+
+		final String json = new String(Files.readAllBytes(jsonFile.toPath()), StandardCharsets.UTF_8).trim();
+
+		Assert.assertTrue(json.startsWith("[") && json.endsWith("]"));
+		Assert.assertTrue(json.contains("\"kind\":\"GLITCH\",\"setter\":\"setStrTest1\""));
+		Assert.assertTrue(json.contains("\"CLASS_SKIP\":1"));
+	}
+
+	@Test
+	public void testFailingSinkDetached() throws Exception {
+
+		final CollectingSink sink = new CollectingSink();
+		final TuReporter reporter = new TuReporter(new TuReportSink() {
+
+			@Override
+			public void report(final TuClassResultTO result) throws IOException {
+				throw new IOException("Disk full.");
+			}
+
+			@Override
+			public void flush() {
+				// Nothing buffered.
+			}
+
+			@Override
+			public void close() {
+				// Nothing to release.
+			}
+		}, sink);
+
+		reporter.report(newResult("a"));
+		reporter.report(newResult("b"));
+		reporter.flush();
+
+		Assert.assertEquals(2, sink.classNames.size());
+
+		try {
+			reporter.close();
+			Assert.fail();
+
+		} catch (final IOException e) {
+			Assert.assertEquals("Disk full.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void testReportRacingClose() throws Exception {
+
+		for (int round = 0; round < 200; round++) {
+
+			final CollectingSink sink = new CollectingSink();
+			final TuReporter reporter = new TuReporter(sink);
+			final int[] accepted = new int[1];
+
+			final Thread producer = new Thread(() -> {
+				try {
+					for (;;) {
+						reporter.report(newResult("a"));
+						accepted[0]++;
+					}
+				} catch (final IllegalStateException e) {
+					// Closed.
+				}
+			});
+			producer.start();
+
+			Thread.yield();
+			reporter.close();
+			producer.join();
+
+			Assert.assertEquals(accepted[0], sink.classNames.size());
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testReportAfterClose() throws IOException {
+
+		final TuReporter reporter = new TuReporter();
+
+		reporter.close();
+		reporter.report(newResult("a"));
+	}
+
+	static TuClassResultTO newResult(final String className) {
+
+		final List<TuOutcomeTO> outcomes = Collections.emptyList();
+
+		return new TuClassResultTO(0L, className, 0L, 0L, TuOutcomeTO.countByKind(outcomes), outcomes);
+	}
+}
@@ -0,0 +1,196 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.gtcgroup.testutil.to.TuClassResultTO;
+import com.gtcgroup.testutil.to.TuOutcomeTO;
+import com.gtcgroup.testutil.to.dependency.GrandChildBO;
+import com.gtcgroup.testutil.to.dependency.ObjectTestInvalidBO;
+
+/**
+ * <p>
+ * Test class.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+
+public class TuResultStoreTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void testVerificationsAppended() throws IOException {
+
+		final File storeFile = new File(this.temporaryFolder.getRoot(), "results.store");
+		final String className = ObjectTestInvalidBO.class.getName();
+
+		try (TuResultStore store = TuResultStore.open(storeFile)) {
+
+			TestUtil.setResultStore(store);
+			try {
+				TestUtil.collectOutcomes(className);
+				TestUtil.collectOutcomes(GrandChildBO.class.getName());
+			} finally {
+				TestUtil.setResultStore(null);
+			}
+
+			final List<TuClassResultTO> results = store.findByClassName(className);
+
+			Assert.assertEquals(1, results.size());
+			Assert.assertEquals(store.getRunId(), results.get(0).getRunId());
+			Assert.assertEquals(TuValueSource.deriveClassSeed(className), results.get(0).getClassSeed());
+			Assert.assertTrue(0 < results.get(0).getCount(TuOutcomeTO.Kind.GLITCH));
+			Assert.assertEquals(2, store.findByRunId(store.getRunId()).size());
+		}
+	}
+
+	@Test
+	public void testRunsReopened() throws IOException {
+
+		final File storeFile = new File(this.temporaryFolder.getRoot(), "results.store");
+		final String className = ObjectTestInvalidBO.class.getName();
+		final List<TuOutcomeTO> outcomes = TestUtil.collectOutcomes(className);
+		final long firstRunId;
+
+		try (TuResultStore store = TuResultStore.open(storeFile)) {
+
+			firstRunId = store.getRunId();
+			store.append(className, 7L, 100L, outcomes);
+		}
+
+		try (TuResultStore store = TuResultStore.open(storeFile)) {
+
+			Assert.assertEquals(firstRunId + 1, store.getRunId());
+			store.append(className, 8L, 200L, outcomes);
+
+			final List<TuClassResultTO> results = store.findByClassName(className);
+
+			Assert.assertEquals(2, results.size());
+			Assert.assertEquals(8L, results.get(0).getClassSeed());
+			Assert.assertEquals(7L, results.get(1).getClassSeed());
+			Assert.assertEquals(outcomes.size(), results.get(1).getPairOutcomes().size());
+			Assert.assertEquals(outcomes.get(0).getSetterName(),
+					results.get(1).getPairOutcomes().get(0).getSetterName());
+			Assert.assertEquals(1, store.findByRunId(firstRunId).size());
+		}
+	}
+
+	@Test
+	public void testStoresShareFile() throws IOException {
+
+		final File storeFile = new File(this.temporaryFolder.getRoot(), "results.store");
+		final String className = ObjectTestInvalidBO.class.getName();
+		final List<TuOutcomeTO> outcomes = TestUtil.collectOutcomes(className);
+
+		try (TuResultStore first = TuResultStore.open(storeFile);
+				TuResultStore second = TuResultStore.open(storeFile)) {
+
+			Assert.assertNotEquals(first.getRunId(), second.getRunId());
+
+			first.append(className, 1L, 100L, outcomes);
+			second.append(className, 2L, 200L, outcomes);
+			first.append(className, 3L, 300L, outcomes);
+
+			for (final TuResultStore store : new TuResultStore[] { first, second }) {
+
+				final List<TuClassResultTO> results = store.findByClassName(className);
+
+				Assert.assertEquals(3, results.size());
+				Assert.assertEquals(3L, results.get(0).getClassSeed());
+				Assert.assertEquals(2L, results.get(1).getClassSeed());
+				Assert.assertEquals(1L, results.get(2).getClassSeed());
+				Assert.assertEquals(2, store.findByRunId(first.getRunId()).size());
+				Assert.assertEquals(1, store.findByRunId(second.getRunId()).size());
+			}
+		}
+	}
+
+	@Test
+	public void testConcurrentAppendsBatched() throws Exception {
+
+		final File storeFile = new File(this.temporaryFolder.getRoot(), "results.store");
+		final List<TuOutcomeTO> outcomes = TestUtil.collectOutcomes(ObjectTestInvalidBO.class.getName());
+		final int threads = 4;
+		final int appends = 250;
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		try (TuResultStore store = TuResultStore.open(storeFile)) {
+
+			final List<Future<?>> futures = new ArrayList<Future<?>>();
+
+			for (int t = 0; t < threads; t++) {
+
+				final String className = "a.Class" + t;
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < appends; i++) {
+						store.append(className, i, 1L, outcomes);
+					}
+				}));
+			}
+			for (final Future<?> future : futures) {
+				future.get();
+			}
+
+			Assert.assertEquals(threads * appends, store.findByRunId(store.getRunId()).size());
+
+			for (int t = 0; t < threads; t++) {
+
+				final List<TuClassResultTO> results = store.findByClassName("a.Class" + t);
+
+				Assert.assertEquals(appends, results.size());
+				Assert.assertEquals(appends - 1, results.get(0).getClassSeed());
+			}
+
+		} finally {
+			executor.shutdown();
+		}
+
+		try (TuResultStore reopened = TuResultStore.open(storeFile)) {
+			Assert.assertEquals(appends, reopened.findByClassName("a.Class0").size());
+		}
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.gtcgroup.testutil;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gtcgroup.testutil.po.TuResultsPO;
+
+/**
+ * <p>
+ * Test class.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+
+public class TuResultsRegistryTest {
+
+	private static void assertCounts(final TuResultsPO results, final long verifications, final long warnings,
+			final long glitches, final long cautions, final long skips) {
+
+		Assert.assertEquals(verifications, results.getMethodVerifications());
+		Assert.assertEquals(warnings, results.getTotalWarnings());
+		Assert.assertEquals(glitches, results.getTotalGlitches());
+		Assert.assertEquals(cautions, results.getClassCautions());
+		Assert.assertEquals(skips, results.getClassSkips());
+	}
+
+	private static void addResults(final TuResultsRegistry results) {
+
+		results.addCounts(5, 2, 1);
+		results.addClassCaution();
+		results.addClassSkip();
+		results.addStaticInitialization("a.b.C", 300);
+	}
+
+	@Test
+	public void testRunCountsAddToGlobal() {
+
+		final TuResultsPO before = TuResultsRegistry.getGlobal().snapshot();
+
+		final TuResultsRegistry first = new TuResultsRegistry();
+		final TuResultsRegistry second = new TuResultsRegistry();
+		addResults(first);
+		addResults(second);
+		second.addCounts(1, 0, 0);
+
+		assertCounts(first.snapshot(), 5, 2, 1, 1, 1);
+		assertCounts(second.snapshot(), 6, 2, 1, 1, 1);
+
+		final TuResultsPO after = TuResultsRegistry.getGlobal().snapshot();
+
+		Assert.assertEquals(11, after.getMethodVerifications() - before.getMethodVerifications());
+		Assert.assertEquals(4, after.getTotalWarnings() - before.getTotalWarnings());
+		Assert.assertEquals(2, after.getTotalGlitches() - before.getTotalGlitches());
+		Assert.assertEquals(2, after.getClassCautions() - before.getClassCautions());
+		Assert.assertEquals(2, after.getClassSkips() - before.getClassSkips());
+	}
+
+	@Test
+	public void testSnapshotThenReset() {
+
+		final TuResultsPO before = TuResultsRegistry.getGlobal().snapshot();
+
+		final TuResultsRegistry results = new TuResultsRegistry();
+		addResults(results);
+		results.addStaticInitialization("a.b.C", 200);
+
+		final TuResultsPO snapshot = results.snapshotThenReset();
+
+		assertCounts(snapshot, 5, 2, 1, 1, 1);
+		Assert.assertEquals(500, snapshot.getStaticInitializationNanos());
+		Assert.assertEquals(Long.valueOf(500), snapshot.getSlowestStaticInitializations().get("a.b.C"));
+
+		// The run restarts from zero; the global counts are retained.
+		assertCounts(results.snapshot(), 0, 0, 0, 0, 0);
+		Assert.assertEquals(0, results.snapshot().getStaticInitializationNanos());
+		Assert.assertEquals(5,
+				TuResultsRegistry.getGlobal().snapshot().getMethodVerifications() - before.getMethodVerifications());
+
+		addResults(results);
+		assertCounts(results.snapshot(), 5, 2, 1, 1, 1);
+	}
+
+	@Test
+	public void testReset() {
+
+		final TuResultsPO before = TuResultsRegistry.getGlobal().snapshot();
+
+		final TuResultsRegistry results = new TuResultsRegistry();
+		addResults(results);
+		results.reset();
+
+		assertCounts(results.snapshot(), 0, 0, 0, 0, 0);
+		Assert.assertTrue(results.getStaticInitializationNanos().isEmpty());
+		Assert.assertTrue(results.snapshot().getSlowestStaticInitializations().isEmpty());
+		Assert.assertEquals(5,
+				TuResultsRegistry.getGlobal().snapshot().getMethodVerifications() - before.getMethodVerifications());
+	}
+
+	@Test
+	public void testSlowestStaticInitializationsBounded() {
+
+		final TuResultsRegistry results = new TuResultsRegistry();
+
+		for (int i = 1; i <= TuResultsRegistry.SLOWEST_STATIC_INITIALIZATIONS + 2; i++) {
+			results.addStaticInitialization("a.b.C" + i, i);
+		}
+
+		final TuResultsPO snapshot = results.snapshot();
+
+		Assert.assertEquals(TuResultsRegistry.SLOWEST_STATIC_INITIALIZATIONS,
+				snapshot.getSlowestStaticInitializations().size());
+		Assert.assertEquals("a.b.C" + (TuResultsRegistry.SLOWEST_STATIC_INITIALIZATIONS + 2),
+				snapshot.getSlowestStaticInitializations().keySet().iterator().next());
+	}
+}
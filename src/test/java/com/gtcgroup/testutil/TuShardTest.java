@@ -0,0 +1,198 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.gtcgroup.testutil.po.TuResultsPO;
+import com.gtcgroup.testutil.to.TuOutcomeTO;
+import com.gtcgroup.testutil.to.dependency.ObjectTestInvalidBO;
+
+import junit.framework.AssertionFailedError;
+
+/**
+ * <p>
+ * Test class.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+
+public class TuShardTest {
+
+	private static final String PACKAGE_NAME = "com.gtcgroup.testutil.to.dependency";
+
+	private static final List<String> CLASS_NAMES = Arrays.asList("a.Alpha", "a.Beta", "a.Gamma", "b.Delta",
+			"b.Epsilon", "b.Zeta", "c.Eta", "c.Theta");
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Before
+	public void setUp() {
+		System.setProperty(TuShard.DIRECTORY_PROPERTY, this.temporaryFolder.getRoot().getAbsolutePath());
+	}
+
+	@After
+	public void tearDown() {
+		System.clearProperty(TuShard.DIRECTORY_PROPERTY);
+	}
+
+	@Test
+	public void testParse() {
+
+		Assert.assertEquals(TuShard.of(2, 4), TuShard.parse(" 2 / 4"));
+		Assert.assertEquals("2/4", TuShard.of(2, 4).toString());
+
+		for (final String declaration : new String[] { "4", "0/4", "5/4", "a/4" }) {
+			try {
+				TuShard.parse(declaration);
+				Assert.fail(declaration);
+			} catch (final IllegalArgumentException e) {
+				// Expected.
+			}
+		}
+	}
+
+	@Test
+	public void testHashPartitionIsDeterministic() {
+
+		final List<String> reversed = new ArrayList<String>(CLASS_NAMES);
+		Collections.reverse(reversed);
+
+		final Map<String, Integer> partition = TuShard.partition(CLASS_NAMES, 3,
+				Collections.<String, Long>emptyMap());
+
+		Assert.assertEquals(new HashMap<String, Integer>(partition),
+				new HashMap<String, Integer>(TuShard.partition(reversed, 3, Collections.<String, Long>emptyMap())));
+
+		int selected = 0;
+		for (int i = 1; i <= 3; i++) {
+			selected += TuShard.of(i, 3).select(CLASS_NAMES, Collections.<String, Long>emptyMap()).size();
+		}
+		Assert.assertEquals(CLASS_NAMES.size(), selected);
+	}
+
+	@Test
+	public void testRecordedCostsBalanceShards() {
+
+		final Map<String, Long> costs = new HashMap<String, Long>();
+		for (final String className : CLASS_NAMES) {
+			costs.put(className, Long.valueOf(10));
+		}
+		costs.put("b.Zeta", Long.valueOf(1000));
+
+		// The costly class is alone.
+		Assert.assertEquals(Arrays.asList("b.Zeta"), TuShard.of(1, 2).select(CLASS_NAMES, costs));
+		Assert.assertEquals(CLASS_NAMES.size() - 1, TuShard.of(2, 2).select(CLASS_NAMES, costs).size());
+
+		// An unrecorded class is estimated at the mean of those recorded.
+		costs.remove("a.Alpha");
+		Assert.assertEquals(Arrays.asList("b.Zeta"), TuShard.of(1, 2).select(CLASS_NAMES, costs));
+	}
+
+	@Test
+	public void testMergedShardsMatchSingleVerification() {
+
+		final long[] expected = TuOutcomeTO.countByKind(TestUtil.collectOutcomesUsingPackageName(PACKAGE_NAME));
+
+		for (int i = 1; i <= 3; i++) {
+			Assert.assertTrue(TestUtil.verifyUsingPackageName(PACKAGE_NAME, TuShard.of(i, 3)));
+		}
+
+		final File directory = this.temporaryFolder.getRoot();
+		final TuResultsRegistry results = new TuResultsRegistry();
+		TuShardResults.merge(TuShardResults.readShards(directory)).addTo(results);
+		final TuResultsPO merged = results.snapshot();
+
+		Assert.assertEquals(expected[TuOutcomeTO.Kind.VERIFICATION.ordinal()], merged.getMethodVerifications());
+		Assert.assertEquals(expected[TuOutcomeTO.Kind.WARNING.ordinal()], merged.getTotalWarnings());
+		Assert.assertEquals(expected[TuOutcomeTO.Kind.GLITCH.ordinal()], merged.getTotalGlitches());
+		Assert.assertEquals(expected[TuOutcomeTO.Kind.CLASS_CAUTION.ordinal()], merged.getClassCautions());
+		Assert.assertEquals(expected[TuOutcomeTO.Kind.CLASS_SKIP.ordinal()], merged.getClassSkips());
+
+		final int warnings = (int) merged.getTotalWarnings();
+		final int glitches = (int) merged.getTotalGlitches();
+		final int cautions = (int) merged.getClassCautions();
+
+		// The merge leaves the run seed of this JVM unchanged.
+		final long runSeed = TuValueSource.getRunSeed();
+		TuValueSource.setRunSeed(runSeed + 1);
+
+		try {
+			Assert.assertTrue(TestUtil.summarizeShardResults(PACKAGE_NAME, warnings, glitches, cautions));
+			Assert.assertEquals(runSeed + 1, TuValueSource.getRunSeed());
+		} finally {
+			TuValueSource.setRunSeed(runSeed);
+		}
+		Assert.assertNotNull(new TuDurationHistory().lookup(ObjectTestInvalidBO.class.getName()));
+	}
+
+	@Test
+	public void testUnanticipatedMergeFails() {
+
+		TestUtil.verifyUsingPackageName(PACKAGE_NAME, TuShard.of(1, 1));
+
+		try {
+			TestUtil.summarizeShardResults(PACKAGE_NAME, 0, 0, 0);
+			Assert.fail();
+		} catch (final AssertionFailedError e) {
+			Assert.assertTrue(e.getMessage(), e.getMessage().contains("Anticipated"));
+		}
+	}
+
+	@Test
+	public void testIncompleteShardsNotMerged() {
+
+		TestUtil.verifyUsingPackageName(PACKAGE_NAME, TuShard.of(1, 2));
+
+		try {
+			TestUtil.summarizeShardResults(PACKAGE_NAME, 0, 0, 0);
+			Assert.fail();
+		} catch (final AssertionFailedError e) {
+			Assert.assertTrue(e.getMessage(), e.getMessage().contains("2/2"));
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gtcgroup.testutil.po.TuResultsPO;
+import com.gtcgroup.testutil.to.dependency.InterfaceReadOnly;
+import com.gtcgroup.testutil.to.dependency.ObjectTestValidBO;
+
+/**
+ * <p>
+ * Test class.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+
+public class TuStaticInitializationTest {
+
+	@Test
+	public void testInitializationRecordedForVerifiableClass() {
+
+		final TuResultsRegistry results = new TuResultsRegistry();
+
+		TestUtil.verifyClassQuietly(ObjectTestValidBO.class.getName(), results);
+		TestUtil.verifyClassQuietly(InterfaceReadOnly.class.getName(), results);
+
+		Assert.assertTrue(results.getStaticInitializationNanos().containsKey(ObjectTestValidBO.class.getName()));
+		Assert.assertFalse(results.getStaticInitializationNanos().containsKey(InterfaceReadOnly.class.getName()));
+
+		final TuResultsPO snapshot = results.snapshot();
+		Assert.assertTrue(snapshot.getSlowestStaticInitializations().containsKey(ObjectTestValidBO.class.getName()));
+		Assert.assertEquals(1, snapshot.getSlowestStaticInitializations().size());
+	}
+
+	@Test
+	public void testConfiguredClassLoader() {
+
+		final ClassLoader original = TestUtil.getClassLoader();
+		final TuResultsRegistry results = new TuResultsRegistry();
+
+		try {
+			// A loader that can not resolve the class.
+			TestUtil.setClassLoader(new ClassLoader(null) {
+				// Bootstrap parent only.
+			});
+			TestUtil.verifyClassQuietly(ObjectTestValidBO.class.getName(), results);
+
+		} finally {
+			TestUtil.setClassLoader(original);
+		}
+
+		Assert.assertEquals(1, results.snapshot().getClassCautions());
+	}
+}
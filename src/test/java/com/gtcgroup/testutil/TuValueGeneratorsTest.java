@@ -0,0 +1,133 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * <p>
+ * Test class.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+
+public class TuValueGeneratorsTest {
+
+	/** A type generated by the discovered generator only. */
+	public static final class DiscoveredValue {
+
+		/** Attribute. */
+		private final int value;
+
+		DiscoveredValue(final int value) {
+			this.value = value;
+		}
+
+		int getValue() {
+			return this.value;
+		}
+	}
+
+	/** Registered in META-INF/services. */
+	public static final class DiscoveredGenerator implements TuValueGenerator {
+
+		@Override
+		public boolean supports(final Class<?> type) {
+			return DiscoveredValue.class == type;
+		}
+
+		@Override
+		public Object generate(final Class<?> type, final Random random) {
+			return new DiscoveredValue(random.nextInt());
+		}
+	}
+
+	@After
+	public void tearDown() {
+		TuValueGenerators.clearRegistered();
+	}
+
+	@Test
+	public void testBuiltInGenerators() {
+
+		Assert.assertTrue(TuUtil.instantiateObjectFromClass(BigDecimal.class) instanceof BigDecimal);
+		Assert.assertTrue(TuUtil.instantiateObjectFromClass(UUID.class) instanceof UUID);
+
+		final LocalDate date = (LocalDate) TuObjectGraphPlanBO.forType(LocalDate.class).newInstance();
+
+		Assert.assertTrue(1970 <= date.getYear() && 2099 >= date.getYear());
+		Assert.assertSame(TuObjectGraphPlanBO.Kind.GENERATOR, TuObjectGraphPlanBO.forType(String.class).getKind());
+	}
+
+	@Test
+	public void testDiscoveredGenerator() {
+
+		Assert.assertTrue(TuUtil.instantiateObjectFromClass(DiscoveredValue.class) instanceof DiscoveredValue);
+	}
+
+	@Test
+	public void testRegisteredGeneratorTakesPrecedence() {
+
+		final TuObjectGraphPlanBO builtIn = TuObjectGraphPlanBO.forType(BigDecimal.class);
+
+		TuValueGenerators.register(BigDecimal.class, random -> BigDecimal.TEN);
+		TuValueGenerators.register(Currency.class, random -> Currency.getInstance("USD"));
+
+		Assert.assertNotSame(builtIn, TuObjectGraphPlanBO.forType(BigDecimal.class));
+		Assert.assertSame(BigDecimal.TEN, TuObjectGraphPlanBO.forType(BigDecimal.class).newInstance());
+		Assert.assertEquals(Currency.getInstance("USD"), TuUtil.instantiateObjectFromClass(Currency.class));
+
+		TuValueGenerators.clearRegistered();
+
+		Assert.assertNull(TuValueGenerators.forType(Currency.class));
+	}
+
+	@Test
+	public void testAbstractClassWithGenerator() {
+
+		Assert.assertTrue(TuObjectGraphPlanBO.isAbstractClass(Number.class));
+
+		TuValueGenerators.register(Number.class, random -> Integer.valueOf(random.nextInt()));
+
+		Assert.assertFalse(TuObjectGraphPlanBO.isAbstractClass(Number.class));
+		Assert.assertTrue(TuObjectGraphPlanBO.forType(Number.class).newInstance() instanceof Integer);
+	}
+}
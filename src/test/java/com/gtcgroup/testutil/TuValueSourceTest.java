@@ -0,0 +1,109 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gtcgroup.testutil.to.dependency.ObjectTestInvalidBO;
+
+/**
+ * <p>
+ * Test class.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+
+public class TuValueSourceTest {
+
+	private final long originalRunSeed = TuValueSource.getRunSeed();
+
+	@After
+	public void restoreRunSeed() {
+
+		TuValueSource.unbindClass();
+		TuValueSource.setRunSeed(this.originalRunSeed);
+	}
+
+	private static Object[] firstParameterValues(final String className) {
+
+		TuValueSource.bindClass(className);
+
+		try {
+			final TuVerificationContextBO context = new TuVerificationContextBO(new ObjectTestInvalidBO());
+			TuCollectingParameterCacheHelper.prepareTestInstance(context);
+
+			return context.getTuMethodPairBOsList().get(0).getTuMethodSetBO().getParameterValues();
+		} finally {
+			TuValueSource.unbindClass();
+		}
+	}
+
+	@Test
+	public void testClassSeedDerivedFromRunSeed() {
+
+		TuValueSource.setRunSeed(42L);
+		final long classSeed = TuValueSource.deriveClassSeed("a.b.C");
+
+		Assert.assertEquals(classSeed, TuValueSource.deriveClassSeed("a.b.C"));
+		Assert.assertNotEquals(classSeed, TuValueSource.deriveClassSeed("a.b.D"));
+
+		TuValueSource.setRunSeed(43L);
+		Assert.assertNotEquals(classSeed, TuValueSource.deriveClassSeed("a.b.C"));
+	}
+
+	@Test
+	public void testSameSeedSameValues() {
+
+		TuValueSource.setRunSeed(42L);
+		final String className = ObjectTestInvalidBO.class.getName();
+
+		Assert.assertArrayEquals(firstParameterValues(className), firstParameterValues(className));
+		Assert.assertNull(TuValueSource.getBoundClassSeed());
+	}
+
+	@Test
+	public void testReverificationKeepsRunSeed() {
+
+		TuValueSource.setRunSeed(42L);
+		final long classSeed = TuValueSource.deriveClassSeed("a.b.C");
+		TuValueSource.setRunSeed(43L);
+
+		Assert.assertEquals(Long.valueOf(classSeed),
+				TuValueSource.callWithRunSeed(42L, () -> Long.valueOf(TuValueSource.deriveClassSeed("a.b.C"))));
+
+		TestUtil.verifyClass(ObjectTestInvalidBO.class.getName(), 42L);
+		Assert.assertEquals(43L, TuValueSource.getRunSeed());
+	}
+}
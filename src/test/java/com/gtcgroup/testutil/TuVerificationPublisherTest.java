@@ -0,0 +1,258 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gtcgroup.testutil.to.TuClassResultTO;
+import com.gtcgroup.testutil.to.TuOutcomeTO;
+import com.gtcgroup.testutil.to.dependency.ArrayTestInvalidBO;
+import com.gtcgroup.testutil.to.dependency.ArrayTestValidBO;
+import com.gtcgroup.testutil.to.dependency.EnumTestInvalidBO;
+import com.gtcgroup.testutil.to.dependency.EnumTestValidBO;
+import com.gtcgroup.testutil.to.dependency.GrandChildBO;
+import com.gtcgroup.testutil.to.dependency.ObjectTestInvalidBO;
+import com.gtcgroup.testutil.to.dependency.ObjectTestValidBO;
+
+/**
+ * <p>
+ * Test class.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+
+public class TuVerificationPublisherTest {
+
+	/** Records the signals received. */
+	static class RecordingSubscriber implements TuVerificationSubscriber {
+
+		final List<TuClassResultTO> results = new ArrayList<TuClassResultTO>();
+
+		final CountDownLatch terminated = new CountDownLatch(1);
+
+		TuVerificationSubscription subscription;
+
+		Throwable error;
+
+		boolean completed;
+
+		@Override
+		public void onSubscribe(final TuVerificationSubscription verificationSubscription) {
+			this.subscription = verificationSubscription;
+		}
+
+		@Override
+		public synchronized void onNext(final TuClassResultTO result) {
+			this.results.add(result);
+		}
+
+		@Override
+		public void onError(final Throwable throwable) {
+			this.error = throwable;
+			this.terminated.countDown();
+		}
+
+		@Override
+		public void onComplete() {
+			this.completed = true;
+			this.terminated.countDown();
+		}
+	}
+
+	/** The class names, counting those pulled. */
+	static final class CountingClassNames implements Iterable<String> {
+
+		final AtomicInteger pulled = new AtomicInteger();
+
+		final List<String> classNames;
+
+		CountingClassNames(final Class<?>... classes) {
+
+			this.classNames = new ArrayList<String>();
+			for (final Class<?> theClass : classes) {
+				this.classNames.add(theClass.getName());
+			}
+		}
+
+		@Override
+		public Iterator<String> iterator() {
+
+			final Iterator<String> iterator = this.classNames.iterator();
+
+			return new Iterator<String>() {
+
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public String next() {
+					CountingClassNames.this.pulled.incrementAndGet();
+					return iterator.next();
+				}
+			};
+		}
+	}
+
+	@Test
+	public void testStreamOfClassesCompletes() {
+
+		final RecordingSubscriber subscriber = new RecordingSubscriber();
+
+		TuVerificationPublisher.ofClasses(Stream.of(ObjectTestInvalidBO.class, GrandChildBO.class))
+				.subscribe(subscriber);
+		subscriber.subscription.request(Long.MAX_VALUE);
+
+		Assert.assertTrue(subscriber.completed);
+		Assert.assertEquals(2, subscriber.results.size());
+		Assert.assertEquals(ObjectTestInvalidBO.class.getName(), subscriber.results.get(0).getClassName());
+		Assert.assertEquals(2, subscriber.results.get(0).getCount(TuOutcomeTO.Kind.GLITCH));
+		Assert.assertEquals(1, subscriber.subscription.getResults().getClassSkips());
+	}
+
+	@Test
+	public void testDemandBoundsWorkStarted() {
+
+		final CountingClassNames classNames = new CountingClassNames(ObjectTestInvalidBO.class,
+				ObjectTestValidBO.class, ArrayTestValidBO.class);
+		final RecordingSubscriber subscriber = new RecordingSubscriber();
+
+		TuVerificationPublisher.ofClassNames(classNames).subscribe(subscriber);
+
+		Assert.assertEquals(0, classNames.pulled.get());
+
+		subscriber.subscription.request(2);
+
+		Assert.assertEquals(2, classNames.pulled.get());
+		Assert.assertEquals(2, subscriber.results.size());
+		Assert.assertFalse(subscriber.completed);
+
+		subscriber.subscription.request(1);
+
+		Assert.assertTrue(subscriber.completed);
+		Assert.assertEquals(3, subscriber.results.size());
+	}
+
+	@Test
+	public void testCancelUponFirstGlitches() throws InterruptedException {
+
+		final CountingClassNames classNames = new CountingClassNames(ArrayTestValidBO.class,
+				ObjectTestInvalidBO.class, EnumTestValidBO.class, ArrayTestInvalidBO.class, EnumTestInvalidBO.class,
+				ObjectTestValidBO.class);
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		final RecordingSubscriber subscriber = new RecordingSubscriber() {
+
+			@Override
+			public synchronized void onNext(final TuClassResultTO result) {
+
+				super.onNext(result);
+
+				if (0 < result.getCount(TuOutcomeTO.Kind.GLITCH)) {
+					this.subscription.cancel();
+					this.terminated.countDown();
+				}
+			}
+		};
+
+		try {
+			TuVerificationPublisher.ofClassNames(classNames).executor(executor, 2).subscribe(subscriber);
+			subscriber.subscription.request(Long.MAX_VALUE);
+
+			Assert.assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+
+		} finally {
+			executor.shutdown();
+		}
+
+		Assert.assertFalse(subscriber.completed);
+		Assert.assertNull(subscriber.error);
+		Assert.assertTrue(classNames.pulled.get() < classNames.classNames.size());
+		Assert.assertTrue(0 < subscriber.results.get(subscriber.results.size() - 1)
+				.getCount(TuOutcomeTO.Kind.GLITCH));
+	}
+
+	@Test
+	public void testInvalidRequestSignalsError() {
+
+		final RecordingSubscriber subscriber = new RecordingSubscriber();
+
+		TuVerificationPublisher.ofClassNames(Arrays.asList(ObjectTestValidBO.class.getName()))
+				.subscribe(subscriber);
+		subscriber.subscription.request(0);
+
+		Assert.assertTrue(subscriber.error instanceof IllegalArgumentException);
+		Assert.assertTrue(subscriber.results.isEmpty());
+	}
+
+	@Test
+	public void testFailedVerificationSignalsError() throws Exception {
+
+		final TuReporter previous = TestUtil.getReporter();
+		final TuReporter closed = new TuReporter();
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		final RecordingSubscriber subscriber = new RecordingSubscriber();
+
+		closed.close();
+		TestUtil.setReporter(closed);
+
+		try {
+			TuVerificationPublisher.ofClassNames(Arrays.asList(ObjectTestValidBO.class.getName(),
+					ArrayTestValidBO.class.getName(), EnumTestValidBO.class.getName())).executor(executor, 2)
+					.subscribe(subscriber);
+			subscriber.subscription.request(Long.MAX_VALUE);
+
+			Assert.assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+
+		} finally {
+			TestUtil.setReporter(previous);
+			executor.shutdown();
+		}
+
+		Assert.assertFalse(subscriber.completed);
+		Assert.assertTrue(subscriber.error instanceof IllegalStateException);
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * [Licensed per the Open Source "MIT License".]
+ *
+ * Copyright (c) 1999 - 2017 by
+ * Global Technology Consulting Group, Inc. at
+ * http://gtcGroup.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gtcgroup.testutil;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gtcgroup.testutil.to.TuOutcomeTO;
+import com.gtcgroup.testutil.to.dependency.BaseTestBO;
+import com.gtcgroup.testutil.to.dependency.ExcludeGetterBO;
+import com.gtcgroup.testutil.to.dependency.ExcludeMethodPairBySetterBO;
+import com.gtcgroup.testutil.to.dependency.ExcludeMethodPairsByTypeBO;
+import com.gtcgroup.testutil.to.dependency.ObjectTestValidBO;
+import com.gtcgroup.testutil.to.dependency.WithAbstractBO;
+
+/**
+ * <p>
+ * Test class.
+ * </p>
+ * <p style="font-family:Verdana; font-size:10px; font-style:italic">
+ * Copyright (c) 1999 - 2017 by Global Technology Consulting Group, Inc. at
+ * <a href="http://gtcGroup.com">gtcGroup.com </a>.
+ * </p>
+ *
+ * @author MarvinToll@gtcGroup.com
+ * @since v. 6.1
+ */
+
+public class TuVerificationRulesTest {
+
+	@After
+	public void tearDown() {
+		TuVerificationRules.clear();
+	}
+
+	@Test
+	public void testMostSpecificRuleWins() {
+
+		final Map<String, String> declarations = new LinkedHashMap<String, String>();
+		declarations.put("com.acme.**", "subtree");
+		declarations.put("com.acme.order.*", "package");
+		declarations.put("com.acme.order.OrderBO", "exact");
+		declarations.put("org.*.*DTO", "wildcard");
+
+		final TuRuleSetBO<String> rules = TuRuleSetBO.compile(declarations);
+
+		Assert.assertEquals("exact", rules.lookup("com.acme.order.OrderBO"));
+		Assert.assertEquals("package", rules.lookup("com.acme.order.LineBO"));
+		Assert.assertEquals("subtree", rules.lookup("com.acme.order.line.LineBO"));
+		Assert.assertEquals("subtree", rules.lookup("com.acme.CustomerBO"));
+		Assert.assertEquals("wildcard", rules.lookup("org.acme.OrderDTO"));
+		Assert.assertNull(rules.lookup("org.acme.order.OrderDTO"));
+		Assert.assertNull(rules.lookup("com.acmeco.OrderBO"));
+		Assert.assertNull(rules.lookup("int"));
+		Assert.assertTrue(rules.anyMatch("com.acme.order.OrderBO", "subtree"::equals));
+	}
+
+	@Test
+	public void testClassExcluded() {
+
+		TuVerificationRules.excludeClassFromVerification("com.gtcgroup.testutil.to.**", "LEGACY");
+
+		final List<TuOutcomeTO> outcomes = TestUtil.collectOutcomes(ObjectTestValidBO.class.getName());
+
+		Assert.assertEquals(1, outcomes.size());
+		Assert.assertEquals(TuOutcomeTO.Kind.CLASS_SKIP, outcomes.get(0).getKind());
+		Assert.assertTrue(outcomes.get(0).getMessage().contains("LEGACY"));
+	}
+
+	@Test
+	public void testMethodPairsExcluded() {
+
+		TuVerificationRules.excludeMethodPairBySetter(ExcludeMethodPairBySetterBO.class.getName(), "setStrTest");
+		TuVerificationRules.excludeMethodPairsByType(ExcludeGetterBO.class.getName());
+
+		Assert.assertEquals(TuOutcomeTO.Kind.WARNING,
+				findOutcome(ExcludeMethodPairBySetterBO.class.getName(), "setStrTest").getKind());
+		Assert.assertEquals(TuOutcomeTO.Kind.WARNING,
+				findOutcome(ExcludeMethodPairsByTypeBO.class.getName(), "setExcludeGetterBO").getKind());
+	}
+
+	@Test
+	public void testSetterTypeSubstituted() {
+
+		final String className = WithAbstractBO.class.getName();
+
+		Assert.assertEquals(TuOutcomeTO.Kind.WARNING, findOutcome(className, "setBaseTestBO").getKind());
+
+		TuVerificationRules.substituteSetterType(BaseTestBO.class.getName(), ObjectTestValidBO.class.getName());
+
+		Assert.assertEquals(TuOutcomeTO.Kind.VERIFICATION, findOutcome(className, "setBaseTestBO").getKind());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testPatternRequired() {
+
+		TuVerificationRules.excludeMethodPairsByType("");
+	}
+
+	private static TuOutcomeTO findOutcome(final String className, final String setterName) {
+
+		for (final TuOutcomeTO outcome : TestUtil.collectOutcomes(className)) {
+
+			if (setterName.equals(outcome.getSetterName())) {
+				return outcome;
+			}
+		}
+		throw new AssertionError(setterName);
+	}
+}